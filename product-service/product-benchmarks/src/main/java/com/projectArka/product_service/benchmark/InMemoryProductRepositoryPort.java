@@ -0,0 +1,185 @@
+package com.projectArka.product_service.benchmark;
+
+import com.projectArka.product_service.domain.model.CatalogVersion;
+import com.projectArka.product_service.domain.model.PageCursor;
+import com.projectArka.product_service.domain.model.PriceCursor;
+import com.projectArka.product_service.domain.model.PriceFilter;
+import com.projectArka.product_service.domain.model.Product;
+import com.projectArka.product_service.domain.model.ProductPatch;
+import com.projectArka.product_service.domain.model.ProductVersion;
+import com.projectArka.product_service.domain.port.out.ProductRepositoryPort;
+import com.projectArka.product_service.infrastructure.entity.ProductEntity;
+import com.projectArka.product_service.infrastructure.entity.ProductFeatureEntity;
+import com.projectArka.product_service.infrastructure.adapter.out.r2dbc.adapter.ProductFeatureAssembler;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stands in for the R2DBC adapter without a database: rows are kept as entities and go through
+ * the same entity conversion and feature assembly as the real adapter, so the benchmarks measure
+ * the service's own allocations rather than driver I/O.
+ */
+class InMemoryProductRepositoryPort implements ProductRepositoryPort {
+
+    private final Map<UUID, ProductEntity> products = new ConcurrentHashMap<>();
+    private final Map<UUID, List<ProductFeatureEntity>> features = new ConcurrentHashMap<>();
+
+    @Override
+    public Mono<Product> save(Product product) {
+        return Mono.fromSupplier(() -> {
+            Product stored = product.getId() == null
+                    ? product.toBuilder().id(UUID.randomUUID().toString()).build()
+                    : product;
+            ProductEntity entity = ProductEntity.fromDomain(stored);
+            products.put(entity.getId(), entity);
+            List<ProductFeatureEntity> featureEntities = new ArrayList<>();
+            if (stored.getFeatures() != null) {
+                stored.getFeatures().forEach(feature -> {
+                    ProductFeatureEntity featureEntity = ProductFeatureEntity.fromDomain(feature);
+                    featureEntity.setId(UUID.randomUUID());
+                    featureEntity.setProductId(entity.getId());
+                    featureEntities.add(featureEntity);
+                });
+            }
+            features.put(entity.getId(), featureEntities);
+            return assemble(List.of(entity)).get(0);
+        });
+    }
+
+    @Override
+    public Mono<Product> patch(String id, ProductPatch patch) {
+        return findById(id).flatMap(existing -> save(existing.toBuilder()
+                .sku(patch.getSku() != null ? patch.getSku() : existing.getSku())
+                .name(patch.getName() != null ? patch.getName() : existing.getName())
+                .description(patch.getDescription() != null ? patch.getDescription() : existing.getDescription())
+                .price(patch.getPrice() != null ? patch.getPrice() : existing.getPrice())
+                .categoryId(patch.getCategoryId() != null ? patch.getCategoryId() : existing.getCategoryId())
+                .brandId(patch.getBrandId() != null ? patch.getBrandId() : existing.getBrandId())
+                .stock(patch.getStock() != null ? patch.getStock() : existing.getStock())
+                .active(patch.getActive() != null ? patch.getActive() : existing.getActive())
+                .features(patch.getFeatures() != null ? patch.getFeatures() : existing.getFeatures())
+                .build()));
+    }
+
+    @Override
+    public Mono<Product> findById(String id) {
+        return Mono.justOrEmpty(products.get(UUID.fromString(id)))
+                .map(entity -> assemble(List.of(entity)).get(0));
+    }
+
+    @Override
+    public Mono<Product> findBySku(String sku) {
+        return Flux.fromIterable(products.values())
+                .filter(entity -> entity.getSku().equals(sku))
+                .next()
+                .map(entity -> assemble(List.of(entity)).get(0));
+    }
+
+    @Override
+    public Mono<Product> findByName(String name) {
+        return Flux.fromIterable(products.values())
+                .filter(entity -> entity.getName().equals(name))
+                .next()
+                .map(entity -> assemble(List.of(entity)).get(0));
+    }
+
+    @Override
+    public Flux<Product> findAllByIds(Collection<String> ids) {
+        return Flux.defer(() -> Flux.fromIterable(assemble(ids.stream()
+                .map(id -> products.get(UUID.fromString(id)))
+                .filter(Objects::nonNull)
+                .toList())));
+    }
+
+    @Override
+    public Flux<Product> findAllBySkus(Collection<String> skus) {
+        return Flux.defer(() -> {
+            Set<String> wanted = new HashSet<>(skus);
+            return Flux.fromIterable(assemble(products.values().stream()
+                    .filter(entity -> wanted.contains(entity.getSku()))
+                    .toList()));
+        });
+    }
+
+    @Override
+    public Flux<Product> findAll() {
+        return Flux.fromIterable(products.values())
+                .buffer(500)
+                .concatMapIterable(this::assemble);
+    }
+
+    @Override
+    public Flux<Product> findPage(PageCursor after, int limit) {
+        return findAll().take(limit);
+    }
+
+    @Override
+    public Flux<Product> findPageByPrice(PriceFilter filter, PriceCursor after, int limit) {
+        Comparator<ProductEntity> order = Comparator.comparing(ProductEntity::getPrice).thenComparing(ProductEntity::getId);
+        Comparator<ProductEntity> direction = filter.isDescending() ? order.reversed() : order;
+        return Flux.fromIterable(products.values())
+                .filter(entity -> filter.getCategoryId() == null || entity.getCategoryId().toString().equals(filter.getCategoryId()))
+                .filter(entity -> filter.getMinPrice() == null || entity.getPrice().compareTo(filter.getMinPrice()) >= 0)
+                .filter(entity -> filter.getMaxPrice() == null || entity.getPrice().compareTo(filter.getMaxPrice()) <= 0)
+                .filter(entity -> after == null || direction.compare(entity, ProductEntity.builder()
+                        .price(after.getPrice()).id(UUID.fromString(after.getId())).build()) > 0)
+                .sort(direction)
+                .take(limit)
+                .collectList()
+                .flatMapIterable(this::assemble);
+    }
+
+    @Override
+    public Mono<ProductVersion> findVersionById(String id) {
+        return Mono.justOrEmpty(products.get(UUID.fromString(id)))
+                .map(entity -> new ProductVersion(id, entity.getUpdatedAt(), entity.getStock(), entity.getVersion()));
+    }
+
+    @Override
+    public Mono<CatalogVersion> findCatalogVersion() {
+        return Flux.fromIterable(products.values())
+                .map(ProductEntity::getUpdatedAt)
+                .reduce((a, b) -> a.isAfter(b) ? a : b)
+                .map(updatedAt -> CatalogVersion.builder().productsUpdatedAt(updatedAt).build())
+                .defaultIfEmpty(new CatalogVersion());
+    }
+
+    @Override
+    public Mono<Boolean> deleteById(String id) {
+        return Mono.fromSupplier(() -> {
+            features.remove(UUID.fromString(id));
+            return products.remove(UUID.fromString(id)) != null;
+        });
+    }
+
+    @Override
+    public Flux<Product> findConflicting(Collection<String> skus, Collection<String> names) {
+        return Flux.fromIterable(products.values())
+                .filter(entity -> skus.contains(entity.getSku()) || names.contains(entity.getName()))
+                .map(ProductEntity::toDomain);
+    }
+
+    @Override
+    public Flux<Product> insertAll(List<Product> newProducts) {
+        return Flux.fromIterable(newProducts).concatMap(this::save);
+    }
+
+    private List<Product> assemble(List<ProductEntity> entities) {
+        List<ProductFeatureEntity> featureEntities = new ArrayList<>();
+        for (ProductEntity entity : entities) {
+            featureEntities.addAll(features.getOrDefault(entity.getId(), List.of()));
+        }
+        return ProductFeatureAssembler.assemble(entities, featureEntities);
+    }
+}
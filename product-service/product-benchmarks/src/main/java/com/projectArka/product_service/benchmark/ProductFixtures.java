@@ -0,0 +1,90 @@
+package com.projectArka.product_service.benchmark;
+
+import com.projectArka.product_service.application.dto.CreateProductRequestDTO;
+import com.projectArka.product_service.application.dto.ProductFeatureDTO;
+import com.projectArka.product_service.domain.model.Product;
+import com.projectArka.product_service.domain.model.ProductFeature;
+import com.projectArka.product_service.infrastructure.entity.ProductEntity;
+import com.projectArka.product_service.infrastructure.entity.ProductFeatureEntity;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+final class ProductFixtures {
+
+    static final int FEATURES_PER_PRODUCT = 5;
+
+    private static final UUID CATEGORY_ID = UUID.randomUUID();
+    private static final UUID BRAND_ID = UUID.randomUUID();
+
+    private ProductFixtures() {
+    }
+
+    static Product product(int i) {
+        List<ProductFeature> features = new ArrayList<>(FEATURES_PER_PRODUCT);
+        for (int f = 0; f < FEATURES_PER_PRODUCT; f++) {
+            features.add(ProductFeature.builder().name("Feature " + f).value("Value " + i + "-" + f).build());
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return Product.builder()
+                .id(UUID.randomUUID().toString())
+                .sku("SKU-" + i)
+                .name("Product " + i)
+                .description("Benchmark product number " + i)
+                .price(BigDecimal.valueOf(1999, 2))
+                .categoryId(CATEGORY_ID)
+                .brandId(BRAND_ID)
+                .stock(100)
+                .active(true)
+                .createdAt(now)
+                .updatedAt(now)
+                .features(features)
+                .build();
+    }
+
+    static List<Product> products(int count) {
+        List<Product> products = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            products.add(product(i));
+        }
+        return products;
+    }
+
+    static CreateProductRequestDTO createRequest(int i) {
+        List<ProductFeatureDTO> features = new ArrayList<>(FEATURES_PER_PRODUCT);
+        for (int f = 0; f < FEATURES_PER_PRODUCT; f++) {
+            ProductFeatureDTO feature = new ProductFeatureDTO();
+            feature.setName("Feature " + f);
+            feature.setValue("Value " + i + "-" + f);
+            features.add(feature);
+        }
+        return CreateProductRequestDTO.builder()
+                .sku("SKU-" + i)
+                .name("Product " + i)
+                .description("Benchmark product number " + i)
+                .price(BigDecimal.valueOf(1999, 2))
+                .categoryId(CATEGORY_ID)
+                .brandId(BRAND_ID)
+                .stock(100)
+                .features(features)
+                .build();
+    }
+
+    static List<ProductFeatureEntity> featureEntities(List<ProductEntity> productEntities) {
+        List<ProductFeatureEntity> featureEntities = new ArrayList<>(productEntities.size() * FEATURES_PER_PRODUCT);
+        for (ProductEntity productEntity : productEntities) {
+            for (int f = 0; f < FEATURES_PER_PRODUCT; f++) {
+                featureEntities.add(ProductFeatureEntity.builder()
+                        .id(UUID.randomUUID())
+                        .productId(productEntity.getId())
+                        .name("Feature " + f)
+                        .value("Value " + f)
+                        .build());
+            }
+        }
+        return featureEntities;
+    }
+}
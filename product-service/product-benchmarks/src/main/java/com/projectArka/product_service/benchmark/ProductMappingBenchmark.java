@@ -0,0 +1,91 @@
+package com.projectArka.product_service.benchmark;
+
+import com.projectArka.product_service.application.dto.CreateProductRequestDTO;
+import com.projectArka.product_service.application.dto.ProductResponseDTO;
+import com.projectArka.product_service.application.mapper.ProductFeatureMapperImpl;
+import com.projectArka.product_service.application.mapper.ProductMapper;
+import com.projectArka.product_service.application.mapper.ProductMapperImpl;
+import com.projectArka.product_service.domain.model.Product;
+import com.projectArka.product_service.infrastructure.adapter.out.r2dbc.adapter.ProductFeatureAssembler;
+import com.projectArka.product_service.infrastructure.entity.ProductEntity;
+import com.projectArka.product_service.infrastructure.entity.ProductFeatureEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductMappingBenchmark {
+
+    @Param({"500"})
+    private int batchSize;
+
+    private AnnotationConfigApplicationContext context;
+    private ProductMapper productMapper;
+    private Product product;
+    private CreateProductRequestDTO createRequest;
+    private ProductEntity productEntity;
+    private List<ProductEntity> productEntities;
+    private List<ProductFeatureEntity> featureEntities;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new AnnotationConfigApplicationContext(ProductMapperImpl.class, ProductFeatureMapperImpl.class);
+        productMapper = context.getBean(ProductMapper.class);
+        product = ProductFixtures.product(1);
+        createRequest = ProductFixtures.createRequest(1);
+        productEntity = ProductEntity.fromDomain(product);
+        productEntities = ProductFixtures.products(batchSize).stream()
+                .map(ProductEntity::fromDomain)
+                .toList();
+        featureEntities = ProductFixtures.featureEntities(productEntities);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ProductResponseDTO mapperToDTO() {
+        return productMapper.toDTO(product);
+    }
+
+    @Benchmark
+    public Product mapperToEntity() {
+        return productMapper.toEntity(createRequest);
+    }
+
+    @Benchmark
+    public ProductEntity entityFromDomain() {
+        return ProductEntity.fromDomain(product);
+    }
+
+    @Benchmark
+    public Product entityToDomain() {
+        return productEntity.toDomain();
+    }
+
+    @Benchmark
+    public List<Product> assembleFeatures() {
+        return ProductFeatureAssembler.assemble(productEntities, featureEntities);
+    }
+}
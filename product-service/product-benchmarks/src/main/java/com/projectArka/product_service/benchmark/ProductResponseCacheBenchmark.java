@@ -0,0 +1,118 @@
+package com.projectArka.product_service.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.projectArka.product_service.application.mapper.ProductFeatureMapperImpl;
+import com.projectArka.product_service.application.mapper.ProductMapper;
+import com.projectArka.product_service.application.mapper.ProductMapperImpl;
+import com.projectArka.product_service.application.usecase.ProductUseCase;
+import com.projectArka.product_service.domain.model.Product;
+import com.projectArka.product_service.infrastructure.adapter.in.webflux.ProductController;
+import com.projectArka.product_service.infrastructure.adapter.out.cache.ProductJsonCache;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.web.reactive.config.EnableWebFlux;
+import org.springframework.web.server.adapter.WebHttpHandlerBuilder;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Requests per second of GET /api/products/{id} over a local HTTP connection, through the real
+ * controller and WebFlux stack, with and without the JSON cache. Run through BenchmarkRunner for
+ * gc.alloc.rate.norm as well; client and server share the JVM, so the allocation per request
+ * includes the client's, which is the same in both runs. With gzip the client asks for the
+ * precompressed body, which only the cached run serves.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class ProductResponseCacheBenchmark {
+
+    @Param({"false", "true"})
+    private boolean cached;
+
+    @Param({"false", "true"})
+    private boolean gzip;
+
+    private AnnotationConfigApplicationContext context;
+    private DisposableServer server;
+    private HttpClient client;
+    private String uri;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        InMemoryProductRepositoryPort productRepositoryPort = new InMemoryProductRepositoryPort();
+        ProductUseCase productUseCase = new ProductUseCase(productRepositoryPort);
+        Product product = productRepositoryPort.save(ProductFixtures.product(1)).block();
+
+        ProductJsonCache cache = new ProductJsonCache(new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS), PooledByteBufAllocator.DEFAULT, 64L * 1024 * 1024, true);
+        StaticListableBeanFactory cacheProvider = new StaticListableBeanFactory(cached ? Map.of("productJsonCache", cache) : Map.of());
+
+        context = new AnnotationConfigApplicationContext();
+        context.register(WebConfig.class, ProductMapperImpl.class, ProductFeatureMapperImpl.class);
+        context.registerBean(ProductController.class, () -> new ProductController(productUseCase, productUseCase,
+                productUseCase, productUseCase, null, context.getBean(ProductMapper.class),
+                cacheProvider.getBeanProvider(ProductJsonCache.class)));
+        context.refresh();
+
+        server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .handle(new ReactorHttpHandlerAdapter(WebHttpHandlerBuilder.applicationContext(context).build()))
+                .bindNow();
+        client = HttpClient.create()
+                .baseUrl("http://127.0.0.1:" + server.port())
+                .headers(headers -> {
+                    if (gzip) {
+                        headers.set("Accept-Encoding", "gzip");
+                    }
+                });
+        uri = "/api/products/" + product.getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.disposeNow();
+        context.close();
+    }
+
+    @Benchmark
+    public int getProductById() {
+        return client.get()
+                .uri(uri)
+                .responseSingle((response, body) -> body.asByteArray().map(bytes -> bytes.length))
+                .block();
+    }
+
+    @Configuration
+    @EnableWebFlux
+    static class WebConfig {
+    }
+}
@@ -0,0 +1,56 @@
+package com.projectArka.product_service.benchmark;
+
+import com.projectArka.product_service.application.usecase.ProductUseCase;
+import com.projectArka.product_service.domain.model.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductUseCaseBenchmark {
+
+    @Param({"1000"})
+    private int catalogSize;
+
+    private InMemoryProductRepositoryPort productRepositoryPort;
+    private ProductUseCase productUseCase;
+    private Product newProduct;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        productRepositoryPort = new InMemoryProductRepositoryPort();
+        productUseCase = new ProductUseCase(productRepositoryPort);
+        ProductFixtures.products(catalogSize).forEach(product -> productRepositoryPort.save(product).block());
+        newProduct = ProductFixtures.product(catalogSize).toBuilder().id(null).build();
+    }
+
+    // The created row is removed again so the catalog stays at catalogSize across iterations.
+    @Benchmark
+    public Product createProduct() {
+        return productUseCase.createProduct(newProduct)
+                .flatMap(product -> productRepositoryPort.deleteById(product.getId()).thenReturn(product))
+                .block();
+    }
+
+    @Benchmark
+    public List<Product> getAllProducts() {
+        return productUseCase.getAllProducts().collectList().block();
+    }
+}
@@ -0,0 +1,17 @@
+package com.projectArka.product_service.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchGetProductsRequestDTO {
+    private List<String> ids;
+    private List<String> skus;
+}
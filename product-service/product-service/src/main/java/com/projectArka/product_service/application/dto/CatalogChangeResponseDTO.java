@@ -0,0 +1,20 @@
+package com.projectArka.product_service.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogChangeResponseDTO {
+    private long sequence;
+    private String entityType;
+    private String entityId;
+    private String type;
+    private LocalDateTime changedAt;
+}
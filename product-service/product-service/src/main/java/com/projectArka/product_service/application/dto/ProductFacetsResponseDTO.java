@@ -0,0 +1,21 @@
+package com.projectArka.product_service.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductFacetsResponseDTO {
+    private int total;
+    private List<String> productIds;
+    private Map<String, Map<String, Integer>> features;
+    private Map<String, Integer> brands;
+    private Map<String, Integer> categories;
+}
@@ -0,0 +1,18 @@
+package com.projectArka.product_service.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImportResultDTO {
+    private long index;
+    private String sku;
+    private String status;
+    private String productId;
+    private String message;
+}
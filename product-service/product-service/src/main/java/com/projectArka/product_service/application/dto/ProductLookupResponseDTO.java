@@ -0,0 +1,21 @@
+package com.projectArka.product_service.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductLookupResponseDTO {
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String id;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String sku;
+    private boolean found;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private ProductResponseDTO product;
+}
@@ -1,5 +1,6 @@
 package com.projectArka.product_service.application.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -25,5 +26,9 @@ public class ProductResponseDTO {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private List<ProductFeatureDTO> features;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private BrandResponseDTO brand;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private CategoryResponseDTO category;
 
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.projectArka.product_service.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockReservationResponseDTO {
+    private String id;
+    private String productId;
+    private int quantity;
+    private String status;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -14,16 +14,19 @@ public interface BrandMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Brand toEntity(CreateBrandRequestDTO createBrandRequestDTO);
 
     BrandResponseDTO toDTO(Brand brand);
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Brand toEntity(UpdateBrandRequestDTO updateBrandRequestDTO);
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     void updateEntity(UpdateBrandRequestDTO updateBrandRequestDTO, @MappingTarget Brand brand);
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.projectArka.product_service.application.mapper;
+
+import com.projectArka.product_service.application.dto.CatalogChangeResponseDTO;
+import com.projectArka.product_service.domain.model.CatalogChange;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface CatalogChangeMapper {
+
+    CatalogChangeResponseDTO toDTO(CatalogChange change);
+}
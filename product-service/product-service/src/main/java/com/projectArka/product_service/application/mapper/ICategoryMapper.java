@@ -14,6 +14,7 @@ public interface CategoryMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Category toEntity(CreateCategoryRequestDTO createCategoryRequestDTO);
 
     CategoryResponseDTO toDTO(Category category);
@@ -21,10 +22,12 @@ public interface CategoryMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Category toEntity(UpdateCategoryRequestDTO updateCategoryRequestDTO);
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     void updateEntity(UpdateCategoryRequestDTO updateCategoryRequestDTO, @MappingTarget Category category);
 }
\ No newline at end of file
@@ -1,9 +1,19 @@
 package com.projectArka.product_service.application.mapper;
 
+import com.projectArka.product_service.application.dto.BrandResponseDTO;
+import com.projectArka.product_service.application.dto.CategoryResponseDTO;
 import com.projectArka.product_service.application.dto.CreateProductRequestDTO;
+import com.projectArka.product_service.application.dto.ProductFacetsResponseDTO;
+import com.projectArka.product_service.application.dto.ProductImportResultDTO;
 import com.projectArka.product_service.application.dto.ProductResponseDTO;
 import com.projectArka.product_service.application.dto.UpdateProductRequestDTO;
+import com.projectArka.product_service.domain.model.Brand;
+import com.projectArka.product_service.domain.model.Category;
 import com.projectArka.product_service.domain.model.Product;
+import com.projectArka.product_service.domain.model.ProductExpansion;
+import com.projectArka.product_service.domain.model.ProductFacets;
+import com.projectArka.product_service.domain.model.ProductImportResult;
+import com.projectArka.product_service.domain.model.ProductPatch;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -16,18 +26,40 @@ public interface ProductMapper {
     @Mapping(target = "active", constant = "true")
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Product toEntity(CreateProductRequestDTO requestDTO);
 
+    @Mapping(target = "brand", ignore = true)
+    @Mapping(target = "category", ignore = true)
     ProductResponseDTO toDTO(Product product);
 
+    BrandResponseDTO toDTO(Brand brand);
+
+    CategoryResponseDTO toDTO(Category category);
+
+    default ProductResponseDTO toDTO(Product product, ProductExpansion expansion) {
+        ProductResponseDTO dto = toDTO(product);
+        if (dto != null && expansion != null) {
+            dto.setBrand(toDTO(expansion.brandOf(product)));
+            dto.setCategory(toDTO(expansion.categoryOf(product)));
+        }
+        return dto;
+    }
+
+    ProductImportResultDTO toDTO(ProductImportResult importResult);
+
+    ProductFacetsResponseDTO toDTO(ProductFacets facets);
+
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Product toEntity(UpdateProductRequestDTO updateRequestDTO);
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "sku", nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     @Mapping(target = "price", nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     @Mapping(target = "categoryId", nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
@@ -36,4 +68,7 @@ public interface ProductMapper {
     @Mapping(target = "active", nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     @Mapping(target = "features", nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     void updateEntity(UpdateProductRequestDTO updateRequestDTO, @MappingTarget Product product);
+
+    @Mapping(target = "version", ignore = true)
+    ProductPatch toPatch(UpdateProductRequestDTO updateRequestDTO);
 }
\ No newline at end of file
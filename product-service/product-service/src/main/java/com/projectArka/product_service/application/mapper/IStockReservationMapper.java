@@ -0,0 +1,11 @@
+package com.projectArka.product_service.application.mapper;
+
+import com.projectArka.product_service.application.dto.StockReservationResponseDTO;
+import com.projectArka.product_service.domain.model.StockReservation;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface StockReservationMapper {
+
+    StockReservationResponseDTO toDTO(StockReservation reservation);
+}
@@ -1,7 +1,8 @@
 package com.projectArka.product_service.application.usecase;
 
-import com.projectArka.product_service.domain.exception.BrandAlreadyExistsException;
 import com.projectArka.product_service.domain.model.Brand;
+import com.projectArka.product_service.domain.model.CursorPage;
+import com.projectArka.product_service.domain.model.PageCursor;
 import com.projectArka.product_service.domain.port.in.ICreateBrandPort;
 import com.projectArka.product_service.domain.port.in.IDeleteBrandPort;
 import com.projectArka.product_service.domain.port.in.IGetBrandPort;
@@ -25,17 +26,11 @@ public class BrandUseCaseIII implements ICreateBrandPort, IGetBrandPort, IUpdate
 
     @Override
     public Mono<Brand> createBrand(Brand brand) {
-        return brandRepositoryPort.findByName(brand.getName())
-                .flatMap(existingBrand ->
-                        Mono.<Brand>error(new BrandAlreadyExistsException("There is already a brand with the name: " + brand.getName()))
-                )
-                .switchIfEmpty(
-                        Mono.defer(() -> brandRepositoryPort.save(Brand.builder()
-                                .name(brand.getName())
-                                .createdAt(LocalDateTime.now())
-                                .updatedAt(LocalDateTime.now())
-                                .build()))
-                );
+        return brandRepositoryPort.save(Brand.builder()
+                .name(brand.getName())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
     }
 
     @Override
@@ -53,6 +48,12 @@ public class BrandUseCaseIII implements ICreateBrandPort, IGetBrandPort, IUpdate
         return brandRepositoryPort.findAll();
     }
 
+    @Override
+    public Mono<CursorPage<Brand>> getBrandPage(String cursor, int limit) {
+        return CursorPagination.fetch(cursor, limit, brandRepositoryPort::findPage,
+                brand -> PageCursor.of(brand.getCreatedAt(), brand.getId()));
+    }
+
     @Override
     public Mono<Brand> updateBrand(Brand brand) {
         return brandRepositoryPort.save(brand);
@@ -0,0 +1,110 @@
+package com.projectArka.product_service.application.usecase;
+
+import com.projectArka.product_service.domain.exception.ChangeFeedExpiredException;
+import com.projectArka.product_service.domain.model.CatalogChange;
+import com.projectArka.product_service.domain.port.in.IStreamCatalogChangesPort;
+import com.projectArka.product_service.domain.port.out.CatalogChangeRepositoryPort;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tails the catalog change outbox for one consumer, polling for the changes after the last one
+ * delivered. Sequence numbers are taken before the writing transaction commits, so a missing
+ * number usually belongs to a write that is still in flight: the feed stops in front of it until
+ * it shows up, or until the change after it is older than {@link #GAP_TIMEOUT}, in which case the
+ * write is taken as rolled back. Changes are stamped with the database clock and their age is
+ * measured against it, so the clocks of the writing and reading instances do not matter.
+ */
+@Service
+public class CatalogChangeFeedUseCase implements IStreamCatalogChangesPort {
+
+    static final int BATCH_SIZE = 500;
+    static final Duration POLL_INTERVAL = Duration.ofSeconds(1);
+    static final Duration GAP_TIMEOUT = Duration.ofSeconds(10);
+
+    private final CatalogChangeRepositoryPort catalogChangeRepositoryPort;
+
+    public CatalogChangeFeedUseCase(CatalogChangeRepositoryPort catalogChangeRepositoryPort) {
+        this.catalogChangeRepositoryPort = catalogChangeRepositoryPort;
+    }
+
+    @Override
+    public Flux<CatalogChange> streamChanges(Long after) {
+        if (after != null && after < 0) {
+            return Flux.error(new IllegalArgumentException("The change sequence must not be negative"));
+        }
+        Mono<Long> start = after != null ? Mono.just(after) : catalogChangeRepositoryPort.findLatestSequence();
+        return start.zipWith(catalogChangeRepositoryPort.findPurgedSequence().defaultIfEmpty(0L))
+                .flatMapMany(positions -> positions.getT1() < positions.getT2()
+                        ? Flux.error(new ChangeFeedExpiredException("The changes after " + positions.getT1()
+                                + " are no longer available, the oldest position to resume from is " + positions.getT2()))
+                        : tail(new Cursor(positions.getT1())));
+    }
+
+    private Flux<CatalogChange> tail(Cursor cursor) {
+        return Flux.interval(Duration.ZERO, POLL_INTERVAL)
+                .onBackpressureDrop()
+                .concatMap(tick -> drain(cursor), 1);
+    }
+
+    // Keeps reading full batches without waiting for the next poll while the consumer catches up.
+    private Flux<CatalogChange> drain(Cursor cursor) {
+        return catalogChangeRepositoryPort.findAfter(cursor.position, BATCH_SIZE)
+                .collectList()
+                .flatMapMany(changes -> advance(cursor, changes).flatMapMany(ready -> {
+                    Flux<CatalogChange> delivered = Flux.fromIterable(ready);
+                    if (changes.size() == BATCH_SIZE && ready.size() == changes.size()) {
+                        return delivered.concatWith(Flux.defer(() -> drain(cursor)));
+                    }
+                    return delivered;
+                }));
+    }
+
+    // Only a gap needs the database time, so contiguous batches skip the query.
+    private Mono<List<CatalogChange>> advance(Cursor cursor, List<CatalogChange> changes) {
+        if (!cursor.hasGap(changes)) {
+            return Mono.just(cursor.advance(changes, null));
+        }
+        return catalogChangeRepositoryPort.findCurrentTime()
+                .map(now -> cursor.advance(changes, now.minus(GAP_TIMEOUT)));
+    }
+
+    private static final class Cursor {
+
+        private long position;
+
+        private Cursor(long position) {
+            this.position = position;
+        }
+
+        boolean hasGap(List<CatalogChange> changes) {
+            long expected = position + 1;
+            for (CatalogChange change : changes) {
+                if (change.getSequence() != expected) {
+                    return true;
+                }
+                expected++;
+            }
+            return false;
+        }
+
+        // Settled is only read at a gap, changes stamped before it count as rolled back.
+        List<CatalogChange> advance(List<CatalogChange> changes, LocalDateTime settled) {
+            List<CatalogChange> ready = new ArrayList<>(changes.size());
+            for (CatalogChange change : changes) {
+                if (change.getSequence() != position + 1 && change.getChangedAt().isAfter(settled)) {
+                    break;
+                }
+                position = change.getSequence();
+                ready.add(change);
+            }
+            return ready;
+        }
+    }
+}
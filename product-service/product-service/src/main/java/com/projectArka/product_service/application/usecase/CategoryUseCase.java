@@ -1,7 +1,8 @@
 package com.projectArka.product_service.application.usecase;
 
-import com.projectArka.product_service.domain.exception.CategoryAlreadyExistsException;
 import com.projectArka.product_service.domain.model.Category;
+import com.projectArka.product_service.domain.model.CursorPage;
+import com.projectArka.product_service.domain.model.PageCursor;
 import com.projectArka.product_service.domain.port.in.ICreateCategoryPort;
 import com.projectArka.product_service.domain.port.in.IDeleteCategoryPort;
 import com.projectArka.product_service.domain.port.in.IGetCategoryPort;
@@ -29,18 +30,12 @@ public class CategoryUseCaseIIII implements ICreateCategoryPort, IGetCategoryPor
             return Mono.error(new IllegalArgumentException("The new category must not have an ID"));
         }
 
-        return categoryRepositoryPort.findByName(category.getName())
-                .flatMap(existingCategory ->
-                        Mono.<Category>error(new CategoryAlreadyExistsException("Category with the name already exists: " + category.getName()))
-                )
-                .switchIfEmpty(
-                        Mono.defer(() -> categoryRepositoryPort.save(Category.builder()
-                                .name(category.getName())
-                                .description(category.getDescription())
-                                .createdAt(LocalDateTime.now())
-                                .updatedAt(LocalDateTime.now())
-                                .build()))
-                );
+        return categoryRepositoryPort.save(Category.builder()
+                .name(category.getName())
+                .description(category.getDescription())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
     }
 
     @Override
@@ -63,6 +58,12 @@ public class CategoryUseCaseIIII implements ICreateCategoryPort, IGetCategoryPor
         return categoryRepositoryPort.findByName(name);
     }
 
+    @Override
+    public Mono<CursorPage<Category>> getCategoryPage(String cursor, int limit) {
+        return CursorPagination.fetch(cursor, limit, categoryRepositoryPort::findPage,
+                category -> PageCursor.of(category.getCreatedAt(), category.getId()));
+    }
+
     @Override
     public Mono<Category> updateCategory(Category category) {
         return categoryRepositoryPort.save(category);
@@ -0,0 +1,52 @@
+package com.projectArka.product_service.application.usecase;
+
+import com.projectArka.product_service.domain.model.CursorPage;
+import com.projectArka.product_service.domain.model.PageCursor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+final class CursorPagination {
+
+    static final int MAX_LIMIT = 100;
+
+    private CursorPagination() {
+    }
+
+    static <T> Mono<CursorPage<T>> fetch(String cursor, int limit,
+                                         BiFunction<PageCursor, Integer, Flux<T>> query,
+                                         Function<T, PageCursor> cursorOf) {
+        return fetch(cursor, limit, PageCursor::decode, query, item -> cursorOf.apply(item).encode());
+    }
+
+    static <C, T> Mono<CursorPage<T>> fetch(String cursor, int limit,
+                                            Function<String, C> decoder,
+                                            BiFunction<C, Integer, Flux<T>> query,
+                                            Function<T, String> encodedCursorOf) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            return Mono.error(new IllegalArgumentException("The page limit must be between 1 and " + MAX_LIMIT));
+        }
+        C after;
+        try {
+            after = cursor != null && !cursor.isBlank() ? decoder.apply(cursor) : null;
+        } catch (IllegalArgumentException e) {
+            return Mono.error(e);
+        }
+
+        return query.apply(after, limit + 1)
+                .collectList()
+                .map(rows -> {
+                    boolean hasMore = rows.size() > limit;
+                    List<T> items = hasMore ? rows.subList(0, limit) : rows;
+                    String nextCursor = hasMore ? encodedCursorOf.apply(items.get(items.size() - 1)) : null;
+                    return CursorPage.<T>builder()
+                            .items(items)
+                            .limit(limit)
+                            .nextCursor(nextCursor)
+                            .build();
+                });
+    }
+}
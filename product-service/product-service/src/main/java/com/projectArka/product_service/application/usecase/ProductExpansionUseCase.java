@@ -0,0 +1,54 @@
+package com.projectArka.product_service.application.usecase;
+
+import com.projectArka.product_service.domain.model.Brand;
+import com.projectArka.product_service.domain.model.Category;
+import com.projectArka.product_service.domain.model.Product;
+import com.projectArka.product_service.domain.model.ProductExpansion;
+import com.projectArka.product_service.domain.port.in.IExpandProductsPort;
+import com.projectArka.product_service.domain.port.out.BrandRepositoryPort;
+import com.projectArka.product_service.domain.port.out.CategoryRepositoryPort;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class ProductExpansionUseCase implements IExpandProductsPort {
+
+    private final BrandRepositoryPort brandRepositoryPort;
+    private final CategoryRepositoryPort categoryRepositoryPort;
+
+    public ProductExpansionUseCase(BrandRepositoryPort brandRepositoryPort, CategoryRepositoryPort categoryRepositoryPort) {
+        this.brandRepositoryPort = brandRepositoryPort;
+        this.categoryRepositoryPort = categoryRepositoryPort;
+    }
+
+    @Override
+    public Mono<ProductExpansion> expandProducts(Collection<Product> products, boolean brands, boolean categories) {
+        Mono<Map<String, Brand>> brandsById = brands
+                ? brandRepositoryPort.findAllByIds(distinctIds(products, Product::getBrandId)).collectMap(Brand::getId)
+                : Mono.just(Map.of());
+        Mono<Map<String, Category>> categoriesById = categories
+                ? categoryRepositoryPort.findAllByIds(distinctIds(products, Product::getCategoryId)).collectMap(Category::getId)
+                : Mono.just(Map.of());
+        return Mono.zip(brandsById, categoriesById)
+                .map(found -> ProductExpansion.builder()
+                        .brands(found.getT1())
+                        .categories(found.getT2())
+                        .build());
+    }
+
+    private static Set<String> distinctIds(Collection<Product> products, Function<Product, UUID> idOf) {
+        return products.stream()
+                .map(idOf)
+                .filter(Objects::nonNull)
+                .map(UUID::toString)
+                .collect(Collectors.toSet());
+    }
+}
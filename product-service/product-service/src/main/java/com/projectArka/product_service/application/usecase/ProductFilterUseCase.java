@@ -0,0 +1,28 @@
+package com.projectArka.product_service.application.usecase;
+
+import com.projectArka.product_service.domain.model.ProductFacets;
+import com.projectArka.product_service.domain.model.ProductFilter;
+import com.projectArka.product_service.domain.port.in.IFilterProductsPort;
+import com.projectArka.product_service.domain.port.out.ProductFacetPort;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Service
+public class ProductFilterUseCase implements IFilterProductsPort {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final ProductFacetPort productFacetPort;
+
+    public ProductFilterUseCase(ProductFacetPort productFacetPort) {
+        this.productFacetPort = productFacetPort;
+    }
+
+    @Override
+    public Mono<ProductFacets> filterProducts(ProductFilter filter, int limit) {
+        if (limit < 0 || limit > MAX_LIMIT) {
+            return Mono.error(new IllegalArgumentException("The filter limit must be between 0 and " + MAX_LIMIT));
+        }
+        return productFacetPort.filter(filter, limit);
+    }
+}
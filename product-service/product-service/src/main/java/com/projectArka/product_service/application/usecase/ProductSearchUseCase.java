@@ -0,0 +1,44 @@
+package com.projectArka.product_service.application.usecase;
+
+import com.projectArka.product_service.domain.model.Product;
+import com.projectArka.product_service.domain.model.ProductSearchHit;
+import com.projectArka.product_service.domain.port.in.ISearchProductsPort;
+import com.projectArka.product_service.domain.port.out.ProductRepositoryPort;
+import com.projectArka.product_service.domain.port.out.ProductSearchPort;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.util.Objects;
+
+@Service
+public class ProductSearchUseCase implements ISearchProductsPort {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final ProductSearchPort productSearchPort;
+    private final ProductRepositoryPort productRepositoryPort;
+
+    public ProductSearchUseCase(ProductSearchPort productSearchPort, ProductRepositoryPort productRepositoryPort) {
+        this.productSearchPort = productSearchPort;
+        this.productRepositoryPort = productRepositoryPort;
+    }
+
+    @Override
+    public Flux<Product> searchProducts(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            return Flux.error(new IllegalArgumentException("The search query must not be empty"));
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            return Flux.error(new IllegalArgumentException("The search limit must be between 1 and " + MAX_LIMIT));
+        }
+        return productSearchPort.search(query, limit)
+                .map(ProductSearchHit::getProductId)
+                .collectList()
+                .flatMapMany(ids -> productRepositoryPort.findAllByIds(ids)
+                        .collectMap(Product::getId)
+                        .flatMapIterable(found -> ids.stream()
+                                .map(found::get)
+                                .filter(Objects::nonNull)
+                                .toList()));
+    }
+}
@@ -1,10 +1,21 @@
 package com.projectArka.product_service.application.usecase;
 
-import com.projectArka.product_service.domain.exception.ProductAlreadyExistsException;
+import com.projectArka.product_service.domain.exception.VersionConflictException;
+import com.projectArka.product_service.domain.model.CatalogVersion;
+import com.projectArka.product_service.domain.model.CursorPage;
+import com.projectArka.product_service.domain.model.PageCursor;
+import com.projectArka.product_service.domain.model.PriceCursor;
+import com.projectArka.product_service.domain.model.PriceFilter;
 import com.projectArka.product_service.domain.model.Product;
+import com.projectArka.product_service.domain.model.ProductImportItem;
+import com.projectArka.product_service.domain.model.ProductImportResult;
+import com.projectArka.product_service.domain.model.ProductLookup;
+import com.projectArka.product_service.domain.model.ProductPatch;
+import com.projectArka.product_service.domain.model.ProductVersion;
 import com.projectArka.product_service.domain.port.in.ICreateProductPort;
 import com.projectArka.product_service.domain.port.in.IDeleteProductPort;
 import com.projectArka.product_service.domain.port.in.IGetProductPort;
+import com.projectArka.product_service.domain.port.in.IImportProductsPort;
 import com.projectArka.product_service.domain.port.in.IUpdateProductPort;
 import com.projectArka.product_service.domain.port.out.ProductRepositoryPort;
 import org.springframework.stereotype.Service;
@@ -12,10 +23,25 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 
 @Service
-public class ProductUseCaseIIII implements ICreateProductPort, IGetProductPort, IUpdateProductPort, IDeleteProductPort {
+public class ProductUseCaseIIII implements ICreateProductPort, IGetProductPort, IUpdateProductPort, IDeleteProductPort, IImportProductsPort {
+
+    private static final int IMPORT_CHUNK_SIZE = 500;
+    private static final int MAX_BATCH_SIZE = 100;
+    private static final int MAX_STOCK_MERGE_ATTEMPTS = 3;
 
     private final ProductRepositoryPort productRepositoryPort;
 
@@ -29,32 +55,7 @@ public class ProductUseCaseIIII implements ICreateProductPort, IGetProductPort,
             return Mono.error(new IllegalArgumentException("New product must not have ID"));
         }
 
-        return productRepositoryPort.findByName(product.getName())
-                .flatMap(existing -> Mono.<Product>error(new ProductAlreadyExistsException(
-                        "Product with the name already exists: " + product.getName(), "name"
-                )))
-                .switchIfEmpty(
-                        productRepositoryPort.findBySku(product.getSku())
-                                .flatMap(existing -> Mono.<Product>error(new ProductAlreadyExistsException(
-                                        "Product with the SKU already exists: " + product.getSku(), "sku"
-                                )))
-                )
-                .switchIfEmpty(Mono.defer(() -> {
-                    Product newProduct = Product.builder()
-                            .sku(product.getSku())
-                            .name(product.getName())
-                            .description(product.getDescription())
-                            .price(product.getPrice())
-                            .categoryId(product.getCategoryId())
-                            .brandId(product.getBrandId())
-                            .stock(product.getStock())
-                            .active(true)
-                            .createdAt(LocalDateTime.now())
-                            .updatedAt(LocalDateTime.now())
-                            .features(product.getFeatures())
-                            .build();
-                    return productRepositoryPort.save(newProduct);
-                }));
+        return productRepositoryPort.save(newProduct(product));
     }
 
     @Override
@@ -72,18 +73,237 @@ public class ProductUseCaseIIII implements ICreateProductPort, IGetProductPort,
         return productRepositoryPort.findByName(name);
     }
 
+    @Override
+    public Flux<ProductLookup> getProductsByIds(List<UUID> ids) {
+        List<String> keys = ids.stream()
+                .map(UUID::toString)
+                .toList();
+        return lookup(keys, productRepositoryPort::findAllByIds, Product::getId);
+    }
+
+    @Override
+    public Flux<ProductLookup> getProductsBySkus(List<String> skus) {
+        return lookup(skus, productRepositoryPort::findAllBySkus, Product::getSku);
+    }
+
     @Override
     public Flux<Product> getAllProducts() {
         return productRepositoryPort.findAll();
     }
 
     @Override
-    public Mono<Product> updateProduct(Product product) {
-        return productRepositoryPort.save(product);
+    public Mono<CursorPage<Product>> getProductPage(String cursor, int limit) {
+        return CursorPagination.fetch(cursor, limit, productRepositoryPort::findPage,
+                product -> PageCursor.of(product.getCreatedAt(), product.getId()));
+    }
+
+    @Override
+    public Mono<CursorPage<Product>> getProductPageByPrice(PriceFilter filter, String cursor, int limit) {
+        if ((filter.getMinPrice() != null && filter.getMinPrice().signum() < 0)
+                || (filter.getMaxPrice() != null && filter.getMaxPrice().signum() < 0)) {
+            return Mono.error(new IllegalArgumentException("The price range must not be negative"));
+        }
+        if (filter.getMinPrice() != null && filter.getMaxPrice() != null
+                && filter.getMinPrice().compareTo(filter.getMaxPrice()) > 0) {
+            return Mono.error(new IllegalArgumentException("The minimum price must not be greater than the maximum price"));
+        }
+        return CursorPagination.fetch(cursor, limit, PriceCursor::decode,
+                (after, rows) -> productRepositoryPort.findPageByPrice(filter, after, rows),
+                product -> PriceCursor.of(product.getPrice(), product.getId()).encode());
+    }
+
+    @Override
+    public Mono<ProductVersion> getProductVersion(UUID id) {
+        return productRepositoryPort.findVersionById(id.toString());
+    }
+
+    @Override
+    public Mono<CatalogVersion> getCatalogVersion() {
+        return productRepositoryPort.findCatalogVersion();
+    }
+
+    @Override
+    public Mono<Product> updateProduct(Product product, Product current) {
+        if (product.getVersion() != null) {
+            return productRepositoryPort.save(product);
+        }
+        return productRepositoryPort.save(product.toBuilder().version(current.getVersion()).build())
+                .onErrorResume(VersionConflictException.class,
+                        conflict -> retryStockChange(product, current, MAX_STOCK_MERGE_ATTEMPTS, conflict));
+    }
+
+    @Override
+    public Mono<Product> patchProduct(UUID id, ProductPatch patch) {
+        if (patch.isEmpty()) {
+            return productRepositoryPort.findById(id.toString());
+        }
+        return productRepositoryPort.patch(id.toString(), patch);
+    }
+
+    @Override
+    public Flux<ProductImportResult> importProducts(Flux<ProductImportItem> items) {
+        return items.buffer(IMPORT_CHUNK_SIZE)
+                .concatMap(this::importChunk);
+    }
+
+    private Flux<ProductImportResult> importChunk(List<ProductImportItem> chunk) {
+        List<ProductImportResult> results = new ArrayList<>(chunk.size());
+        List<ProductImportItem> candidates = new ArrayList<>(chunk.size());
+        Set<String> skus = new HashSet<>();
+        Set<String> names = new HashSet<>();
+
+        for (ProductImportItem item : chunk) {
+            if (item.getError() != null) {
+                results.add(ProductImportResult.of(item, ProductImportResult.Status.INVALID, item.getError()));
+            } else if (skus.contains(item.getProduct().getSku())) {
+                results.add(ProductImportResult.of(item, ProductImportResult.Status.DUPLICATE,
+                        "Duplicated SKU in the import: " + item.getProduct().getSku()));
+            } else if (names.contains(item.getProduct().getName())) {
+                results.add(ProductImportResult.of(item, ProductImportResult.Status.DUPLICATE,
+                        "Duplicated name in the import: " + item.getProduct().getName()));
+            } else {
+                skus.add(item.getProduct().getSku());
+                names.add(item.getProduct().getName());
+                candidates.add(item);
+            }
+        }
+
+        if (candidates.isEmpty()) {
+            return Flux.fromIterable(sortedByIndex(results));
+        }
+
+        return productRepositoryPort.findConflicting(skus, names)
+                .collectList()
+                .flatMap(existingProducts -> {
+                    Set<String> existingSkus = new HashSet<>();
+                    Set<String> existingNames = new HashSet<>();
+                    existingProducts.forEach(existing -> {
+                        existingSkus.add(existing.getSku());
+                        existingNames.add(existing.getName());
+                    });
+
+                    List<ProductImportItem> accepted = new ArrayList<>(candidates.size());
+                    for (ProductImportItem item : candidates) {
+                        if (existingSkus.contains(item.getProduct().getSku())) {
+                            results.add(ProductImportResult.of(item, ProductImportResult.Status.DUPLICATE,
+                                    "Product with the SKU already exists: " + item.getProduct().getSku()));
+                        } else if (existingNames.contains(item.getProduct().getName())) {
+                            results.add(ProductImportResult.of(item, ProductImportResult.Status.DUPLICATE,
+                                    "Product with the name already exists: " + item.getProduct().getName()));
+                        } else {
+                            accepted.add(item);
+                        }
+                    }
+
+                    if (accepted.isEmpty()) {
+                        return Mono.just(results);
+                    }
+
+                    List<Product> newProducts = accepted.stream()
+                            .map(item -> newProduct(item.getProduct()))
+                            .toList();
+                    return productRepositoryPort.insertAll(newProducts)
+                            .collectList()
+                            .map(savedProducts -> {
+                                for (int i = 0; i < accepted.size(); i++) {
+                                    ProductImportResult result = ProductImportResult.of(accepted.get(i),
+                                            ProductImportResult.Status.CREATED, "Product created");
+                                    result.setProductId(savedProducts.get(i).getId());
+                                    results.add(result);
+                                }
+                                return results;
+                            })
+                            .onErrorResume(ex -> {
+                                accepted.forEach(item -> results.add(ProductImportResult.of(item,
+                                        ProductImportResult.Status.FAILED, "Failed to import the chunk: " + ex.getMessage())));
+                                return Mono.just(results);
+                            });
+                })
+                .flatMapIterable(this::sortedByIndex);
+    }
+
+    private List<ProductImportResult> sortedByIndex(List<ProductImportResult> results) {
+        results.sort(Comparator.comparingLong(ProductImportResult::getIndex));
+        return results;
+    }
+
+    // One query for the distinct keys, answered in request order with an empty lookup for each miss.
+    private Flux<ProductLookup> lookup(List<String> keys, Function<Collection<String>, Flux<Product>> query,
+                                      Function<Product, String> keyOf) {
+        if (keys.size() > MAX_BATCH_SIZE) {
+            return Flux.error(new IllegalArgumentException("A batch must not request more than " + MAX_BATCH_SIZE + " products"));
+        }
+        if (keys.isEmpty()) {
+            return Flux.empty();
+        }
+        return query.apply(new LinkedHashSet<>(keys))
+                .collectMap(keyOf)
+                .flatMapIterable(found -> keys.stream()
+                        .map(key -> ProductLookup.builder()
+                                .key(key)
+                                .product(found.get(key))
+                                .build())
+                        .toList());
+    }
+
+    // An unconditional update that only moves the stock is reapplied on top of whatever won the race,
+    // as the same difference from the latest stock so a concurrent stock change is kept; any other
+    // conflicting change is left for the caller to resolve.
+    private Mono<Product> retryStockChange(Product change, Product base, int attempts, VersionConflictException conflict) {
+        if (attempts == 0 || !isStockOnlyChange(change, base) || change.getStock() == null || base.getStock() == null) {
+            return Mono.error(conflict);
+        }
+        int delta = change.getStock() - base.getStock();
+        return productRepositoryPort.findById(change.getId())
+                .flatMap(latest -> {
+                    if (latest.getStock() == null || latest.getStock() + delta < 0) {
+                        return Mono.error(conflict);
+                    }
+                    Product merged = latest.toBuilder().stock(latest.getStock() + delta).build();
+                    return productRepositoryPort.save(merged)
+                            .onErrorResume(VersionConflictException.class,
+                                    next -> retryStockChange(merged, latest, attempts - 1, next));
+                });
+    }
+
+    private boolean isStockOnlyChange(Product change, Product base) {
+        return Objects.equals(change.getSku(), base.getSku())
+                && Objects.equals(change.getName(), base.getName())
+                && Objects.equals(change.getDescription(), base.getDescription())
+                && (change.getPrice() == null ? base.getPrice() == null
+                        : base.getPrice() != null && change.getPrice().compareTo(base.getPrice()) == 0)
+                && Objects.equals(change.getCategoryId(), base.getCategoryId())
+                && Objects.equals(change.getBrandId(), base.getBrandId())
+                && (change.getActive() == null || change.getActive().equals(base.getActive()))
+                && (change.getFeatures() == null || featureValues(change).equals(featureValues(base)));
+    }
+
+    private Map<String, String> featureValues(Product product) {
+        Map<String, String> values = new HashMap<>();
+        if (product.getFeatures() != null) {
+            product.getFeatures().forEach(feature -> values.put(feature.getName(), feature.getValue()));
+        }
+        return values;
+    }
+
+    private Product newProduct(Product product) {
+        return Product.builder()
+                .sku(product.getSku())
+                .name(product.getName())
+                .description(product.getDescription())
+                .price(product.getPrice())
+                .categoryId(product.getCategoryId())
+                .brandId(product.getBrandId())
+                .stock(product.getStock())
+                .active(true)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .features(product.getFeatures())
+                .build();
     }
 
     @Override
-    public Mono<Void> deleteProductById(UUID id) {
+    public Mono<Boolean> deleteProductById(UUID id) {
         return productRepositoryPort.deleteById(id.toString())
                 .onErrorMap(ex -> new RuntimeException("Failed to delete product with ID: " + id, ex));
     }
@@ -0,0 +1,45 @@
+package com.projectArka.product_service.application.usecase;
+
+import com.projectArka.product_service.domain.exception.InsufficientStockException;
+import com.projectArka.product_service.domain.exception.ReservationNotFoundException;
+import com.projectArka.product_service.domain.model.StockReservation;
+import com.projectArka.product_service.domain.port.in.IReserveStockPort;
+import com.projectArka.product_service.domain.port.out.StockRepositoryPort;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Service
+public class StockUseCase implements IReserveStockPort {
+
+    private final StockRepositoryPort stockRepositoryPort;
+
+    public StockUseCase(StockRepositoryPort stockRepositoryPort) {
+        this.stockRepositoryPort = stockRepositoryPort;
+    }
+
+    @Override
+    public Mono<StockReservation> reserveStock(UUID productId, int quantity) {
+        if (quantity < 1) {
+            return Mono.error(new IllegalArgumentException("The quantity to reserve must be greater than 0"));
+        }
+        return stockRepositoryPort.reserve(productId.toString(), quantity)
+                .switchIfEmpty(Mono.error(() -> new InsufficientStockException(
+                        "Not enough stock to reserve " + quantity + " units of product: " + productId)));
+    }
+
+    @Override
+    public Mono<StockReservation> commitReservation(UUID reservationId) {
+        return stockRepositoryPort.commit(reservationId.toString())
+                .switchIfEmpty(Mono.error(() -> new ReservationNotFoundException(
+                        "No pending reservation with ID: " + reservationId)));
+    }
+
+    @Override
+    public Mono<StockReservation> releaseReservation(UUID reservationId) {
+        return stockRepositoryPort.release(reservationId.toString())
+                .switchIfEmpty(Mono.error(() -> new ReservationNotFoundException(
+                        "No pending reservation with ID: " + reservationId)));
+    }
+}
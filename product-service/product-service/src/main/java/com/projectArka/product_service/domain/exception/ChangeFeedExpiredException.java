@@ -0,0 +1,9 @@
+package com.projectArka.product_service.domain.exception;
+
+public class ChangeFeedExpiredException extends RuntimeException {
+
+  public ChangeFeedExpiredException(String message) {
+    super(message);
+  }
+
+}
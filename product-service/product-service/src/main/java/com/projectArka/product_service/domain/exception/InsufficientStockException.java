@@ -0,0 +1,9 @@
+package com.projectArka.product_service.domain.exception;
+
+public class InsufficientStockException extends RuntimeException {
+
+  public InsufficientStockException(String message) {
+    super(message);
+  }
+
+}
@@ -0,0 +1,9 @@
+package com.projectArka.product_service.domain.exception;
+
+public class ReservationNotFoundException extends RuntimeException {
+
+  public ReservationNotFoundException(String message) {
+    super(message);
+  }
+
+}
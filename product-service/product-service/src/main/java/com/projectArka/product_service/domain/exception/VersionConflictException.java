@@ -0,0 +1,9 @@
+package com.projectArka.product_service.domain.exception;
+
+public class VersionConflictException extends RuntimeException {
+
+  public VersionConflictException(String message) {
+    super(message);
+  }
+
+}
@@ -0,0 +1,31 @@
+package com.projectArka.product_service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogChange {
+    private long sequence;
+    private EntityType entityType;
+    private String entityId;
+    private Type type;
+    private LocalDateTime changedAt;
+
+    public enum EntityType {
+        PRODUCT,
+        BRAND,
+        CATEGORY
+    }
+
+    public enum Type {
+        SAVED,
+        DELETED
+    }
+}
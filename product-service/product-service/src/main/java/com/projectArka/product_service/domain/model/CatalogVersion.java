@@ -0,0 +1,20 @@
+package com.projectArka.product_service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogVersion {
+    private long changeSequence;
+    private LocalDateTime productsUpdatedAt;
+    private LocalDateTime brandsUpdatedAt;
+    private LocalDateTime categoriesUpdatedAt;
+    private long stockChanges;
+}
@@ -0,0 +1,46 @@
+package com.projectArka.product_service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceCursor {
+    private static final String SEPARATOR = "|";
+
+    private BigDecimal price;
+    private String id;
+
+    public static PriceCursor of(BigDecimal price, String id) {
+        return PriceCursor.builder()
+                .price(price)
+                .id(id)
+                .build();
+    }
+
+    public String encode() {
+        String raw = price.toPlainString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PriceCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            String id = raw.substring(separator + 1);
+            UUID.fromString(id);
+            return PriceCursor.of(new BigDecimal(raw.substring(0, separator)), id);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid page cursor");
+        }
+    }
+}
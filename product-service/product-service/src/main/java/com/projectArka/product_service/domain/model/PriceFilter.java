@@ -0,0 +1,19 @@
+package com.projectArka.product_service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceFilter {
+    private String categoryId;
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+    private boolean descending;
+}
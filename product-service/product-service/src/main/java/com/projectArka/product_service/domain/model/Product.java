@@ -11,7 +11,7 @@ import java.util.List;
 import java.util.UUID;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class Product {
@@ -27,6 +27,7 @@ public class Product {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private List<ProductFeature> features;
+    private Long version;
 
     public static Product create(String sku, String name, String description,
                                  BigDecimal price, UUID categoryId,
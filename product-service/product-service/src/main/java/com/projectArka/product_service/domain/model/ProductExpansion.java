@@ -0,0 +1,25 @@
+package com.projectArka.product_service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductExpansion {
+    private Map<String, Brand> brands;
+    private Map<String, Category> categories;
+
+    public Brand brandOf(Product product) {
+        return brands == null || product.getBrandId() == null ? null : brands.get(product.getBrandId().toString());
+    }
+
+    public Category categoryOf(Product product) {
+        return categories == null || product.getCategoryId() == null ? null : categories.get(product.getCategoryId().toString());
+    }
+}
@@ -0,0 +1,33 @@
+package com.projectArka.product_service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImportItem {
+    private long index;
+    private String sku;
+    private Product product;
+    private String error;
+
+    public static ProductImportItem valid(long index, Product product) {
+        return ProductImportItem.builder()
+                .index(index)
+                .sku(product.getSku())
+                .product(product)
+                .build();
+    }
+
+    public static ProductImportItem invalid(long index, String sku, String error) {
+        return ProductImportItem.builder()
+                .index(index)
+                .sku(sku)
+                .error(error)
+                .build();
+    }
+}
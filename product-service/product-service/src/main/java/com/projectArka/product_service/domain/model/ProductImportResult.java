@@ -0,0 +1,34 @@
+package com.projectArka.product_service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImportResult {
+    private long index;
+    private String sku;
+    private Status status;
+    private String productId;
+    private String message;
+
+    public enum Status {
+        CREATED,
+        INVALID,
+        DUPLICATE,
+        FAILED
+    }
+
+    public static ProductImportResult of(ProductImportItem item, Status status, String message) {
+        return ProductImportResult.builder()
+                .index(item.getIndex())
+                .sku(item.getSku())
+                .status(status)
+                .message(message)
+                .build();
+    }
+}
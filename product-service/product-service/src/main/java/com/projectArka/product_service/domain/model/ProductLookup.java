@@ -0,0 +1,19 @@
+package com.projectArka.product_service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductLookup {
+    private String key;
+    private Product product;
+
+    public boolean isFound() {
+        return product != null;
+    }
+}
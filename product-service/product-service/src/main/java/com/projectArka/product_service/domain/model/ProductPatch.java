@@ -0,0 +1,36 @@
+package com.projectArka.product_service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The fields of a product to change; a null field keeps its stored value. With a version the patch
+ * only applies while the product is still at that version.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductPatch {
+    private String sku;
+    private String name;
+    private String description;
+    private BigDecimal price;
+    private UUID categoryId;
+    private UUID brandId;
+    private Integer stock;
+    private Boolean active;
+    private List<ProductFeature> features;
+    private Long version;
+
+    public boolean isEmpty() {
+        return sku == null && name == null && description == null && price == null && categoryId == null
+                && brandId == null && stock == null && active == null && features == null;
+    }
+}
@@ -0,0 +1,23 @@
+package com.projectArka.product_service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductVersion {
+    private String id;
+    private LocalDateTime updatedAt;
+    private Integer stock;
+    private Long version;
+
+    public static ProductVersion of(Product product) {
+        return new ProductVersion(product.getId(), product.getUpdatedAt(), product.getStock(), product.getVersion());
+    }
+}
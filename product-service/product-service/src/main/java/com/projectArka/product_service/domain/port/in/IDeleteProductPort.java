@@ -5,5 +5,5 @@ import reactor.core.publisher.Mono;
 import java.util.UUID;
 
 public interface DeleteProductPort {
-    Mono<Void> deleteProductById(UUID id);
+    Mono<Boolean> deleteProductById(UUID id);
 }
\ No newline at end of file
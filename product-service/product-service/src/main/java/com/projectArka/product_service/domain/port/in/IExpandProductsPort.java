@@ -0,0 +1,11 @@
+package com.projectArka.product_service.domain.port.in;
+
+import com.projectArka.product_service.domain.model.Product;
+import com.projectArka.product_service.domain.model.ProductExpansion;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+public interface ExpandProductsPort {
+    Mono<ProductExpansion> expandProducts(Collection<Product> products, boolean brands, boolean categories);
+}
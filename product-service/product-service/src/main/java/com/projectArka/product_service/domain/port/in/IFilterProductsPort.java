@@ -0,0 +1,9 @@
+package com.projectArka.product_service.domain.port.in;
+
+import com.projectArka.product_service.domain.model.ProductFacets;
+import com.projectArka.product_service.domain.model.ProductFilter;
+import reactor.core.publisher.Mono;
+
+public interface FilterProductsPort {
+    Mono<ProductFacets> filterProducts(ProductFilter filter, int limit);
+}
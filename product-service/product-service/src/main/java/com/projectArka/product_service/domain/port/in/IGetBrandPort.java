@@ -1,6 +1,7 @@
 package com.projectArka.product_service.domain.port.in;
 
 import com.projectArka.product_service.domain.model.Brand;
+import com.projectArka.product_service.domain.model.CursorPage;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -10,4 +11,5 @@ public interface GetBrandPort {
     Mono<Brand> getBrandById(UUID id);
     Mono<Brand> getBrandByName(String name);
     Flux<Brand> getAllBrands();
+    Mono<CursorPage<Brand>> getBrandPage(String cursor, int limit);
 }
\ No newline at end of file
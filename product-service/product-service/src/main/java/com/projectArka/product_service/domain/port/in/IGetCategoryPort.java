@@ -1,6 +1,7 @@
 package com.projectArka.product_service.domain.port.in;
 
 import com.projectArka.product_service.domain.model.Category;
+import com.projectArka.product_service.domain.model.CursorPage;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -10,4 +11,5 @@ public interface GetCategoryPort {
     Mono<Category> getCategoryById(UUID id);
     Flux<Category> getAllCategories();
     Mono<Category> getCategoryByName(String name);
+    Mono<CursorPage<Category>> getCategoryPage(String cursor, int limit);
 }
@@ -1,6 +1,11 @@
 package com.projectArka.product_service.domain.port.in;
 
+import com.projectArka.product_service.domain.model.CatalogVersion;
+import com.projectArka.product_service.domain.model.CursorPage;
+import com.projectArka.product_service.domain.model.PriceFilter;
 import com.projectArka.product_service.domain.model.Product;
+import com.projectArka.product_service.domain.model.ProductLookup;
+import com.projectArka.product_service.domain.model.ProductVersion;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -12,5 +17,11 @@ public interface GetProductPort {
     Mono<Product> getProductById(UUID id);
     Mono<Product> getProductBySku(String sku);
     Mono<Product> getProductByName(String name);
+    Flux<ProductLookup> getProductsByIds(List<UUID> ids);
+    Flux<ProductLookup> getProductsBySkus(List<String> skus);
     Flux<Product> getAllProducts();
+    Mono<CursorPage<Product>> getProductPage(String cursor, int limit);
+    Mono<CursorPage<Product>> getProductPageByPrice(PriceFilter filter, String cursor, int limit);
+    Mono<ProductVersion> getProductVersion(UUID id);
+    Mono<CatalogVersion> getCatalogVersion();
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.projectArka.product_service.domain.port.in;
+
+import com.projectArka.product_service.domain.model.ProductImportItem;
+import com.projectArka.product_service.domain.model.ProductImportResult;
+import reactor.core.publisher.Flux;
+
+public interface ImportProductsPort {
+    Flux<ProductImportResult> importProducts(Flux<ProductImportItem> items);
+}
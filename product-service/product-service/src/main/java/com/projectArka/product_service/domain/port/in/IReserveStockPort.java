@@ -0,0 +1,12 @@
+package com.projectArka.product_service.domain.port.in;
+
+import com.projectArka.product_service.domain.model.StockReservation;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface ReserveStockPort {
+    Mono<StockReservation> reserveStock(UUID productId, int quantity);
+    Mono<StockReservation> commitReservation(UUID reservationId);
+    Mono<StockReservation> releaseReservation(UUID reservationId);
+}
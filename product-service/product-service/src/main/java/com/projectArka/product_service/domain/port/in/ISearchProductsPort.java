@@ -0,0 +1,8 @@
+package com.projectArka.product_service.domain.port.in;
+
+import com.projectArka.product_service.domain.model.Product;
+import reactor.core.publisher.Flux;
+
+public interface SearchProductsPort {
+    Flux<Product> searchProducts(String query, int limit);
+}
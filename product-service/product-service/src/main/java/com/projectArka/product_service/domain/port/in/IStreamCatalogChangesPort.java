@@ -0,0 +1,8 @@
+package com.projectArka.product_service.domain.port.in;
+
+import com.projectArka.product_service.domain.model.CatalogChange;
+import reactor.core.publisher.Flux;
+
+public interface StreamCatalogChangesPort {
+    Flux<CatalogChange> streamChanges(Long after);
+}
@@ -1,8 +1,12 @@
 package com.projectArka.product_service.domain.port.in;
 
 import com.projectArka.product_service.domain.model.Product;
+import com.projectArka.product_service.domain.model.ProductPatch;
 import reactor.core.publisher.Mono;
 
+import java.util.UUID;
+
 public interface UpdateProductPort {
-    Mono<Product> updateProduct(Product product);
+    Mono<Product> updateProduct(Product product, Product current);
+    Mono<Product> patchProduct(UUID id, ProductPatch patch);
 }
\ No newline at end of file
@@ -1,13 +1,18 @@
 package com.projectArka.product_service.domain.port.out;
 
 import com.projectArka.product_service.domain.model.Brand;
+import com.projectArka.product_service.domain.model.PageCursor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 public interface BrandRepositoryPort {
     Mono<Brand> save(Brand brand);
     Mono<Brand> findById(String id);
     Mono<Brand> findByName(String name);
     Flux<Brand> findAll();
+    Flux<Brand> findAllByIds(Collection<String> ids);
+    Flux<Brand> findPage(PageCursor after, int limit);
     Mono<Void> deleteById(String id);
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.projectArka.product_service.domain.port.out;
+
+import com.projectArka.product_service.domain.model.CatalogChange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+public interface CatalogChangeRepositoryPort {
+    Flux<CatalogChange> findAfter(long sequence, int limit);
+    Mono<Long> findLatestSequence();
+    Mono<Long> findPurgedSequence();
+    Mono<LocalDateTime> findCurrentTime();
+    Mono<Long> purgeBefore(LocalDateTime cutoff);
+}
@@ -1,9 +1,11 @@
 package com.projectArka.product_service.domain.port.out;
 
 import com.projectArka.product_service.domain.model.Category;
+import com.projectArka.product_service.domain.model.PageCursor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
 import java.util.UUID;
 
 public interface CategoryRepositoryPort {
@@ -11,5 +13,7 @@ public interface CategoryRepositoryPort {
     Mono<Category> findById(String id);
     Mono<Category> findByName(String name);
     Flux<Category> findAll();
+    Flux<Category> findAllByIds(Collection<String> ids);
+    Flux<Category> findPage(PageCursor after, int limit);
     Mono<Void> deleteById(UUID id);
 }
@@ -0,0 +1,9 @@
+package com.projectArka.product_service.domain.port.out;
+
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+public interface ProductPurgeRepositoryPort {
+    Mono<Long> purgeDeletedBefore(LocalDateTime cutoff, int limit);
+}
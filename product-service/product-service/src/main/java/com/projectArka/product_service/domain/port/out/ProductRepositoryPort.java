@@ -1,14 +1,32 @@
 package com.projectArka.product_service.domain.port.out;
 
+import com.projectArka.product_service.domain.model.CatalogVersion;
+import com.projectArka.product_service.domain.model.PageCursor;
+import com.projectArka.product_service.domain.model.PriceCursor;
+import com.projectArka.product_service.domain.model.PriceFilter;
 import com.projectArka.product_service.domain.model.Product;
+import com.projectArka.product_service.domain.model.ProductPatch;
+import com.projectArka.product_service.domain.model.ProductVersion;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface ProductRepositoryPort {
     Mono<Product> save(Product product);
+    Mono<Product> patch(String id, ProductPatch patch);
     Mono<Product> findById(String id);
     Mono<Product> findBySku(String sku);
     Mono<Product> findByName(String name);
+    Flux<Product> findAllByIds(Collection<String> ids);
+    Flux<Product> findAllBySkus(Collection<String> skus);
     Flux<Product> findAll();
-    Mono<Void> deleteById(String id);
+    Flux<Product> findPage(PageCursor after, int limit);
+    Flux<Product> findPageByPrice(PriceFilter filter, PriceCursor after, int limit);
+    Mono<ProductVersion> findVersionById(String id);
+    Mono<CatalogVersion> findCatalogVersion();
+    Mono<Boolean> deleteById(String id);
+    Flux<Product> findConflicting(Collection<String> skus, Collection<String> names);
+    Flux<Product> insertAll(List<Product> products);
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.projectArka.product_service.domain.port.out;
+
+import com.projectArka.product_service.domain.model.ProductSearchHit;
+import reactor.core.publisher.Flux;
+
+public interface ProductSearchPort {
+    Flux<ProductSearchHit> search(String query, int limit);
+}
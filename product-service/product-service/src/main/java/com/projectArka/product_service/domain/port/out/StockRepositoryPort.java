@@ -0,0 +1,10 @@
+package com.projectArka.product_service.domain.port.out;
+
+import com.projectArka.product_service.domain.model.StockReservation;
+import reactor.core.publisher.Mono;
+
+public interface StockRepositoryPort {
+    Mono<StockReservation> reserve(String productId, int quantity);
+    Mono<StockReservation> commit(String reservationId);
+    Mono<StockReservation> release(String reservationId);
+}
@@ -2,9 +2,11 @@ package com.projectArka.product_service.infrastructure.adapter.in.webflux;
 
 import com.projectArka.product_service.application.dto.BrandResponseDTO;
 import com.projectArka.product_service.application.dto.CreateBrandRequestDTO;
+import com.projectArka.product_service.application.dto.CursorPageResponseDTO;
 import com.projectArka.product_service.application.dto.UpdateBrandRequestDTO;
 import com.projectArka.product_service.application.mapper.BrandMapper;
 import com.projectArka.product_service.domain.exception.BrandAlreadyExistsException;
+import com.projectArka.product_service.domain.exception.VersionConflictException;
 import com.projectArka.product_service.domain.model.Brand;
 import com.projectArka.product_service.domain.port.in.*;
 import io.swagger.v3.oas.annotations.Operation;
@@ -17,9 +19,11 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -70,7 +74,7 @@ public class BrandController {
     public Mono<ResponseEntity<Brand>> getBrandById(@PathVariable String id) {
         return parseUUID(id)
                 .flatMap(uuid -> getBrandPort.getBrandById(uuid)
-                        .map(ResponseEntity::ok)
+                        .map(brand -> ResponseEntity.ok().eTag(etag(brand)).body(brand))
                         .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND, "Brand not found")))
                 );
     }
@@ -84,6 +88,21 @@ public class BrandController {
                 .map(brandMapper::toDTO);
     }
 
+    @Operation(summary = "Get a page of brands", description = "Retrieves brands ordered by creation date, continuing after the given cursor.")
+    @ApiResponse(responseCode = "200", description = "Page of brands",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPageResponseDTO.class)))
+    @ApiResponse(responseCode = "400", description = "Invalid cursor or limit")
+    @GetMapping("/page")
+    public Mono<CursorPageResponseDTO<BrandResponseDTO>> getBrandPage(@RequestParam(required = false) String cursor,
+                                                                     @RequestParam(defaultValue = "20") int limit) {
+        return getBrandPort.getBrandPage(cursor, limit)
+                .map(page -> CursorPageResponseDTO.<BrandResponseDTO>builder()
+                        .limit(page.getLimit())
+                        .nextCursor(page.getNextCursor())
+                        .items(page.getItems().stream().map(brandMapper::toDTO).toList())
+                        .build());
+    }
+
     @Operation(summary = "Search for a brand by name", description = "Searches for a brand by its name.")
     @ApiResponse(responseCode = "200", description = "Brand found",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = BrandResponseDTO.class)))
@@ -100,15 +119,24 @@ public class BrandController {
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = BrandResponseDTO.class)))
     @ApiResponse(responseCode = "400", description = "Invalid request")
     @ApiResponse(responseCode = "404", description = "Brand not found")
+    @ApiResponse(responseCode = "409", description = "The brand was changed concurrently")
+    @ApiResponse(responseCode = "412", description = "The If-Match header does not match the current brand")
     @PutMapping("/{id}")
-    public Mono<ResponseEntity<BrandResponseDTO>> updateBrand(@PathVariable String id, @Valid @RequestBody UpdateBrandRequestDTO updateRequestDTO) {
+    public Mono<ResponseEntity<BrandResponseDTO>> updateBrand(@PathVariable String id, @Valid @RequestBody UpdateBrandRequestDTO updateRequestDTO,
+                                                              ServerWebExchange exchange) {
+        List<String> ifMatch = exchange.getRequest().getHeaders().getIfMatch();
         return parseUUID(id)
                 .flatMap(uuid -> getBrandPort.getBrandById(uuid)
                         .flatMap(existingBrand -> {
+                            if (!matches(ifMatch, etag(existingBrand))) {
+                                return Mono.error(preconditionFailed(uuid));
+                            }
                             brandMapper.updateEntity(updateRequestDTO, existingBrand);
                             return updateBrandPort.updateBrand(existingBrand)
-                                    .map(brandMapper::toDTO)
-                                    .map(ResponseEntity::ok);
+                                    .onErrorMap(VersionConflictException.class, ex -> ifMatch.isEmpty() ? ex : preconditionFailed(uuid))
+                                    .map(updatedBrand -> ResponseEntity.ok()
+                                            .eTag(etag(updatedBrand))
+                                            .body(brandMapper.toDTO(updatedBrand)));
                         })
                         .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND, "Brand not found with ID: " + uuid))));
     }
@@ -134,6 +162,18 @@ public class BrandController {
     }
 
 
+    private static String etag(Brand brand) {
+        return "\"" + (brand.getVersion() == null ? 0 : brand.getVersion()) + "\"";
+    }
+
+    private static boolean matches(List<String> ifMatch, String etag) {
+        return ifMatch.isEmpty() || ifMatch.contains("*") || ifMatch.contains(etag);
+    }
+
+    private static ResponseStatusException preconditionFailed(UUID id) {
+        return new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "The brand has changed since it was read: " + id);
+    }
+
     private Mono<UUID> parseUUID(String id) {
         try {
             return Mono.just(UUID.fromString(id));
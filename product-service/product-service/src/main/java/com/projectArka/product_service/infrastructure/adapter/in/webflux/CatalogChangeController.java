@@ -0,0 +1,56 @@
+package com.projectArka.product_service.infrastructure.adapter.in.webflux;
+
+import com.projectArka.product_service.application.dto.CatalogChangeResponseDTO;
+import com.projectArka.product_service.application.mapper.CatalogChangeMapper;
+import com.projectArka.product_service.domain.port.in.StreamCatalogChangesPort;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+@RestController
+@RequestMapping("/api/products/changes")
+@Tag(name = "Catalog changes", description = "Feed of product, brand and category changes")
+public class CatalogChangeController {
+
+    private final StreamCatalogChangesPort streamCatalogChangesPort;
+    private final CatalogChangeMapper catalogChangeMapper;
+
+    public CatalogChangeController(StreamCatalogChangesPort streamCatalogChangesPort, CatalogChangeMapper catalogChangeMapper) {
+        this.streamCatalogChangesPort = streamCatalogChangesPort;
+        this.catalogChangeMapper = catalogChangeMapper;
+    }
+
+    @Operation(summary = "Stream catalog changes as NDJSON", description = "Streams every product, brand and category change after the given sequence, in commit order, and keeps the connection open for new ones. Without a sequence the stream starts at the latest change.")
+    @ApiResponse(responseCode = "200", description = "Stream of changes", content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = CatalogChangeResponseDTO.class)))
+    @ApiResponse(responseCode = "400", description = "Invalid sequence")
+    @ApiResponse(responseCode = "410", description = "The changes after the sequence were purged; resynchronize from a full read")
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<CatalogChangeResponseDTO> streamChanges(@Parameter(description = "Sequence of the last change already processed") @RequestParam(required = false) Long after) {
+        return streamCatalogChangesPort.streamChanges(after)
+                .map(catalogChangeMapper::toDTO);
+    }
+
+    @Operation(summary = "Stream catalog changes as server-sent events", description = "Same feed as the NDJSON stream; each event id is the change sequence, so reconnecting clients resume through Last-Event-ID.")
+    @ApiResponse(responseCode = "200", description = "Stream of changes", content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE, schema = @Schema(implementation = CatalogChangeResponseDTO.class)))
+    @ApiResponse(responseCode = "400", description = "Invalid sequence")
+    @ApiResponse(responseCode = "410", description = "The changes after the sequence were purged; resynchronize from a full read")
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<CatalogChangeResponseDTO>> streamChangeEvents(@Parameter(description = "Sequence of the last change already processed") @RequestParam(required = false) Long after,
+                                                                             @RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId) {
+        return streamCatalogChangesPort.streamChanges(after != null ? after : lastEventId)
+                .map(change -> ServerSentEvent.builder(catalogChangeMapper.toDTO(change))
+                        .id(Long.toString(change.getSequence()))
+                        .build());
+    }
+}
@@ -2,9 +2,12 @@ package com.projectArka.product_service.infrastructure.adapter.in.webflux;
 
 import com.projectArka.product_service.application.dto.CategoryResponseDTO;
 import com.projectArka.product_service.application.dto.CreateCategoryRequestDTO;
+import com.projectArka.product_service.application.dto.CursorPageResponseDTO;
 import com.projectArka.product_service.application.dto.UpdateCategoryRequestDTO;
 import com.projectArka.product_service.application.mapper.CategoryMapper;
 import com.projectArka.product_service.domain.exception.CategoryAlreadyExistsException;
+import com.projectArka.product_service.domain.exception.VersionConflictException;
+import com.projectArka.product_service.domain.model.Category;
 import com.projectArka.product_service.domain.port.in.*;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -16,9 +19,11 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -68,8 +73,7 @@ public class CategoryController {
     public Mono<ResponseEntity<CategoryResponseDTO>> getCategoryById(@PathVariable String id) {
         return parseUUID(id)
                 .flatMap(uuid -> getCategoryPort.getCategoryById(uuid)
-                        .map(categoryMapper::toDTO)
-                        .map(ResponseEntity::ok)
+                        .map(category -> ResponseEntity.ok().eTag(etag(category)).body(categoryMapper.toDTO(category)))
                         .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND, "Category not found with ID: " + id))));
     }
 
@@ -83,6 +87,21 @@ public class CategoryController {
                 .map(categoryMapper::toDTO);
     }
 
+    @Operation(summary = "Get a page of categories", description = "Retrieves categories ordered by creation date, continuing after the given cursor.")
+    @ApiResponse(responseCode = "200", description = "Page of categories",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPageResponseDTO.class)))
+    @ApiResponse(responseCode = "400", description = "Invalid cursor or limit")
+    @GetMapping("/page")
+    public Mono<CursorPageResponseDTO<CategoryResponseDTO>> getCategoryPage(@RequestParam(required = false) String cursor,
+                                                                           @RequestParam(defaultValue = "20") int limit) {
+        return getCategoryPort.getCategoryPage(cursor, limit)
+                .map(page -> CursorPageResponseDTO.<CategoryResponseDTO>builder()
+                        .limit(page.getLimit())
+                        .nextCursor(page.getNextCursor())
+                        .items(page.getItems().stream().map(categoryMapper::toDTO).toList())
+                        .build());
+    }
+
     @Operation(summary = "Search category by name", description = "Searches for a category by its name.")
     @ApiResponse(responseCode = "200", description = "Category found",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = CategoryResponseDTO.class)))
@@ -100,15 +119,24 @@ public class CategoryController {
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = CategoryResponseDTO.class)))
     @ApiResponse(responseCode = "400", description = "Invalid request")
     @ApiResponse(responseCode = "404", description = "Category not found")
+    @ApiResponse(responseCode = "409", description = "The category was changed concurrently")
+    @ApiResponse(responseCode = "412", description = "The If-Match header does not match the current category")
     @PutMapping("/{id}")
-    public Mono<ResponseEntity<CategoryResponseDTO>> updateCategory(@PathVariable String id, @Valid @RequestBody UpdateCategoryRequestDTO updateRequestDTO) {
+    public Mono<ResponseEntity<CategoryResponseDTO>> updateCategory(@PathVariable String id, @Valid @RequestBody UpdateCategoryRequestDTO updateRequestDTO,
+                                                                    ServerWebExchange exchange) {
+        List<String> ifMatch = exchange.getRequest().getHeaders().getIfMatch();
         return parseUUID(id)
                 .flatMap(uuid -> getCategoryPort.getCategoryById(uuid)
                         .flatMap(existingCategory -> {
+                            if (!matches(ifMatch, etag(existingCategory))) {
+                                return Mono.error(preconditionFailed(uuid));
+                            }
                             categoryMapper.updateEntity(updateRequestDTO, existingCategory);
                             return updateCategoryPort.updateCategory(existingCategory)
-                                    .map(categoryMapper::toDTO)
-                                    .map(ResponseEntity::ok);
+                                    .onErrorMap(VersionConflictException.class, ex -> ifMatch.isEmpty() ? ex : preconditionFailed(uuid))
+                                    .map(updatedCategory -> ResponseEntity.ok()
+                                            .eTag(etag(updatedCategory))
+                                            .body(categoryMapper.toDTO(updatedCategory)));
                         })
                         .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND, "Category not found with ID: " + uuid))));
     }
@@ -135,6 +163,18 @@ public class CategoryController {
                 });
     }
 
+    private static String etag(Category category) {
+        return "\"" + (category.getVersion() == null ? 0 : category.getVersion()) + "\"";
+    }
+
+    private static boolean matches(List<String> ifMatch, String etag) {
+        return ifMatch.isEmpty() || ifMatch.contains("*") || ifMatch.contains(etag);
+    }
+
+    private static ResponseStatusException preconditionFailed(UUID id) {
+        return new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "The category has changed since it was read: " + id);
+    }
+
     private Mono<UUID> parseUUID(String id) {
         try {
             return Mono.just(UUID.fromString(id));
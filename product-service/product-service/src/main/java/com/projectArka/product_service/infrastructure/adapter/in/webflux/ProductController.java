@@ -1,12 +1,22 @@
 package com.projectArka.product_service.infrastructure.adapter.in.webflux;
 
+import com.projectArka.product_service.application.dto.BatchGetProductsRequestDTO;
 import com.projectArka.product_service.application.dto.CreateProductRequestDTO;
+import com.projectArka.product_service.application.dto.CursorPageResponseDTO;
+import com.projectArka.product_service.application.dto.ProductLookupResponseDTO;
 import com.projectArka.product_service.application.dto.ProductResponseDTO;
 import com.projectArka.product_service.application.dto.UpdateProductRequestDTO;
 import com.projectArka.product_service.application.mapper.ProductMapper;
 import com.projectArka.product_service.domain.exception.ProductAlreadyExistsException;
+import com.projectArka.product_service.domain.exception.VersionConflictException;
+import com.projectArka.product_service.domain.model.CatalogVersion;
+import com.projectArka.product_service.domain.model.CursorPage;
+import com.projectArka.product_service.domain.model.PriceFilter;
 import com.projectArka.product_service.domain.model.Product;
+import com.projectArka.product_service.domain.model.ProductLookup;
+import com.projectArka.product_service.domain.model.ProductPatch;
 import com.projectArka.product_service.domain.port.in.*;
+import com.projectArka.product_service.infrastructure.adapter.out.cache.ProductJsonCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -15,37 +25,59 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @RestController
 @RequestMapping("/api/products")
 @Tag(name = "Products", description = "Operations related to products")
 public class ProductController {
 
+    private static final int STREAM_PREFETCH = 256;
+    private static final int EXPAND_BATCH = 256;
+
     private final CreateProductPort createProductPort;
     private final GetProductPort getProductPort;
     private final UpdateProductPort updateProductPort;
     private final DeleteProductPort deleteProductPort;
+    private final ExpandProductsPort expandProductsPort;
     private final ProductMapper productMapper;
+    private final ProductJsonCache productJsonCache;
 
     public ProductController(CreateProductPort createProductPort,
                              GetProductPort getProductPort,
                              UpdateProductPort updateProductPort,
                              DeleteProductPort deleteProductPort,
-                             ProductMapper productMapper) {
+                             ExpandProductsPort expandProductsPort,
+                             ProductMapper productMapper,
+                             ObjectProvider<ProductJsonCache> productJsonCache) {
         this.createProductPort = createProductPort;
         this.getProductPort = getProductPort;
         this.updateProductPort = updateProductPort;
         this.deleteProductPort = deleteProductPort;
+        this.expandProductsPort = expandProductsPort;
         this.productMapper = productMapper;
+        this.productJsonCache = productJsonCache.getIfAvailable();
     }
 
     @Operation(summary = "Create a new product", description = "Creates a new product with the provided details.")
@@ -69,75 +101,218 @@ public class ProductController {
 
     @Operation(summary = "Get a product by ID", description = "Retrieves a product based on its ID.")
     @ApiResponse(responseCode = "200", description = "Product found", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductResponseDTO.class)))
+    @ApiResponse(responseCode = "304", description = "Product unchanged since the version in If-None-Match")
     @ApiResponse(responseCode = "404", description = "Product not found")
     @GetMapping("/{id}")
-    public Mono<ResponseEntity<?>> getProductById(@Parameter(in = ParameterIn.PATH, name = "id", required = true, description = "ID of the product to retrieve") @PathVariable String id) {
-        return parseUUID(id)
-                .flatMap(getProductPort::getProductById)
-                .<ResponseEntity<?>>map(product -> ResponseEntity.ok(productMapper.toDTO(product)))
+    public Mono<ResponseEntity<?>> getProductById(@Parameter(in = ParameterIn.PATH, name = "id", required = true, description = "ID of the product to retrieve") @PathVariable String id,
+                                               @Parameter(description = "Related objects to embed, any of: brand, category") @RequestParam(required = false) List<String> expand,
+                                               ServerWebExchange exchange) {
+        return parseExpand(expand)
+                .flatMap(expansion -> parseUUID(id)
+                        .flatMap(uuid -> productJsonCache != null && !expansion.any()
+                                ? cachedProductById(uuid, exchange)
+                                : notModified(uuid, expansion, exchange)
+                                        .switchIfEmpty(Mono.defer(() -> getProductPort.getProductById(uuid)
+                                                .flatMap(product -> toDTO(product, expansion)
+                                                        .map(dto -> ResponseEntity.ok().eTag(etag(product, dto)).body(dto)))))))
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
     @Operation(summary = "Get a product by SKU", description = "Retrieves a product based on its SKU.")
     @ApiResponse(responseCode = "200", description = "Product found", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductResponseDTO.class)))
+    @ApiResponse(responseCode = "304", description = "Product unchanged since the version in If-None-Match")
     @ApiResponse(responseCode = "404", description = "Product not found")
     @GetMapping("/sku/{sku}")
-    public Mono<ResponseEntity<?>> getProductBySku(@Parameter(in = ParameterIn.PATH, name = "sku", required = true, description = "SKU of the product to retrieve") @PathVariable String sku) {
-        return getProductPort.getProductBySku(sku)
-                .<ResponseEntity<?>>map(ResponseEntity::ok)
+    public Mono<ResponseEntity<?>> getProductBySku(@Parameter(in = ParameterIn.PATH, name = "sku", required = true, description = "SKU of the product to retrieve") @PathVariable String sku,
+                                                @Parameter(description = "Related objects to embed, any of: brand, category") @RequestParam(required = false) List<String> expand,
+                                                ServerWebExchange exchange) {
+        return parseExpand(expand)
+                .flatMap(expansion -> productJsonCache != null && !expansion.any()
+                        ? cachedProductBySku(sku, exchange)
+                        : getProductPort.getProductBySku(sku)
+                                .flatMap(product -> toDTO(product, expansion)
+                                        .<ResponseEntity<?>>map(dto -> ResponseEntity.ok().eTag(etag(product, dto)).body(dto))))
                 .defaultIfEmpty(
                         ResponseEntity.status(HttpStatus.NOT_FOUND)
                                 .body(Map.of("message", "No product found with the SKU: " + sku))
                 );
     }
 
+    // Only the plain representation is cached, so expanded responses never come from here.
+    private Mono<ResponseEntity<?>> cachedProductBySku(String sku, ServerWebExchange exchange) {
+        ResponseEntity<?> hit = cachedResponse(productJsonCache.getBySku(sku), exchange);
+        if (hit != null) {
+            return Mono.just(hit);
+        }
+        long generation = productJsonCache.generation();
+        return getProductPort.getProductBySku(sku)
+                .map(product -> cacheResponse(generation, product, exchange));
+    }
+
     @Operation(summary = "Get a product by name", description = "Retrieves a product based on its name.")
     @ApiResponse(responseCode = "200", description = "Product found", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductResponseDTO.class)))
     @ApiResponse(responseCode = "404", description = "Product not found")
     @GetMapping("/name/{name}")
-    public Mono<ResponseEntity<ProductResponseDTO>> getProductByName(@Parameter(in = ParameterIn.PATH, name = "name", required = true, description = "Name of the product to retrieve") @PathVariable String name) {
-        return getProductPort.getProductByName(name)
-                .map(productMapper::toDTO)
-                .map(ResponseEntity::ok)
+    public Mono<ResponseEntity<ProductResponseDTO>> getProductByName(@Parameter(in = ParameterIn.PATH, name = "name", required = true, description = "Name of the product to retrieve") @PathVariable String name,
+                                                                     @Parameter(description = "Related objects to embed, any of: brand, category") @RequestParam(required = false) List<String> expand) {
+        return parseExpand(expand)
+                .flatMap(expansion -> getProductPort.getProductByName(name)
+                        .flatMap(product -> toDTO(product, expansion)
+                                .map(dto -> ResponseEntity.ok().eTag(etag(product, dto)).body(dto))))
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
+    @Operation(summary = "Get products by IDs or SKUs", description = "Retrieves up to 100 products by ID or by SKU in one call. The results follow the request order, with found set to false for the ones that do not exist.")
+    @ApiResponse(responseCode = "200", description = "One result per requested ID or SKU", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductLookupResponseDTO.class, type = "array")))
+    @ApiResponse(responseCode = "400", description = "Neither or both of ids and skus given, an invalid ID, or too many products requested")
+    @PostMapping("/batch-get")
+    public Mono<ResponseEntity<List<ProductLookupResponseDTO>>> batchGetProducts(@RequestBody BatchGetProductsRequestDTO requestDTO,
+                                                                                 @Parameter(description = "Related objects to embed, any of: brand, category") @RequestParam(required = false) List<String> expand) {
+        boolean byIds = requestDTO.getIds() != null && !requestDTO.getIds().isEmpty();
+        boolean bySkus = requestDTO.getSkus() != null && !requestDTO.getSkus().isEmpty();
+        if (byIds == bySkus) {
+            return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Request either ids or skus."));
+        }
+        Flux<ProductLookup> lookups = byIds
+                ? parseUUIDs(requestDTO.getIds()).flatMapMany(getProductPort::getProductsByIds)
+                : getProductPort.getProductsBySkus(requestDTO.getSkus());
+        return parseExpand(expand)
+                .flatMap(expansion -> lookups.collectList()
+                        .flatMap(results -> toLookupDTOs(results, byIds, expansion)))
+                .map(ResponseEntity::ok);
+    }
+
     @Operation(summary = "Get all products", description = "Retrieves a list of all products.")
     @ApiResponse(responseCode = "200", description = "List of products", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductResponseDTO.class, type = "array")))
+    @ApiResponse(responseCode = "304", description = "Catalog unchanged since the version in If-None-Match")
     @GetMapping
-    public Flux<ProductResponseDTO> getAllProducts() {
-        return getProductPort.getAllProducts()
-                .map(productMapper::toDTO);
+    public Mono<ResponseEntity<Flux<ProductResponseDTO>>> getAllProducts(@Parameter(description = "Related objects to embed, any of: brand, category") @RequestParam(required = false) List<String> expand) {
+        // The body is only subscribed when the version in If-None-Match is stale.
+        return parseExpand(expand)
+                .flatMap(expansion -> getProductPort.getCatalogVersion()
+                        .map(version -> ResponseEntity.ok()
+                                .eTag(etag(version))
+                                .body(toDTOs(getProductPort.getAllProducts(), expansion))));
+    }
+
+    @Operation(summary = "Stream all products", description = "Streams every product as NDJSON or server-sent events, one element per product as it is read.")
+    @ApiResponse(responseCode = "200", description = "Stream of products", content = {
+            @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = ProductResponseDTO.class)),
+            @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE, schema = @Schema(implementation = ProductResponseDTO.class))})
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<ProductResponseDTO> streamAllProducts(@Parameter(description = "Related objects to embed, any of: brand, category") @RequestParam(required = false) List<String> expand) {
+        return parseExpand(expand)
+                .flatMapMany(expansion -> toDTOs(getProductPort.getAllProducts().limitRate(STREAM_PREFETCH), expansion));
+    }
+
+    @Operation(summary = "Get a page of products", description = "Retrieves products ordered by creation date, continuing after the given cursor.")
+    @ApiResponse(responseCode = "200", description = "Page of products", content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPageResponseDTO.class)))
+    @ApiResponse(responseCode = "304", description = "Catalog unchanged since the version in If-None-Match")
+    @ApiResponse(responseCode = "400", description = "Invalid cursor or limit")
+    @GetMapping("/page")
+    public Mono<ResponseEntity<Mono<CursorPageResponseDTO<ProductResponseDTO>>>> getProductPage(@RequestParam(required = false) String cursor,
+                                                                                               @RequestParam(defaultValue = "20") int limit,
+                                                                                               @Parameter(description = "Related objects to embed, any of: brand, category") @RequestParam(required = false) List<String> expand) {
+        return parseExpand(expand)
+                .flatMap(expansion -> getProductPort.getCatalogVersion()
+                        .map(version -> ResponseEntity.ok()
+                                .eTag(etag(version))
+                                .body(toPageDTO(getProductPort.getProductPage(cursor, limit), expansion))));
+    }
+
+    @Operation(summary = "Get a page of products by price", description = "Retrieves products in a price range, optionally within a category, ordered by price and continuing after the given cursor.")
+    @ApiResponse(responseCode = "200", description = "Page of products", content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPageResponseDTO.class)))
+    @ApiResponse(responseCode = "304", description = "Catalog unchanged since the version in If-None-Match")
+    @ApiResponse(responseCode = "400", description = "Invalid category, price range, sort, cursor or limit")
+    @GetMapping("/by-price")
+    public Mono<ResponseEntity<Mono<CursorPageResponseDTO<ProductResponseDTO>>>> getProductPageByPrice(@RequestParam(required = false) String categoryId,
+                                                                                                      @RequestParam(required = false) BigDecimal minPrice,
+                                                                                                      @RequestParam(required = false) BigDecimal maxPrice,
+                                                                                                      @Parameter(description = "Price order, asc or desc") @RequestParam(defaultValue = "asc") String sort,
+                                                                                                      @RequestParam(required = false) String cursor,
+                                                                                                      @RequestParam(defaultValue = "20") int limit,
+                                                                                                      @Parameter(description = "Related objects to embed, any of: brand, category") @RequestParam(required = false) List<String> expand) {
+        return parseExpand(expand)
+                .zipWith(parsePriceFilter(categoryId, minPrice, maxPrice, sort))
+                .flatMap(request -> getProductPort.getCatalogVersion()
+                        .map(version -> ResponseEntity.ok()
+                                .eTag(etag(version))
+                                .body(toPageDTO(getProductPort.getProductPageByPrice(request.getT2(), cursor, limit), request.getT1()))));
     }
 
     @Operation(summary = "Update a product", description = "Updates an existing product based on its ID.")
     @ApiResponse(responseCode = "200", description = "Product updated successfully", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductResponseDTO.class)))
     @ApiResponse(responseCode = "400", description = "Invalid request")
     @ApiResponse(responseCode = "404", description = "Product not found")
+    @ApiResponse(responseCode = "409", description = "The product was changed concurrently")
+    @ApiResponse(responseCode = "412", description = "The If-Match header does not match the current product")
     @PutMapping("/{id}")
-    public Mono<ResponseEntity<ProductResponseDTO>> updateProduct(@PathVariable String id, @Valid @RequestBody UpdateProductRequestDTO updateRequestDTO) {
+    public Mono<ResponseEntity<ProductResponseDTO>> updateProduct(@PathVariable String id, @Valid @RequestBody UpdateProductRequestDTO updateRequestDTO,
+                                                                  ServerWebExchange exchange) {
+        List<String> ifMatch = exchange.getRequest().getHeaders().getIfMatch();
         return parseUUID(id)
                 .flatMap(uuid -> getProductPort.getProductById(uuid)
                         .flatMap(existingProduct -> {
+                            if (!matches(ifMatch, etag(existingProduct.getUpdatedAt(), existingProduct.getStock()))) {
+                                return Mono.error(preconditionFailed(uuid));
+                            }
                             Product productToUpdate = productMapper.toEntity(updateRequestDTO);
                             productToUpdate.setId(uuid.toString()); // Ensure the ID is from the URL
-                            return updateProductPort.updateProduct(productToUpdate)
-                                    .map(updatedProduct -> ResponseEntity.ok(productMapper.toDTO(updatedProduct)));
+                            if (!ifMatch.isEmpty()) {
+                                productToUpdate.setVersion(existingProduct.getVersion());
+                            }
+                            return updateProductPort.updateProduct(productToUpdate, existingProduct)
+                                    .onErrorMap(VersionConflictException.class, ex -> ifMatch.isEmpty() ? ex : preconditionFailed(uuid))
+                                    .map(updatedProduct -> ResponseEntity.ok()
+                                            .eTag(etag(updatedProduct.getUpdatedAt(), updatedProduct.getStock()))
+                                            .body(productMapper.toDTO(updatedProduct)));
                         })
                         .defaultIfEmpty(ResponseEntity.notFound().build()));
     }
 
-    @Operation(summary = "Delete a product by ID", description = "Deletes a product based on its ID.")
+    @Operation(summary = "Patch a product", description = "Changes only the fields present in the request; features are replaced only when given.")
+    @ApiResponse(responseCode = "200", description = "Product patched successfully", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductResponseDTO.class)))
+    @ApiResponse(responseCode = "400", description = "Invalid request")
+    @ApiResponse(responseCode = "404", description = "Product not found")
+    @ApiResponse(responseCode = "409", description = "Another product already has the SKU or name")
+    @ApiResponse(responseCode = "412", description = "The If-Match header does not match the current product")
+    @PatchMapping("/{id}")
+    public Mono<ResponseEntity<ProductResponseDTO>> patchProduct(@PathVariable String id, @Valid @RequestBody UpdateProductRequestDTO patchRequestDTO,
+                                                                 ServerWebExchange exchange) {
+        List<String> ifMatch = exchange.getRequest().getHeaders().getIfMatch();
+        return parseUUID(id)
+                .flatMap(uuid -> {
+                    ProductPatch patch = productMapper.toPatch(patchRequestDTO);
+                    if (ifMatch.isEmpty()) {
+                        return updateProductPort.patchProduct(uuid, patch);
+                    }
+                    return getProductPort.getProductVersion(uuid)
+                            .flatMap(version -> {
+                                if (!matches(ifMatch, etag(version.getUpdatedAt(), version.getStock()))) {
+                                    return Mono.error(preconditionFailed(uuid));
+                                }
+                                patch.setVersion(version.getVersion());
+                                return updateProductPort.patchProduct(uuid, patch)
+                                        .onErrorMap(VersionConflictException.class, ex -> preconditionFailed(uuid));
+                            });
+                })
+                .map(patchedProduct -> ResponseEntity.ok()
+                        .eTag(etag(patchedProduct.getUpdatedAt(), patchedProduct.getStock()))
+                        .body(productMapper.toDTO(patchedProduct)))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "Delete a product by ID", description = "Deletes a product based on its ID. The product is hidden at once and purged in the background later.")
     @ApiResponse(responseCode = "200", description = "Product deleted successfully", content = @Content(mediaType = "application/json", schema = @Schema(type = "object", example = "{\"message\": \"Product deleted\"}")))
     @ApiResponse(responseCode = "404", description = "Product not found")
     @DeleteMapping("/{id}")
     public Mono<ResponseEntity<Map<String, String>>> deleteProductById(@PathVariable String id) {
         return parseUUID(id)
-                .flatMap(uuid -> getProductPort.getProductById(uuid)
-                        .flatMap(existingProduct -> deleteProductPort.deleteProductById(uuid)
-                                .thenReturn(ResponseEntity.ok(Map.of("message", "Product deleted")))
-                                .onErrorResume(ex -> Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND)
-                                        .body(Map.of("message", "Product not found or error during deletion")))))
+                .flatMap(uuid -> deleteProductPort.deleteProductById(uuid)
+                        .filter(Boolean::booleanValue)
+                        .map(deleted -> ResponseEntity.ok(Map.of("message", "Product deleted")))
+                        .onErrorResume(ex -> Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND)
+                                .body(Map.of("message", "Product not found or error during deletion"))))
                         .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND,
                                 "Product not found with the ID: " + uuid))))
                 .onErrorResume(e -> {
@@ -148,6 +323,224 @@ public class ProductController {
                 });
     }
 
+    private Mono<ResponseEntity<?>> cachedProductById(UUID uuid, ServerWebExchange exchange) {
+        String id = uuid.toString();
+        ResponseEntity<?> hit = cachedResponse(productJsonCache.getById(id), exchange);
+        if (hit != null) {
+            return Mono.just(hit);
+        }
+        long generation = productJsonCache.generation();
+        return notModified(uuid, Expansion.NONE, exchange)
+                .switchIfEmpty(Mono.defer(() -> getProductPort.getProductById(uuid)
+                        .map(product -> cacheResponse(generation, product, exchange))));
+    }
+
+    // Null when there is no usable entry, or it was evicted before it could be retained; the caller then loads the product.
+    private ResponseEntity<?> cachedResponse(ProductJsonCache.Entry entry, ServerWebExchange exchange) {
+        if (entry == null || !entry.retain()) {
+            return null;
+        }
+        if (exchange.checkNotModified(entry.etag())) {
+            entry.release();
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(entry.etag()).build();
+        }
+        return jsonResponse(entry, acceptsGzip(exchange) && entry.hasGzip());
+    }
+
+    // Falls back to the regular encoder when the entry was not cached because the product changed meanwhile.
+    private ResponseEntity<?> cacheResponse(long generation, Product product, ServerWebExchange exchange) {
+        ProductResponseDTO dto = productMapper.toDTO(product);
+        String etag = etag(product, dto);
+        ProductJsonCache.Entry entry = productJsonCache.put(generation, product.getId(), product.getSku(), etag, dto);
+        if (exchange.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        if (entry == null || !entry.retain()) {
+            return ResponseEntity.ok().eTag(etag).body(dto);
+        }
+        return jsonResponse(entry, acceptsGzip(exchange) && entry.hasGzip());
+    }
+
+    // Takes over a hold on the entry from the caller.
+    private ResponseEntity<Mono<DataBuffer>> jsonResponse(ProductJsonCache.Entry entry, boolean gzipped) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .contentLength(entry.length(gzipped))
+                .eTag(entry.etag());
+        if (productJsonCache.gzip()) {
+            response.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (gzipped) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(cachedBody(entry, gzipped));
+    }
+
+    // The entry stays retained until the body is written, so an eviction in between cannot release the
+    // bytes the Content-Length was taken from. The hold is given back once however the body ends, and
+    // a buffer cancelled before it was written goes back through the discard hook.
+    private static Mono<DataBuffer> cachedBody(ProductJsonCache.Entry entry, boolean gzipped) {
+        AtomicBoolean held = new AtomicBoolean(true);
+        return Mono.fromSupplier(() -> entry.retainedBuffer(gzipped))
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                .doFinally(signal -> {
+                    if (held.compareAndSet(true, false)) {
+                        entry.release();
+                    }
+                });
+    }
+
+    private boolean acceptsGzip(ServerWebExchange exchange) {
+        String acceptEncoding = exchange.getRequest().getHeaders().getFirst(HttpHeaders.ACCEPT_ENCODING);
+        return productJsonCache.gzip() && acceptEncoding != null && acceptEncoding.contains("gzip");
+    }
+
+    // Answers a conditional GET from the product row alone, before its features are loaded.
+    private Mono<ResponseEntity<?>> notModified(UUID id, Expansion expansion, ServerWebExchange exchange) {
+        if (expansion.any() || exchange.getRequest().getHeaders().getIfNoneMatch().isEmpty()) {
+            return Mono.empty();
+        }
+        return getProductPort.getProductVersion(id)
+                .map(version -> etag(version.getUpdatedAt(), version.getStock()))
+                .filter(exchange::checkNotModified)
+                .map(etag -> ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build());
+    }
+
+    private static boolean matches(List<String> ifMatch, String etag) {
+        return ifMatch.isEmpty() || ifMatch.contains("*") || ifMatch.contains(etag);
+    }
+
+    private static ResponseStatusException preconditionFailed(UUID id) {
+        return new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "The product has changed since it was read: " + id);
+    }
+
+    private static String etag(Product product, ProductResponseDTO dto) {
+        if (dto.getBrand() == null && dto.getCategory() == null) {
+            return etag(product.getUpdatedAt(), product.getStock());
+        }
+        return etag(product.getUpdatedAt(), product.getStock(),
+                dto.getBrand() == null ? null : dto.getBrand().getUpdatedAt(),
+                dto.getCategory() == null ? null : dto.getCategory().getUpdatedAt());
+    }
+
+    private static String etag(CatalogVersion version) {
+        return etag(version.getChangeSequence(), version.getProductsUpdatedAt(), version.getBrandsUpdatedAt(),
+                version.getCategoriesUpdatedAt(), version.getStockChanges());
+    }
+
+    private static String etag(Object... parts) {
+        StringBuilder etag = new StringBuilder("\"");
+        for (Object part : parts) {
+            if (etag.length() > 1) {
+                etag.append('-');
+            }
+            if (part instanceof LocalDateTime time) {
+                long micros = time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1_000;
+                etag.append(Long.toString(micros, 36));
+            } else if (part instanceof Number number) {
+                etag.append(Long.toString(number.longValue(), 36));
+            } else {
+                etag.append('0');
+            }
+        }
+        return etag.append('"').toString();
+    }
+
+    private Mono<CursorPageResponseDTO<ProductResponseDTO>> toPageDTO(Mono<CursorPage<Product>> page, Expansion expansion) {
+        return page.flatMap(products -> toDTOs(products.getItems(), expansion)
+                .map(items -> CursorPageResponseDTO.<ProductResponseDTO>builder()
+                        .limit(products.getLimit())
+                        .nextCursor(products.getNextCursor())
+                        .items(items)
+                        .build()));
+    }
+
+    private Mono<ProductResponseDTO> toDTO(Product product, Expansion expansion) {
+        return toDTOs(List.of(product), expansion).map(dtos -> dtos.get(0));
+    }
+
+    private Mono<List<ProductResponseDTO>> toDTOs(List<Product> products, Expansion expansion) {
+        if (!expansion.any()) {
+            return Mono.just(products.stream().map(productMapper::toDTO).toList());
+        }
+        return expandProductsPort.expandProducts(products, expansion.brand(), expansion.category())
+                .map(expanded -> products.stream().map(product -> productMapper.toDTO(product, expanded)).toList());
+    }
+
+    private Flux<ProductResponseDTO> toDTOs(Flux<Product> products, Expansion expansion) {
+        if (!expansion.any()) {
+            return products.map(productMapper::toDTO);
+        }
+        return products.buffer(EXPAND_BATCH)
+                .concatMap(batch -> toDTOs(batch, expansion))
+                .flatMapIterable(dtos -> dtos);
+    }
+
+    private Mono<List<ProductLookupResponseDTO>> toLookupDTOs(List<ProductLookup> lookups, boolean byIds, Expansion expansion) {
+        List<Product> products = lookups.stream()
+                .filter(ProductLookup::isFound)
+                .map(ProductLookup::getProduct)
+                .toList();
+        return toDTOs(products, expansion).map(dtos -> {
+            List<ProductLookupResponseDTO> results = new ArrayList<>(lookups.size());
+            Iterator<ProductResponseDTO> found = dtos.iterator();
+            for (ProductLookup lookup : lookups) {
+                results.add(ProductLookupResponseDTO.builder()
+                        .id(byIds ? lookup.getKey() : null)
+                        .sku(byIds ? null : lookup.getKey())
+                        .found(lookup.isFound())
+                        .product(lookup.isFound() ? found.next() : null)
+                        .build());
+            }
+            return results;
+        });
+    }
+
+    private Mono<Expansion> parseExpand(List<String> expand) {
+        boolean brand = false;
+        boolean category = false;
+        if (expand != null) {
+            for (String value : expand) {
+                switch (value.trim()) {
+                    case "brand" -> brand = true;
+                    case "category" -> category = true;
+                    case "" -> { }
+                    default -> {
+                        return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                                "Invalid expand value: " + value + ". Must be brand or category."));
+                    }
+                }
+            }
+        }
+        return Mono.just(new Expansion(brand, category));
+    }
+
+    private Mono<PriceFilter> parsePriceFilter(String categoryId, BigDecimal minPrice, BigDecimal maxPrice, String sort) {
+        boolean descending;
+        switch (sort.trim()) {
+            case "asc" -> descending = false;
+            case "desc" -> descending = true;
+            default -> {
+                return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Invalid sort value: " + sort + ". Must be asc or desc."));
+            }
+        }
+        String category = null;
+        if (categoryId != null) {
+            try {
+                category = UUID.fromString(categoryId).toString();
+            } catch (IllegalArgumentException e) {
+                return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid category ID. Must be a UUID."));
+            }
+        }
+        return Mono.just(PriceFilter.builder()
+                .categoryId(category)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .descending(descending)
+                .build());
+    }
+
     private Mono<UUID> parseUUID(String id) {
         try {
             return Mono.just(UUID.fromString(id));
@@ -155,4 +548,25 @@ public class ProductController {
             return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid ID. Must be a UUID."));
         }
     }
+
+    private Mono<List<UUID>> parseUUIDs(List<String> ids) {
+        List<UUID> uuids = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            try {
+                uuids.add(UUID.fromString(id));
+            } catch (IllegalArgumentException e) {
+                return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid ID: " + id + ". Must be a UUID."));
+            }
+        }
+        return Mono.just(uuids);
+    }
+
+    private record Expansion(boolean brand, boolean category) {
+
+        static final Expansion NONE = new Expansion(false, false);
+
+        boolean any() {
+            return brand || category;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package com.projectArka.product_service.infrastructure.adapter.in.webflux;
+
+import com.projectArka.product_service.application.dto.CreateProductRequestDTO;
+import com.projectArka.product_service.application.dto.ProductImportResultDTO;
+import com.projectArka.product_service.application.mapper.ProductMapper;
+import com.projectArka.product_service.domain.model.ProductImportItem;
+import com.projectArka.product_service.domain.port.in.ImportProductsPort;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/products/bulk")
+@Tag(name = "Products", description = "Operations related to products")
+public class ProductImportController {
+
+    private final ImportProductsPort importProductsPort;
+    private final ProductMapper productMapper;
+    private final Validator validator;
+
+    public ProductImportController(ImportProductsPort importProductsPort,
+                                   ProductMapper productMapper,
+                                   Validator validator) {
+        this.importProductsPort = importProductsPort;
+        this.productMapper = productMapper;
+        this.validator = validator;
+    }
+
+    @Operation(summary = "Import products in bulk", description = "Imports a JSON array or NDJSON stream of products and reports the outcome of every item.")
+    @ApiResponse(responseCode = "200", description = "Import report", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductImportResultDTO.class, type = "array")))
+    @PostMapping(consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<ProductImportResultDTO> importProducts(@RequestBody Flux<CreateProductRequestDTO> requests) {
+        return importProductsPort.importProducts(requests.index()
+                        .map(indexed -> toImportItem(indexed.getT1(), indexed.getT2())))
+                .map(productMapper::toDTO);
+    }
+
+    private ProductImportItem toImportItem(long index, CreateProductRequestDTO requestDTO) {
+        Set<ConstraintViolation<CreateProductRequestDTO>> violations = validator.validate(requestDTO);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+            return ProductImportItem.invalid(index, requestDTO.getSku(), message);
+        }
+        return ProductImportItem.valid(index, productMapper.toEntity(requestDTO));
+    }
+}
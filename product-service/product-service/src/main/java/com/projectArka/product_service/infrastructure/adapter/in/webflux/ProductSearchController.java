@@ -0,0 +1,103 @@
+package com.projectArka.product_service.infrastructure.adapter.in.webflux;
+
+import com.projectArka.product_service.application.dto.ProductFacetsResponseDTO;
+import com.projectArka.product_service.application.dto.ProductResponseDTO;
+import com.projectArka.product_service.application.mapper.ProductMapper;
+import com.projectArka.product_service.domain.model.ProductFilter;
+import com.projectArka.product_service.domain.port.in.FilterProductsPort;
+import com.projectArka.product_service.domain.port.in.SearchProductsPort;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/products")
+@Tag(name = "Products", description = "Operations related to products")
+public class ProductSearchController {
+
+    private static final String FEATURE_PARAM_PREFIX = "feature.";
+
+    private final SearchProductsPort searchProductsPort;
+    private final FilterProductsPort filterProductsPort;
+    private final ProductMapper productMapper;
+
+    public ProductSearchController(SearchProductsPort searchProductsPort, FilterProductsPort filterProductsPort,
+                                   ProductMapper productMapper) {
+        this.searchProductsPort = searchProductsPort;
+        this.filterProductsPort = filterProductsPort;
+        this.productMapper = productMapper;
+    }
+
+    @Operation(summary = "Search products", description = "Full-text search over product names, descriptions and features, ranked by relevance.")
+    @ApiResponse(responseCode = "200", description = "Matching products, best match first", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductResponseDTO.class, type = "array")))
+    @ApiResponse(responseCode = "400", description = "Invalid query or limit")
+    @GetMapping("/search")
+    public Flux<ProductResponseDTO> searchProducts(@RequestParam("q") String query,
+                                                   @RequestParam(defaultValue = "20") int limit) {
+        return searchProductsPort.searchProducts(query, limit)
+                .map(productMapper::toDTO);
+    }
+
+    @Operation(summary = "Filter products by facets", description = "Filters products by feature values (feature.<name>=<value>), brandId and categoryId, returning the matching ids and the facet counts of the matching products. Repeated values of one feature are OR-ed, different filters are AND-ed.")
+    @ApiResponse(responseCode = "200", description = "Matching product ids and facet counts", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductFacetsResponseDTO.class)))
+    @ApiResponse(responseCode = "400", description = "Invalid filter or limit")
+    @GetMapping("/filter")
+    public Mono<ProductFacetsResponseDTO> filterProducts(@RequestParam MultiValueMap<String, String> params) {
+        return Mono.fromCallable(() -> toFilter(params))
+                .flatMap(filter -> filterProductsPort.filterProducts(filter, parseLimit(params.getFirst("limit"))))
+                .map(productMapper::toDTO);
+    }
+
+    private ProductFilter toFilter(MultiValueMap<String, String> params) {
+        Map<String, Set<String>> features = new HashMap<>();
+        for (Map.Entry<String, List<String>> param : params.entrySet()) {
+            if (param.getKey().startsWith(FEATURE_PARAM_PREFIX)) {
+                features.computeIfAbsent(param.getKey().substring(FEATURE_PARAM_PREFIX.length()), name -> new LinkedHashSet<>())
+                        .addAll(param.getValue());
+            }
+        }
+        return ProductFilter.builder()
+                .features(features)
+                .brandId(parseUUID(params.getFirst("brandId")))
+                .categoryId(parseUUID(params.getFirst("categoryId")))
+                .build();
+    }
+
+    private String parseUUID(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value).toString();
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid UUID format: " + value);
+        }
+    }
+
+    private int parseLimit(String value) {
+        if (value == null) {
+            return 100;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid limit: " + value);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.projectArka.product_service.infrastructure.adapter.in.webflux;
+
+import com.projectArka.product_service.application.dto.ReserveStockRequestDTO;
+import com.projectArka.product_service.application.dto.StockReservationResponseDTO;
+import com.projectArka.product_service.application.mapper.StockReservationMapper;
+import com.projectArka.product_service.domain.port.in.ReserveStockPort;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/products")
+@Tag(name = "Stock", description = "Stock reservations for products")
+public class StockController {
+
+    private final ReserveStockPort reserveStockPort;
+    private final StockReservationMapper stockReservationMapper;
+
+    public StockController(ReserveStockPort reserveStockPort, StockReservationMapper stockReservationMapper) {
+        this.reserveStockPort = reserveStockPort;
+        this.stockReservationMapper = stockReservationMapper;
+    }
+
+    @Operation(summary = "Reserve stock", description = "Atomically takes the quantity out of the product stock if enough is available.")
+    @ApiResponse(responseCode = "201", description = "Stock reserved", content = @Content(mediaType = "application/json", schema = @Schema(implementation = StockReservationResponseDTO.class)))
+    @ApiResponse(responseCode = "400", description = "Invalid request")
+    @ApiResponse(responseCode = "409", description = "Not enough stock or product not found")
+    @PostMapping("/{id}/reservations")
+    public Mono<ResponseEntity<StockReservationResponseDTO>> reserveStock(@PathVariable String id,
+                                                                          @Valid @RequestBody ReserveStockRequestDTO requestDTO) {
+        return parseUUID(id)
+                .flatMap(productId -> reserveStockPort.reserveStock(productId, requestDTO.getQuantity()))
+                .map(reservation -> ResponseEntity.status(HttpStatus.CREATED).body(stockReservationMapper.toDTO(reservation)));
+    }
+
+    @Operation(summary = "Commit a reservation", description = "Confirms a pending reservation; the reserved units stay out of stock.")
+    @ApiResponse(responseCode = "200", description = "Reservation committed", content = @Content(mediaType = "application/json", schema = @Schema(implementation = StockReservationResponseDTO.class)))
+    @ApiResponse(responseCode = "404", description = "No pending reservation with that ID")
+    @PostMapping("/reservations/{reservationId}/commit")
+    public Mono<StockReservationResponseDTO> commitReservation(@PathVariable String reservationId) {
+        return parseUUID(reservationId)
+                .flatMap(reserveStockPort::commitReservation)
+                .map(stockReservationMapper::toDTO);
+    }
+
+    @Operation(summary = "Release a reservation", description = "Cancels a pending reservation and returns its units to the product stock.")
+    @ApiResponse(responseCode = "200", description = "Reservation released", content = @Content(mediaType = "application/json", schema = @Schema(implementation = StockReservationResponseDTO.class)))
+    @ApiResponse(responseCode = "404", description = "No pending reservation with that ID")
+    @PostMapping("/reservations/{reservationId}/release")
+    public Mono<StockReservationResponseDTO> releaseReservation(@PathVariable String reservationId) {
+        return parseUUID(reservationId)
+                .flatMap(reserveStockPort::releaseReservation)
+                .map(stockReservationMapper::toDTO);
+    }
+
+    private Mono<UUID> parseUUID(String id) {
+        try {
+            return Mono.just(UUID.fromString(id));
+        } catch (IllegalArgumentException e) {
+            return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid ID. Must be a UUID."));
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package com.projectArka.product_service.infrastructure.adapter.out.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.projectArka.product_service.domain.exception.VersionConflictException;
+import com.projectArka.product_service.domain.model.CatalogVersion;
+import com.projectArka.product_service.domain.model.PageCursor;
+import com.projectArka.product_service.domain.model.PriceCursor;
+import com.projectArka.product_service.domain.model.PriceFilter;
+import com.projectArka.product_service.domain.model.Product;
+import com.projectArka.product_service.domain.model.ProductPatch;
+import com.projectArka.product_service.domain.model.ProductVersion;
+import com.projectArka.product_service.domain.port.out.ProductRepositoryPort;
+import com.projectArka.product_service.infrastructure.adapter.out.listener.StockChangeListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+
+public class CachingProductRepositoryAdapter implements ProductRepositoryPort, StockChangeListener {
+
+    private static final int GENERATION_STRIPES = 64;
+
+    private final ProductRepositoryPort delegate;
+    private final Cache<String, Product> productsById;
+    private final Cache<String, String> idsBySku;
+    private final Cache<String, String> idsByName;
+    private final AtomicLongArray changedAt = new AtomicLongArray(GENERATION_STRIPES);
+    private final AtomicLong clock = new AtomicLong();
+
+    public CachingProductRepositoryAdapter(ProductRepositoryPort delegate, long maximumSize, Duration ttl) {
+        this.delegate = delegate;
+        this.productsById = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.idsBySku = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.idsByName = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public void bindTo(MeterRegistry meterRegistry) {
+        CaffeineCacheMetrics.monitor(meterRegistry, productsById, "product.byId");
+        CaffeineCacheMetrics.monitor(meterRegistry, idsBySku, "product.bySku");
+        CaffeineCacheMetrics.monitor(meterRegistry, idsByName, "product.byName");
+    }
+
+    public CacheStats stats() {
+        return productsById.stats();
+    }
+
+    @Override
+    public Mono<Product> save(Product product) {
+        return Mono.defer(() -> {
+            evict(product.getId());
+            return delegate.save(product)
+                    .doOnNext(saved -> evict(saved.getId()))
+                    .doOnError(VersionConflictException.class, ex -> evict(product.getId()));
+        });
+    }
+
+    @Override
+    public Mono<Product> patch(String id, ProductPatch patch) {
+        return Mono.defer(() -> {
+            evict(id);
+            return delegate.patch(id, patch)
+                    .doOnNext(patched -> evict(patched.getId()))
+                    .doOnError(VersionConflictException.class, ex -> evict(id));
+        });
+    }
+
+    @Override
+    public Mono<Product> findById(String id) {
+        return Mono.defer(() -> {
+            Product cached = productsById.getIfPresent(id);
+            if (cached != null) {
+                return Mono.just(copyOf(cached));
+            }
+            long generation = clock.get();
+            return delegate.findById(id)
+                    .doOnNext(product -> put(generation, product));
+        });
+    }
+
+    @Override
+    public Mono<Product> findBySku(String sku) {
+        return Mono.defer(() -> {
+            Product cached = lookup(idsBySku.getIfPresent(sku));
+            if (cached != null && Objects.equals(cached.getSku(), sku)) {
+                return Mono.just(copyOf(cached));
+            }
+            long generation = clock.get();
+            return delegate.findBySku(sku)
+                    .doOnNext(product -> put(generation, product));
+        });
+    }
+
+    @Override
+    public Mono<Product> findByName(String name) {
+        return Mono.defer(() -> {
+            Product cached = lookup(idsByName.getIfPresent(name));
+            if (cached != null && Objects.equals(cached.getName(), name)) {
+                return Mono.just(copyOf(cached));
+            }
+            long generation = clock.get();
+            return delegate.findByName(name)
+                    .doOnNext(product -> put(generation, product));
+        });
+    }
+
+    @Override
+    public Flux<Product> findAllByIds(Collection<String> ids) {
+        return Flux.defer(() -> {
+            List<Product> hits = new ArrayList<>(ids.size());
+            List<String> misses = new ArrayList<>();
+            for (String id : ids) {
+                Product cached = productsById.getIfPresent(id);
+                if (cached != null) {
+                    hits.add(copyOf(cached));
+                } else {
+                    misses.add(id);
+                }
+            }
+            if (misses.isEmpty()) {
+                return Flux.fromIterable(hits);
+            }
+            long generation = clock.get();
+            return Flux.fromIterable(hits)
+                    .concatWith(delegate.findAllByIds(misses).doOnNext(product -> put(generation, product)));
+        });
+    }
+
+    @Override
+    public Flux<Product> findAllBySkus(Collection<String> skus) {
+        return Flux.defer(() -> {
+            List<Product> hits = new ArrayList<>(skus.size());
+            List<String> misses = new ArrayList<>();
+            for (String sku : skus) {
+                Product cached = lookup(idsBySku.getIfPresent(sku));
+                if (cached != null && Objects.equals(cached.getSku(), sku)) {
+                    hits.add(copyOf(cached));
+                } else {
+                    misses.add(sku);
+                }
+            }
+            if (misses.isEmpty()) {
+                return Flux.fromIterable(hits);
+            }
+            long generation = clock.get();
+            return Flux.fromIterable(hits)
+                    .concatWith(delegate.findAllBySkus(misses).doOnNext(product -> put(generation, product)));
+        });
+    }
+
+    @Override
+    public Flux<Product> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Flux<Product> findPage(PageCursor after, int limit) {
+        return delegate.findPage(after, limit);
+    }
+
+    @Override
+    public Flux<Product> findPageByPrice(PriceFilter filter, PriceCursor after, int limit) {
+        return delegate.findPageByPrice(filter, after, limit);
+    }
+
+    @Override
+    public Mono<ProductVersion> findVersionById(String id) {
+        return delegate.findVersionById(id);
+    }
+
+    @Override
+    public Mono<CatalogVersion> findCatalogVersion() {
+        return delegate.findCatalogVersion();
+    }
+
+    @Override
+    public Mono<Boolean> deleteById(String id) {
+        return Mono.defer(() -> {
+            evict(id);
+            return delegate.deleteById(id)
+                    .doFinally(signal -> evict(id));
+        });
+    }
+
+    @Override
+    public Flux<Product> findConflicting(Collection<String> skus, Collection<String> names) {
+        return delegate.findConflicting(skus, names);
+    }
+
+    @Override
+    public Flux<Product> insertAll(List<Product> products) {
+        return delegate.insertAll(products);
+    }
+
+    @Override
+    public void onStockChanged(String productId) {
+        evict(productId);
+    }
+
+    public void evict(String id) {
+        if (id == null) {
+            return;
+        }
+        long tick = clock.incrementAndGet();
+        changedAt.accumulateAndGet(stripe(id), tick, Math::max);
+        Product cached = productsById.asMap().remove(id);
+        if (cached != null) {
+            idsBySku.asMap().remove(cached.getSku(), id);
+            idsByName.asMap().remove(cached.getName(), id);
+        }
+    }
+
+    private Product lookup(String id) {
+        return id != null ? productsById.getIfPresent(id) : null;
+    }
+
+    // A read that started before a write must not put back the row the write evicted.
+    private void put(long generation, Product product) {
+        if (changedSince(product.getId(), generation)) {
+            return;
+        }
+        Product copy = copyOf(product);
+        productsById.put(product.getId(), copy);
+        if (product.getSku() != null) {
+            idsBySku.put(product.getSku(), product.getId());
+        }
+        if (product.getName() != null) {
+            idsByName.put(product.getName(), product.getId());
+        }
+        // An eviction that ran between the check and the put missed this entry.
+        if (changedSince(product.getId(), generation)) {
+            productsById.asMap().remove(product.getId(), copy);
+        }
+    }
+
+    private boolean changedSince(String id, long generation) {
+        return changedAt.get(stripe(id)) > generation;
+    }
+
+    private static int stripe(String id) {
+        return id.hashCode() & (GENERATION_STRIPES - 1);
+    }
+
+    private static Product copyOf(Product product) {
+        return product.toBuilder()
+                .features(product.getFeatures() == null ? null : product.getFeatures().stream()
+                        .map(feature -> feature.toBuilder().build())
+                        .collect(Collectors.toCollection(ArrayList::new)))
+                .build();
+    }
+}
@@ -0,0 +1,265 @@
+package com.projectArka.product_service.infrastructure.adapter.out.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.projectArka.product_service.domain.model.Product;
+import com.projectArka.product_service.infrastructure.adapter.out.listener.ProductChangeListener;
+import com.projectArka.product_service.infrastructure.adapter.out.listener.StockChangeListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufOutputStream;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the encoded JSON of product responses in pooled direct buffers, so a hit is written to the
+ * connection without mapping or serializing anything. Each response gets a retained duplicate of
+ * the cached buffer. An entry counts its own holders, so a duplicate is only ever taken from a
+ * buffer that is still alive; the last holder, the cache on eviction or a response in flight,
+ * releases it.
+ *
+ * A response loaded while its product changes must not be cached. Every change ticks a clock and
+ * stamps the tick on the stripe of the product id; {@link #put} only keeps an entry whose stripe
+ * was not stamped after the tick read when the load started, whether it was looked up by id or SKU.
+ */
+public class ProductJsonCache implements ProductChangeListener, StockChangeListener {
+
+    private static final int GENERATION_STRIPES = 64;
+
+    private final ObjectMapper objectMapper;
+    private final ByteBufAllocator allocator;
+    private final NettyDataBufferFactory bufferFactory;
+    private final boolean gzip;
+    private final Cache<String, Entry> entriesById;
+    private final Map<String, String> idsBySku = new ConcurrentHashMap<>();
+    private final AtomicLongArray changedAt = new AtomicLongArray(GENERATION_STRIPES);
+    private final AtomicLong clock = new AtomicLong();
+
+    public ProductJsonCache(ObjectMapper objectMapper, ByteBufAllocator allocator, long maximumBytes, boolean gzip) {
+        this.objectMapper = objectMapper;
+        this.allocator = allocator;
+        this.bufferFactory = new NettyDataBufferFactory(allocator);
+        this.gzip = gzip;
+        this.entriesById = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((String id, Entry entry) -> entry.size())
+                .executor(Runnable::run)
+                .removalListener((String id, Entry entry, RemovalCause cause) -> {
+                    if (entry != null) {
+                        if (entry.sku() != null) {
+                            idsBySku.remove(entry.sku(), entry.id());
+                        }
+                        entry.release();
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    public void bindTo(MeterRegistry meterRegistry) {
+        CaffeineCacheMetrics.monitor(meterRegistry, entriesById, "product.json");
+    }
+
+    public CacheStats stats() {
+        return entriesById.stats();
+    }
+
+    public long generation() {
+        return clock.get();
+    }
+
+    public Entry getById(String id) {
+        return entriesById.getIfPresent(id);
+    }
+
+    public Entry getBySku(String sku) {
+        String id = idsBySku.get(sku);
+        Entry entry = id == null ? null : entriesById.getIfPresent(id);
+        return entry != null && entry.sku().equals(sku) ? entry : null;
+    }
+
+    /**
+     * Encodes and caches the body, unless the product changed since {@code generation} was read;
+     * returns the cached entry, or null when it was not kept.
+     */
+    public Entry put(long generation, String id, String sku, String etag, Object body) {
+        ByteBuf json = encode(body, false);
+        ByteBuf gzippedJson = null;
+        if (gzip) {
+            try {
+                gzippedJson = encode(body, true);
+            } catch (RuntimeException ex) {
+                json.release();
+                throw ex;
+            }
+        }
+        Entry entry = new Entry(id, sku, etag, json, gzippedJson);
+        if (changedSince(id, generation)) {
+            entry.release();
+            return null;
+        }
+        entriesById.put(id, entry);
+        if (sku != null) {
+            idsBySku.put(sku, id);
+        }
+        // An invalidation that ran between the check and the put missed this entry.
+        if (changedSince(id, generation)) {
+            entriesById.asMap().remove(id, entry);
+            return null;
+        }
+        return entry;
+    }
+
+    public boolean gzip() {
+        return gzip;
+    }
+
+    public void invalidate(String id) {
+        long tick = clock.incrementAndGet();
+        changedAt.accumulateAndGet(stripe(id), tick, Math::max);
+        entriesById.invalidate(id);
+    }
+
+    private boolean changedSince(String id, long generation) {
+        return changedAt.get(stripe(id)) > generation;
+    }
+
+    @Override
+    public void onSaved(Product product) {
+        invalidate(product.getId());
+    }
+
+    @Override
+    public void onDeleted(String id) {
+        invalidate(id);
+    }
+
+    @Override
+    public void onStockChanged(String productId) {
+        invalidate(productId);
+    }
+
+    private ByteBuf encode(Object body, boolean gzipped) {
+        ByteBuf buffer = allocator.directBuffer();
+        try (OutputStream out = gzipped
+                ? new GZIPOutputStream(new ByteBufOutputStream(buffer))
+                : new ByteBufOutputStream(buffer)) {
+            objectMapper.writeValue(out, body);
+        } catch (IOException ex) {
+            buffer.release();
+            throw new UncheckedIOException(ex);
+        }
+        return buffer;
+    }
+
+    private static int stripe(String id) {
+        return id.hashCode() & (GENERATION_STRIPES - 1);
+    }
+
+    public final class Entry {
+
+        private final String id;
+        private final String sku;
+        private final String etag;
+        private final ByteBuf json;
+        private final ByteBuf gzippedJson;
+        private final AtomicInteger holders = new AtomicInteger(1);
+
+        private Entry(String id, String sku, String etag, ByteBuf json, ByteBuf gzippedJson) {
+            this.id = id;
+            this.sku = sku;
+            this.etag = etag;
+            this.json = json;
+            this.gzippedJson = gzippedJson;
+        }
+
+        public String id() {
+            return id;
+        }
+
+        public String sku() {
+            return sku;
+        }
+
+        public String etag() {
+            return etag;
+        }
+
+        public boolean hasGzip() {
+            return gzippedJson != null;
+        }
+
+        /**
+         * Keeps the buffers from being released until {@link #release()}, so the length and the bytes
+         * of one response come from the same entry; false when the entry was already released.
+         */
+        public boolean retain() {
+            return tryRetain();
+        }
+
+        public int length(boolean gzipped) {
+            return source(gzipped).readableBytes();
+        }
+
+        /**
+         * A buffer sharing the cached bytes with its own read position, or null when the entry was
+         * evicted and released in the meantime. The duplicate holds its own reference, so it stays
+         * valid after the entry is released.
+         */
+        public DataBuffer retainedBuffer(boolean gzipped) {
+            if (!tryRetain()) {
+                return null;
+            }
+            try {
+                return bufferFactory.wrap(source(gzipped).retainedDuplicate());
+            } finally {
+                release();
+            }
+        }
+
+        int size() {
+            return json.readableBytes() + (gzippedJson == null ? 0 : gzippedJson.readableBytes());
+        }
+
+        private ByteBuf source(boolean gzipped) {
+            return gzipped && gzippedJson != null ? gzippedJson : json;
+        }
+
+        // Never resurrects an entry: once the count is 0 its buffers may already be back in the pool.
+        private boolean tryRetain() {
+            for (;;) {
+                int count = holders.get();
+                if (count == 0) {
+                    return false;
+                }
+                if (holders.compareAndSet(count, count + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        public void release() {
+            if (holders.decrementAndGet() == 0) {
+                json.release();
+                if (gzippedJson != null) {
+                    gzippedJson.release();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.projectArka.product_service.infrastructure.adapter.out.dictionary;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Immutable in-memory snapshot of a small table, indexed by id and name. Readers get the current
+ * snapshot with one volatile read; writers replace it with a modified copy. Values handed out are
+ * copies, so callers can mutate them freely.
+ */
+public class Dictionary<T> {
+
+    private static final Logger logger = LoggerFactory.getLogger(Dictionary.class);
+
+    private final Supplier<Flux<T>> loader;
+    private final Function<T, String> idOf;
+    private final Function<T, String> nameOf;
+    private final UnaryOperator<T> copier;
+    private final Comparator<T> order;
+    private final AtomicReference<Snapshot<T>> snapshot = new AtomicReference<>();
+    private final AtomicLong writes = new AtomicLong();
+    private final Disposable.Swap refresher = Disposables.swap();
+
+    public Dictionary(Supplier<Flux<T>> loader, Function<T, String> idOf, Function<T, String> nameOf,
+                      UnaryOperator<T> copier, Comparator<T> order) {
+        this.loader = loader;
+        this.idOf = idOf;
+        this.nameOf = nameOf;
+        this.copier = copier;
+        this.order = order;
+    }
+
+    public void start(Duration refreshInterval) {
+        refresher.update(Flux.interval(Duration.ZERO, refreshInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> refresh()
+                        .onErrorResume(ex -> {
+                            logger.warn("Failed to refresh the dictionary, keeping the current snapshot: {}", ex.getMessage());
+                            return Mono.empty();
+                        }), 1)
+                .subscribe());
+    }
+
+    public void stop() {
+        refresher.dispose();
+    }
+
+    public boolean isLoaded() {
+        return snapshot.get() != null;
+    }
+
+    public Mono<Void> refresh() {
+        return Mono.defer(() -> {
+            long writesBefore = writes.get();
+            return loader.get()
+                    .collectList()
+                    .doOnNext(values -> {
+                        Snapshot<T> loaded = Snapshot.of(values, idOf, nameOf, order);
+                        // A write that landed while loading may be missing from the rows read; keep the
+                        // current snapshot and let the next refresh pick everything up.
+                        Snapshot<T> current = snapshot.get();
+                        if (writes.get() == writesBefore) {
+                            snapshot.compareAndSet(current, loaded);
+                        }
+                    })
+                    .then();
+        });
+    }
+
+    public T findById(String id) {
+        T value = snapshot.get().byId().get(id);
+        return value == null ? null : copier.apply(value);
+    }
+
+    public T findByName(String name) {
+        T value = snapshot.get().byName().get(name);
+        return value == null ? null : copier.apply(value);
+    }
+
+    public List<T> findAllByIds(Collection<String> ids) {
+        Map<String, T> byId = snapshot.get().byId();
+        List<T> copies = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            T value = byId.get(id);
+            if (value != null) {
+                copies.add(copier.apply(value));
+            }
+        }
+        return copies;
+    }
+
+    public List<T> findAll() {
+        List<T> values = snapshot.get().all();
+        List<T> copies = new ArrayList<>(values.size());
+        values.forEach(value -> copies.add(copier.apply(value)));
+        return copies;
+    }
+
+    public void put(T value) {
+        T stored = copier.apply(value);
+        writes.incrementAndGet();
+        snapshot.updateAndGet(current -> {
+            if (current == null) {
+                return null;
+            }
+            Map<String, T> byId = new HashMap<>(current.byId());
+            byId.put(idOf.apply(stored), stored);
+            return Snapshot.of(byId.values(), idOf, nameOf, order);
+        });
+    }
+
+    public void remove(String id) {
+        writes.incrementAndGet();
+        snapshot.updateAndGet(current -> {
+            if (current == null || !current.byId().containsKey(id)) {
+                return current;
+            }
+            Map<String, T> byId = new HashMap<>(current.byId());
+            byId.remove(id);
+            return Snapshot.of(byId.values(), idOf, nameOf, order);
+        });
+    }
+
+    private record Snapshot<T>(Map<String, T> byId, Map<String, T> byName, List<T> all) {
+
+        static <T> Snapshot<T> of(Iterable<T> values, Function<T, String> idOf, Function<T, String> nameOf,
+                                  Comparator<T> order) {
+            Map<String, T> byId = new HashMap<>();
+            Map<String, T> byName = new HashMap<>();
+            List<T> all = new ArrayList<>();
+            for (T value : values) {
+                byId.put(idOf.apply(value), value);
+                byName.put(nameOf.apply(value), value);
+                all.add(value);
+            }
+            all.sort(order);
+            return new Snapshot<>(Map.copyOf(byId), Map.copyOf(byName), List.copyOf(all));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.projectArka.product_service.infrastructure.adapter.out.dictionary;
+
+import com.projectArka.product_service.domain.exception.VersionConflictException;
+import com.projectArka.product_service.domain.model.Brand;
+import com.projectArka.product_service.domain.model.PageCursor;
+import com.projectArka.product_service.domain.port.out.BrandRepositoryPort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+
+/**
+ * Serves brand lookups from a preloaded snapshot of the whole table, refreshed periodically and
+ * after every write made through this adapter. Until the first load completes, reads go to the
+ * delegate.
+ */
+public class DictionaryBrandRepositoryAdapter implements BrandRepositoryPort {
+
+    private final BrandRepositoryPort delegate;
+    private final Dictionary<Brand> dictionary;
+    private final Duration refreshInterval;
+
+    public DictionaryBrandRepositoryAdapter(BrandRepositoryPort delegate, Duration refreshInterval) {
+        this.delegate = delegate;
+        this.refreshInterval = refreshInterval;
+        this.dictionary = new Dictionary<>(delegate::findAll, Brand::getId, Brand::getName,
+                brand -> brand.toBuilder().build(),
+                Comparator.comparing(Brand::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(Brand::getId));
+    }
+
+    public void start() {
+        dictionary.start(refreshInterval);
+    }
+
+    public void stop() {
+        dictionary.stop();
+    }
+
+    public Mono<Void> refresh() {
+        return dictionary.refresh();
+    }
+
+    @Override
+    public Mono<Brand> save(Brand brand) {
+        return delegate.save(brand)
+                .doOnNext(dictionary::put)
+                .onErrorResume(VersionConflictException.class, ex -> delegate.findById(brand.getId())
+                        .doOnNext(dictionary::put)
+                        .then(Mono.error(ex)));
+    }
+
+    @Override
+    public Mono<Brand> findById(String id) {
+        if (!dictionary.isLoaded()) {
+            return delegate.findById(id);
+        }
+        return Mono.fromSupplier(() -> dictionary.findById(id));
+    }
+
+    @Override
+    public Mono<Brand> findByName(String name) {
+        if (!dictionary.isLoaded()) {
+            return delegate.findByName(name);
+        }
+        return Mono.fromSupplier(() -> dictionary.findByName(name));
+    }
+
+    @Override
+    public Flux<Brand> findAll() {
+        if (!dictionary.isLoaded()) {
+            return delegate.findAll();
+        }
+        return Flux.defer(() -> Flux.fromIterable(dictionary.findAll()));
+    }
+
+    @Override
+    public Flux<Brand> findAllByIds(Collection<String> ids) {
+        if (!dictionary.isLoaded()) {
+            return delegate.findAllByIds(ids);
+        }
+        return Flux.defer(() -> Flux.fromIterable(dictionary.findAllByIds(ids)));
+    }
+
+    @Override
+    public Flux<Brand> findPage(PageCursor after, int limit) {
+        return delegate.findPage(after, limit);
+    }
+
+    @Override
+    public Mono<Void> deleteById(String id) {
+        return delegate.deleteById(id)
+                .doOnSuccess(done -> dictionary.remove(id));
+    }
+}
@@ -0,0 +1,98 @@
+package com.projectArka.product_service.infrastructure.adapter.out.dictionary;
+
+import com.projectArka.product_service.domain.exception.VersionConflictException;
+import com.projectArka.product_service.domain.model.Category;
+import com.projectArka.product_service.domain.model.PageCursor;
+import com.projectArka.product_service.domain.port.out.CategoryRepositoryPort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * Serves category lookups from a preloaded snapshot of the whole table, refreshed periodically and
+ * after every write made through this adapter. Until the first load completes, reads go to the
+ * delegate.
+ */
+public class DictionaryCategoryRepositoryAdapter implements CategoryRepositoryPort {
+
+    private final CategoryRepositoryPort delegate;
+    private final Dictionary<Category> dictionary;
+    private final Duration refreshInterval;
+
+    public DictionaryCategoryRepositoryAdapter(CategoryRepositoryPort delegate, Duration refreshInterval) {
+        this.delegate = delegate;
+        this.refreshInterval = refreshInterval;
+        this.dictionary = new Dictionary<>(delegate::findAll, Category::getId, Category::getName,
+                category -> category.toBuilder().build(),
+                Comparator.comparing(Category::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(Category::getId));
+    }
+
+    public void start() {
+        dictionary.start(refreshInterval);
+    }
+
+    public void stop() {
+        dictionary.stop();
+    }
+
+    public Mono<Void> refresh() {
+        return dictionary.refresh();
+    }
+
+    @Override
+    public Mono<Category> save(Category category) {
+        return delegate.save(category)
+                .doOnNext(dictionary::put)
+                .onErrorResume(VersionConflictException.class, ex -> delegate.findById(category.getId())
+                        .doOnNext(dictionary::put)
+                        .then(Mono.error(ex)));
+    }
+
+    @Override
+    public Mono<Category> findById(String id) {
+        if (!dictionary.isLoaded()) {
+            return delegate.findById(id);
+        }
+        return Mono.fromSupplier(() -> dictionary.findById(id));
+    }
+
+    @Override
+    public Mono<Category> findByName(String name) {
+        if (!dictionary.isLoaded()) {
+            return delegate.findByName(name);
+        }
+        return Mono.fromSupplier(() -> dictionary.findByName(name));
+    }
+
+    @Override
+    public Flux<Category> findAll() {
+        if (!dictionary.isLoaded()) {
+            return delegate.findAll();
+        }
+        return Flux.defer(() -> Flux.fromIterable(dictionary.findAll()));
+    }
+
+    @Override
+    public Flux<Category> findAllByIds(Collection<String> ids) {
+        if (!dictionary.isLoaded()) {
+            return delegate.findAllByIds(ids);
+        }
+        return Flux.defer(() -> Flux.fromIterable(dictionary.findAllByIds(ids)));
+    }
+
+    @Override
+    public Flux<Category> findPage(PageCursor after, int limit) {
+        return delegate.findPage(after, limit);
+    }
+
+    @Override
+    public Mono<Void> deleteById(UUID id) {
+        return delegate.deleteById(id)
+                .doOnSuccess(done -> dictionary.remove(id.toString()));
+    }
+}
@@ -0,0 +1,132 @@
+package com.projectArka.product_service.infrastructure.adapter.out.existence;
+
+import com.projectArka.product_service.domain.model.CatalogVersion;
+import com.projectArka.product_service.domain.model.PageCursor;
+import com.projectArka.product_service.domain.model.PriceCursor;
+import com.projectArka.product_service.domain.model.PriceFilter;
+import com.projectArka.product_service.domain.model.Product;
+import com.projectArka.product_service.domain.model.ProductPatch;
+import com.projectArka.product_service.domain.model.ProductVersion;
+import com.projectArka.product_service.domain.port.out.ProductRepositoryPort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Answers lookups for products that certainly do not exist from the {@link ProductExistenceFilter}
+ * instead of the delegate. Batches only send the keys that may exist.
+ */
+public class ExistenceFilterProductRepositoryAdapter implements ProductRepositoryPort {
+
+    private final ProductRepositoryPort delegate;
+    private final ProductExistenceFilter filter;
+
+    public ExistenceFilterProductRepositoryAdapter(ProductRepositoryPort delegate, ProductExistenceFilter filter) {
+        this.delegate = delegate;
+        this.filter = filter;
+    }
+
+    @Override
+    public Mono<Product> save(Product product) {
+        return delegate.save(product);
+    }
+
+    @Override
+    public Mono<Product> patch(String id, ProductPatch patch) {
+        return delegate.patch(id, patch);
+    }
+
+    @Override
+    public Mono<Product> findById(String id) {
+        return Mono.defer(() -> filter.mightContainId(id)
+                ? recorded(delegate.findById(id))
+                : Mono.empty());
+    }
+
+    @Override
+    public Mono<Product> findBySku(String sku) {
+        return Mono.defer(() -> filter.mightContainSku(sku)
+                ? recorded(delegate.findBySku(sku))
+                : Mono.empty());
+    }
+
+    @Override
+    public Mono<Product> findByName(String name) {
+        return Mono.defer(() -> filter.mightContainName(name)
+                ? recorded(delegate.findByName(name))
+                : Mono.empty());
+    }
+
+    @Override
+    public Flux<Product> findAllByIds(Collection<String> ids) {
+        return Flux.defer(() -> {
+            List<String> candidates = ids.stream()
+                    .filter(filter::mightContainId)
+                    .toList();
+            return candidates.isEmpty() ? Flux.empty() : delegate.findAllByIds(candidates);
+        });
+    }
+
+    @Override
+    public Flux<Product> findAllBySkus(Collection<String> skus) {
+        return Flux.defer(() -> {
+            List<String> candidates = skus.stream()
+                    .filter(filter::mightContainSku)
+                    .toList();
+            return candidates.isEmpty() ? Flux.empty() : delegate.findAllBySkus(candidates);
+        });
+    }
+
+    @Override
+    public Flux<Product> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Flux<Product> findPage(PageCursor after, int limit) {
+        return delegate.findPage(after, limit);
+    }
+
+    @Override
+    public Flux<Product> findPageByPrice(PriceFilter priceFilter, PriceCursor after, int limit) {
+        return delegate.findPageByPrice(priceFilter, after, limit);
+    }
+
+    @Override
+    public Mono<ProductVersion> findVersionById(String id) {
+        return Mono.defer(() -> filter.mightContainId(id)
+                ? recorded(delegate.findVersionById(id))
+                : Mono.empty());
+    }
+
+    @Override
+    public Mono<CatalogVersion> findCatalogVersion() {
+        return delegate.findCatalogVersion();
+    }
+
+    @Override
+    public Mono<Boolean> deleteById(String id) {
+        return delegate.deleteById(id);
+    }
+
+    // The uniqueness check of an import is skipped when none of its SKUs and names can exist;
+    // otherwise the delegate checks them all, it is one statement either way.
+    @Override
+    public Flux<Product> findConflicting(Collection<String> skus, Collection<String> names) {
+        return Flux.defer(() -> skus.stream().noneMatch(filter::mightContainSku)
+                && names.stream().noneMatch(filter::mightContainName)
+                ? Flux.empty()
+                : delegate.findConflicting(skus, names));
+    }
+
+    @Override
+    public Flux<Product> insertAll(List<Product> products) {
+        return delegate.insertAll(products);
+    }
+
+    private <T> Mono<T> recorded(Mono<T> lookup) {
+        return lookup.doOnSuccess(found -> filter.recordLookup(found != null));
+    }
+}
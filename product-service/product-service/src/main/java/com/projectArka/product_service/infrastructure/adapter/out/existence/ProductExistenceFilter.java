@@ -0,0 +1,154 @@
+package com.projectArka.product_service.infrastructure.adapter.out.existence;
+
+import com.projectArka.product_service.domain.model.Product;
+import com.projectArka.product_service.infrastructure.adapter.out.listener.ProductIndex;
+import com.projectArka.product_service.infrastructure.metrics.MetricNames;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tells lookups by id, SKU and name that a product certainly does not exist, without asking the
+ * database. It is loaded with the other product indexes at startup, follows every write made
+ * through this instance, and learns about writes made elsewhere from the catalog change feed
+ * (see {@link ProductExistenceFilterFeed}). Until the load completes, and whenever the feed is
+ * down or behind, every key is reported as possibly present. A product written through another
+ * instance can still be reported absent for the feed's poll interval after its commit.
+ *
+ * A Bloom filter cannot forget, so deleted products and replaced SKUs and names stay in it until
+ * the next load. That only raises the false-positive rate, which is published next to the rate
+ * the filter was sized for.
+ */
+public class ProductExistenceFilter implements ProductIndex {
+
+    private static final String ID = "id:";
+    private static final String SKU = "sku:";
+    private static final String NAME = "name:";
+
+    private final long expectedProducts;
+    private final double fpp;
+    private volatile ScalableBloomFilter filter;
+    private volatile boolean loaded;
+    private volatile boolean caughtUp;
+
+    private final LongAdder absent = new LongAdder();
+    private final LongAdder present = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    public ProductExistenceFilter(long expectedProducts, double fpp) {
+        this.expectedProducts = expectedProducts;
+        this.fpp = fpp;
+        this.filter = newFilter();
+    }
+
+    public void bindTo(MeterRegistry meterRegistry) {
+        FunctionCounter.builder(MetricNames.EXISTENCE_FILTER_CHECKS, absent, LongAdder::sum)
+                .tag("result", "absent")
+                .register(meterRegistry);
+        FunctionCounter.builder(MetricNames.EXISTENCE_FILTER_CHECKS, present, LongAdder::sum)
+                .tag("result", "present")
+                .register(meterRegistry);
+        FunctionCounter.builder(MetricNames.EXISTENCE_FILTER_CHECKS, falsePositives, LongAdder::sum)
+                .tag("result", "false_positive")
+                .register(meterRegistry);
+        Gauge.builder(MetricNames.EXISTENCE_FILTER_FPP, this, ProductExistenceFilter::expectedFpp)
+                .tag("kind", "expected")
+                .register(meterRegistry);
+        Gauge.builder(MetricNames.EXISTENCE_FILTER_FPP, this, ProductExistenceFilter::observedFpp)
+                .tag("kind", "observed")
+                .register(meterRegistry);
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public void setCaughtUp(boolean caughtUp) {
+        this.caughtUp = caughtUp;
+    }
+
+    public boolean mightContainId(String id) {
+        return mightContain(ID, id);
+    }
+
+    public boolean mightContainSku(String sku) {
+        return mightContain(SKU, sku);
+    }
+
+    public boolean mightContainName(String name) {
+        return mightContain(NAME, name);
+    }
+
+    // Called with the outcome of a lookup the filter let through.
+    public void recordLookup(boolean found) {
+        if (loaded && caughtUp) {
+            (found ? present : falsePositives).increment();
+        }
+    }
+
+    public double expectedFpp() {
+        return filter.expectedFpp();
+    }
+
+    // Among the keys that did not exist, the share the filter failed to reject.
+    public double observedFpp() {
+        long missed = falsePositives.sum();
+        long total = missed + absent.sum();
+        return total == 0 ? 0 : (double) missed / total;
+    }
+
+    // If a reload swapped the filter meanwhile, the keys go into the new one as well.
+    @Override
+    public void onSaved(Product product) {
+        ScalableBloomFilter current = filter;
+        while (true) {
+            add(current, ID, product.getId());
+            add(current, SKU, product.getSku());
+            add(current, NAME, product.getName());
+            ScalableBloomFilter latest = filter;
+            if (latest == current) {
+                return;
+            }
+            current = latest;
+        }
+    }
+
+    // Nothing to remove: the keys of a deleted product stay until the next load.
+    @Override
+    public void onDeleted(String id) {
+    }
+
+    @Override
+    public void clear() {
+        loaded = false;
+        filter = newFilter();
+    }
+
+    @Override
+    public void onLoaded() {
+        loaded = true;
+    }
+
+    private boolean mightContain(String prefix, String key) {
+        if (!loaded || !caughtUp || key == null) {
+            return true;
+        }
+        boolean maybe = filter.mightContain(prefix + key);
+        if (!maybe) {
+            absent.increment();
+        }
+        return maybe;
+    }
+
+    private static void add(ScalableBloomFilter filter, String prefix, String key) {
+        if (key != null) {
+            filter.add(prefix + key);
+        }
+    }
+
+    private ScalableBloomFilter newFilter() {
+        return new ScalableBloomFilter(Math.max(1, expectedProducts) * 3, fpp);
+    }
+}
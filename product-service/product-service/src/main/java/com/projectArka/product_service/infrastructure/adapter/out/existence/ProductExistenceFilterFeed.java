@@ -0,0 +1,92 @@
+package com.projectArka.product_service.infrastructure.adapter.out.existence;
+
+import com.projectArka.product_service.domain.exception.ChangeFeedExpiredException;
+import com.projectArka.product_service.domain.model.CatalogChange;
+import com.projectArka.product_service.domain.port.in.StreamCatalogChangesPort;
+import com.projectArka.product_service.domain.port.out.CatalogChangeRepositoryPort;
+import com.projectArka.product_service.domain.port.out.ProductRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Adds the products saved through any instance to the existence filter by following the catalog
+ * change outbox. The filter only answers once the feed has reached the last change that existed
+ * when it started; after an error it stands aside again until the feed has caught up from where
+ * it stopped.
+ */
+public class ProductExistenceFilterFeed {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductExistenceFilterFeed.class);
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(1);
+
+    private final StreamCatalogChangesPort streamCatalogChangesPort;
+    private final CatalogChangeRepositoryPort catalogChangeRepositoryPort;
+    private final ProductRepositoryPort productRepositoryPort;
+    private final ProductExistenceFilter filter;
+    private final Disposable.Swap subscription = Disposables.swap();
+    private volatile Long position;
+
+    public ProductExistenceFilterFeed(StreamCatalogChangesPort streamCatalogChangesPort,
+                                      CatalogChangeRepositoryPort catalogChangeRepositoryPort,
+                                      ProductRepositoryPort productRepositoryPort, ProductExistenceFilter filter) {
+        this.streamCatalogChangesPort = streamCatalogChangesPort;
+        this.catalogChangeRepositoryPort = catalogChangeRepositoryPort;
+        this.productRepositoryPort = productRepositoryPort;
+        this.filter = filter;
+    }
+
+    public void start() {
+        follow();
+    }
+
+    public void stop() {
+        subscription.dispose();
+    }
+
+    private void follow() {
+        filter.setCaughtUp(false);
+        subscription.update(catalogChangeRepositoryPort.findLatestSequence()
+                .defaultIfEmpty(0L)
+                .flatMapMany(latest -> {
+                    long from = position != null ? position : latest;
+                    position = from;
+                    if (from >= latest) {
+                        filter.setCaughtUp(true);
+                    }
+                    return streamCatalogChangesPort.streamChanges(from)
+                            .concatMap(change -> apply(change).thenReturn(change.getSequence()))
+                            .doOnNext(sequence -> {
+                                position = sequence;
+                                if (sequence >= latest) {
+                                    filter.setCaughtUp(true);
+                                }
+                            });
+                })
+                .subscribe(null, this::onError));
+    }
+
+    private Mono<Void> apply(CatalogChange change) {
+        if (change.getEntityType() != CatalogChange.EntityType.PRODUCT || change.getType() != CatalogChange.Type.SAVED) {
+            return Mono.empty();
+        }
+        return productRepositoryPort.findById(change.getEntityId())
+                .doOnNext(filter::onSaved)
+                .then();
+    }
+
+    private void onError(Throwable ex) {
+        filter.setCaughtUp(false);
+        if (ex instanceof ChangeFeedExpiredException) {
+            logger.error("The existence filter missed catalog changes, lookups go to the database until restart: {}",
+                    ex.getMessage());
+            return;
+        }
+        logger.warn("Failed to follow catalog changes for the existence filter, retrying: {}", ex.getMessage());
+        subscription.update(Mono.delay(RETRY_DELAY).subscribe(tick -> follow()));
+    }
+}
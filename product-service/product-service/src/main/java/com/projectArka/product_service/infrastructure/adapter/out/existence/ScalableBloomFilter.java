@@ -0,0 +1,151 @@
+package com.projectArka.product_service.infrastructure.adapter.out.existence;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A Bloom filter that grows instead of degrading: once a slice holds the keys it was sized for, a
+ * new slice twice as large is opened at half the false-positive probability, so the compound
+ * probability stays under the target however many keys are added (Almeida et al., "Scalable Bloom
+ * Filters"). Bits are set on a long array with atomic updates, so adds and lookups take no lock;
+ * only opening a slice is synchronized.
+ */
+public class ScalableBloomFilter {
+
+    private static final double TIGHTENING_RATIO = 0.5;
+    private static final int GROWTH_FACTOR = 2;
+
+    private volatile Slice[] slices;
+
+    public ScalableBloomFilter(long initialCapacity, double targetFpp) {
+        if (initialCapacity <= 0 || targetFpp <= 0 || targetFpp >= 1) {
+            throw new IllegalArgumentException("The capacity must be positive and the false-positive probability between 0 and 1");
+        }
+        this.slices = new Slice[]{new Slice(initialCapacity, targetFpp * (1 - TIGHTENING_RATIO))};
+    }
+
+    public void add(String key) {
+        long hash = hash(key);
+        long h1 = mix(hash);
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+        Slice[] current = slices;
+        for (Slice slice : current) {
+            if (slice.mightContain(h1, h2)) {
+                return;
+            }
+        }
+        Slice last = current[current.length - 1];
+        if (last.count.sum() >= last.capacity) {
+            last = grow(last);
+        }
+        last.put(h1, h2);
+    }
+
+    public boolean mightContain(String key) {
+        long hash = hash(key);
+        long h1 = mix(hash);
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+        for (Slice slice : slices) {
+            if (slice.mightContain(h1, h2)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // The probability that a key never added is reported as present, from the keys in each slice.
+    public double expectedFpp() {
+        double none = 1;
+        for (Slice slice : slices) {
+            double filled = 1 - Math.exp(-(double) slice.hashes * slice.count.sum() / slice.bits);
+            none *= 1 - Math.pow(filled, slice.hashes);
+        }
+        return 1 - none;
+    }
+
+    public long count() {
+        long count = 0;
+        for (Slice slice : slices) {
+            count += slice.count.sum();
+        }
+        return count;
+    }
+
+    public int sliceCount() {
+        return slices.length;
+    }
+
+    private synchronized Slice grow(Slice full) {
+        Slice[] current = slices;
+        Slice last = current[current.length - 1];
+        if (last != full) {
+            return last;
+        }
+        Slice next = new Slice(full.capacity * GROWTH_FACTOR, full.fpp * TIGHTENING_RATIO);
+        Slice[] grown = Arrays.copyOf(current, current.length + 1);
+        grown[current.length] = next;
+        slices = grown;
+        return next;
+    }
+
+    private static long hash(String key) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    private static final class Slice {
+
+        private final long capacity;
+        private final double fpp;
+        private final long bits;
+        private final int hashes;
+        private final AtomicLongArray words;
+        private final LongAdder count = new LongAdder();
+
+        private Slice(long capacity, double fpp) {
+            this.capacity = capacity;
+            this.fpp = fpp;
+            double ln2 = Math.log(2);
+            long optimalBits = (long) Math.ceil(-capacity * Math.log(fpp) / (ln2 * ln2));
+            this.bits = Math.max(64, (optimalBits + 63) & ~63L);
+            this.hashes = Math.max(1, (int) Math.round((double) bits / capacity * ln2));
+            this.words = new AtomicLongArray(Math.toIntExact(bits >>> 6));
+        }
+
+        private void put(long h1, long h2) {
+            for (int i = 0; i < hashes; i++) {
+                long index = Math.floorMod(h1 + i * h2, bits);
+                long mask = 1L << index;
+                int word = (int) (index >>> 6);
+                if ((words.get(word) & mask) == 0) {
+                    words.getAndAccumulate(word, mask, (current, bit) -> current | bit);
+                }
+            }
+            count.increment();
+        }
+
+        private boolean mightContain(long h1, long h2) {
+            for (int i = 0; i < hashes; i++) {
+                long index = Math.floorMod(h1 + i * h2, bits);
+                if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
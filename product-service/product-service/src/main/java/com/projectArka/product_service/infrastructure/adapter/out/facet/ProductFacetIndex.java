@@ -0,0 +1,235 @@
+package com.projectArka.product_service.infrastructure.adapter.out.facet;
+
+import com.projectArka.product_service.domain.model.Product;
+import com.projectArka.product_service.domain.model.ProductFacets;
+import com.projectArka.product_service.domain.model.ProductFeature;
+import com.projectArka.product_service.domain.model.ProductFilter;
+import com.projectArka.product_service.domain.port.out.ProductFacetPort;
+import com.projectArka.product_service.infrastructure.adapter.out.listener.ProductIndex;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+public class ProductFacetIndex implements ProductIndex, ProductFacetPort {
+
+    private static final byte FEATURE = 0;
+    private static final byte BRAND = 1;
+    private static final byte CATEGORY = 2;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<FacetKey, Integer> keyIds = new HashMap<>();
+    private FacetKey[] keys = new FacetKey[256];
+    private BitSet[] bitmaps = new BitSet[256];
+    private int keyCount;
+
+    private final Map<String, Integer> docsByProductId = new HashMap<>();
+    private String[] productIds = new String[1024];
+    private int[][] docKeys = new int[1024][];
+    private final BitSet liveDocs = new BitSet();
+    private int[] freeDocs = new int[64];
+    private int freeCount;
+    private int docCount;
+
+    @Override
+    public void onSaved(Product product) {
+        lock.writeLock().lock();
+        try {
+            removeDoc(product.getId());
+            addDoc(product);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onDeleted(String id) {
+        lock.writeLock().lock();
+        try {
+            removeDoc(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            keyIds.clear();
+            keys = new FacetKey[256];
+            bitmaps = new BitSet[256];
+            keyCount = 0;
+            docsByProductId.clear();
+            productIds = new String[1024];
+            docKeys = new int[1024][];
+            liveDocs.clear();
+            freeCount = 0;
+            docCount = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Mono<ProductFacets> filter(ProductFilter filter, int limit) {
+        return Mono.fromSupplier(() -> facets(filter, limit));
+    }
+
+    public ProductFacets facets(ProductFilter filter, int limit) {
+        lock.readLock().lock();
+        try {
+            BitSet matches = (BitSet) liveDocs.clone();
+            if (filter != null) {
+                if (filter.getBrandId() != null) {
+                    matches.and(bitmap(new FacetKey(BRAND, filter.getBrandId(), null)));
+                }
+                if (filter.getCategoryId() != null) {
+                    matches.and(bitmap(new FacetKey(CATEGORY, filter.getCategoryId(), null)));
+                }
+                if (filter.getFeatures() != null) {
+                    for (Map.Entry<String, Set<String>> feature : filter.getFeatures().entrySet()) {
+                        BitSet anyValue = new BitSet();
+                        for (String value : feature.getValue()) {
+                            anyValue.or(bitmap(new FacetKey(FEATURE, feature.getKey(), value)));
+                        }
+                        matches.and(anyValue);
+                    }
+                }
+            }
+
+            int[] counts = new int[keyCount];
+            List<String> ids = new ArrayList<>(Math.min(limit, matches.cardinality()));
+            int total = 0;
+            for (int doc = matches.nextSetBit(0); doc >= 0; doc = matches.nextSetBit(doc + 1)) {
+                for (int keyId : docKeys[doc]) {
+                    counts[keyId]++;
+                }
+                if (ids.size() < limit) {
+                    ids.add(productIds[doc]);
+                }
+                total++;
+            }
+
+            Map<String, Map<String, Integer>> features = new TreeMap<>();
+            Map<String, Integer> brands = new TreeMap<>();
+            Map<String, Integer> categories = new TreeMap<>();
+            for (int keyId = 0; keyId < keyCount; keyId++) {
+                if (counts[keyId] == 0) {
+                    continue;
+                }
+                FacetKey key = keys[keyId];
+                switch (key.kind()) {
+                    case FEATURE -> features.computeIfAbsent(key.name(), name -> new TreeMap<>()).put(key.value(), counts[keyId]);
+                    case BRAND -> brands.put(key.name(), counts[keyId]);
+                    default -> categories.put(key.name(), counts[keyId]);
+                }
+            }
+
+            return ProductFacets.builder()
+                    .total(total)
+                    .productIds(ids)
+                    .features(features)
+                    .brands(brands)
+                    .categories(categories)
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addDoc(Product product) {
+        Set<FacetKey> productKeys = new LinkedHashSet<>();
+        if (product.getBrandId() != null) {
+            productKeys.add(new FacetKey(BRAND, product.getBrandId().toString(), null));
+        }
+        if (product.getCategoryId() != null) {
+            productKeys.add(new FacetKey(CATEGORY, product.getCategoryId().toString(), null));
+        }
+        if (product.getFeatures() != null) {
+            for (ProductFeature feature : product.getFeatures()) {
+                if (feature.getName() != null && feature.getValue() != null) {
+                    productKeys.add(new FacetKey(FEATURE, feature.getName(), feature.getValue()));
+                }
+            }
+        }
+
+        int doc = allocateDoc(product.getId());
+        int[] docKeyIds = new int[productKeys.size()];
+        int position = 0;
+        for (FacetKey key : productKeys) {
+            int keyId = keyId(key);
+            bitmaps[keyId].set(doc);
+            docKeyIds[position++] = keyId;
+        }
+        docKeys[doc] = docKeyIds;
+        liveDocs.set(doc);
+    }
+
+    private void removeDoc(String productId) {
+        Integer doc = docsByProductId.remove(productId);
+        if (doc == null) {
+            return;
+        }
+        for (int keyId : docKeys[doc]) {
+            bitmaps[keyId].clear(doc);
+        }
+        liveDocs.clear(doc);
+        productIds[doc] = null;
+        docKeys[doc] = null;
+        if (freeCount == freeDocs.length) {
+            freeDocs = Arrays.copyOf(freeDocs, freeCount * 2);
+        }
+        freeDocs[freeCount++] = doc;
+    }
+
+    private int allocateDoc(String productId) {
+        int doc;
+        if (freeCount > 0) {
+            doc = freeDocs[--freeCount];
+        } else {
+            if (docCount == productIds.length) {
+                productIds = Arrays.copyOf(productIds, docCount * 2);
+                docKeys = Arrays.copyOf(docKeys, docCount * 2);
+            }
+            doc = docCount++;
+        }
+        productIds[doc] = productId;
+        docsByProductId.put(productId, doc);
+        return doc;
+    }
+
+    private int keyId(FacetKey key) {
+        Integer keyId = keyIds.get(key);
+        if (keyId != null) {
+            return keyId;
+        }
+        if (keyCount == keys.length) {
+            keys = Arrays.copyOf(keys, keyCount * 2);
+            bitmaps = Arrays.copyOf(bitmaps, keyCount * 2);
+        }
+        keys[keyCount] = key;
+        bitmaps[keyCount] = new BitSet();
+        keyIds.put(key, keyCount);
+        return keyCount++;
+    }
+
+    private BitSet bitmap(FacetKey key) {
+        Integer keyId = keyIds.get(key);
+        return keyId == null ? new BitSet() : bitmaps[keyId];
+    }
+
+    private record FacetKey(byte kind, String name, String value) {
+    }
+}
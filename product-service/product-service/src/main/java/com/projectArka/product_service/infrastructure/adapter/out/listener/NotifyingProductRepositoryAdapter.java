@@ -0,0 +1,114 @@
+package com.projectArka.product_service.infrastructure.adapter.out.listener;
+
+import com.projectArka.product_service.domain.model.CatalogVersion;
+import com.projectArka.product_service.domain.model.PageCursor;
+import com.projectArka.product_service.domain.model.PriceCursor;
+import com.projectArka.product_service.domain.model.PriceFilter;
+import com.projectArka.product_service.domain.model.Product;
+import com.projectArka.product_service.domain.model.ProductPatch;
+import com.projectArka.product_service.domain.model.ProductVersion;
+import com.projectArka.product_service.domain.port.out.ProductRepositoryPort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+
+public class NotifyingProductRepositoryAdapter implements ProductRepositoryPort {
+
+    private final ProductRepositoryPort delegate;
+    private final List<ProductChangeListener> listeners;
+
+    public NotifyingProductRepositoryAdapter(ProductRepositoryPort delegate, List<ProductChangeListener> listeners) {
+        this.delegate = delegate;
+        this.listeners = List.copyOf(listeners);
+    }
+
+    @Override
+    public Mono<Product> save(Product product) {
+        return delegate.save(product)
+                .doOnNext(this::publishSaved);
+    }
+
+    // A patch that leaves the stock alone must not reset the stock kept by the listeners.
+    @Override
+    public Mono<Product> patch(String id, ProductPatch patch) {
+        return delegate.patch(id, patch)
+                .doOnNext(patched -> publishSaved(patch.getStock() != null ? patched : patched.toBuilder().stock(null).build()));
+    }
+
+    @Override
+    public Mono<Product> findById(String id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Mono<Product> findBySku(String sku) {
+        return delegate.findBySku(sku);
+    }
+
+    @Override
+    public Mono<Product> findByName(String name) {
+        return delegate.findByName(name);
+    }
+
+    @Override
+    public Flux<Product> findAllByIds(Collection<String> ids) {
+        return delegate.findAllByIds(ids);
+    }
+
+    @Override
+    public Flux<Product> findAllBySkus(Collection<String> skus) {
+        return delegate.findAllBySkus(skus);
+    }
+
+    @Override
+    public Flux<Product> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Flux<Product> findPage(PageCursor after, int limit) {
+        return delegate.findPage(after, limit);
+    }
+
+    @Override
+    public Flux<Product> findPageByPrice(PriceFilter filter, PriceCursor after, int limit) {
+        return delegate.findPageByPrice(filter, after, limit);
+    }
+
+    @Override
+    public Mono<ProductVersion> findVersionById(String id) {
+        return delegate.findVersionById(id);
+    }
+
+    @Override
+    public Mono<CatalogVersion> findCatalogVersion() {
+        return delegate.findCatalogVersion();
+    }
+
+    @Override
+    public Mono<Boolean> deleteById(String id) {
+        return delegate.deleteById(id)
+                .doOnNext(deleted -> {
+                    if (deleted) {
+                        listeners.forEach(listener -> listener.onDeleted(id));
+                    }
+                });
+    }
+
+    @Override
+    public Flux<Product> findConflicting(Collection<String> skus, Collection<String> names) {
+        return delegate.findConflicting(skus, names);
+    }
+
+    @Override
+    public Flux<Product> insertAll(List<Product> products) {
+        return delegate.insertAll(products)
+                .doOnNext(this::publishSaved);
+    }
+
+    private void publishSaved(Product product) {
+        listeners.forEach(listener -> listener.onSaved(product));
+    }
+}
@@ -0,0 +1,39 @@
+package com.projectArka.product_service.infrastructure.adapter.out.listener;
+
+import com.projectArka.product_service.domain.model.StockReservation;
+import com.projectArka.product_service.domain.port.out.StockRepositoryPort;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public class NotifyingStockRepositoryAdapter implements StockRepositoryPort {
+
+    private final StockRepositoryPort delegate;
+    private final List<StockChangeListener> listeners;
+
+    public NotifyingStockRepositoryAdapter(StockRepositoryPort delegate, List<StockChangeListener> listeners) {
+        this.delegate = delegate;
+        this.listeners = List.copyOf(listeners);
+    }
+
+    @Override
+    public Mono<StockReservation> reserve(String productId, int quantity) {
+        return delegate.reserve(productId, quantity)
+                .doOnNext(this::publish);
+    }
+
+    @Override
+    public Mono<StockReservation> commit(String reservationId) {
+        return delegate.commit(reservationId);
+    }
+
+    @Override
+    public Mono<StockReservation> release(String reservationId) {
+        return delegate.release(reservationId)
+                .doOnNext(this::publish);
+    }
+
+    private void publish(StockReservation reservation) {
+        listeners.forEach(listener -> listener.onStockChanged(reservation.getProductId()));
+    }
+}
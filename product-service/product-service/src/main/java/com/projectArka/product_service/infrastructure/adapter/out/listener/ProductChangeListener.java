@@ -0,0 +1,8 @@
+package com.projectArka.product_service.infrastructure.adapter.out.listener;
+
+import com.projectArka.product_service.domain.model.Product;
+
+public interface ProductChangeListener {
+    void onSaved(Product product);
+    void onDeleted(String id);
+}
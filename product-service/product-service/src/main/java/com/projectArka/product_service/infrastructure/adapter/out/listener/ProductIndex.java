@@ -0,0 +1,8 @@
+package com.projectArka.product_service.infrastructure.adapter.out.listener;
+
+public interface ProductIndex extends ProductChangeListener {
+    void clear();
+
+    default void onLoaded() {
+    }
+}
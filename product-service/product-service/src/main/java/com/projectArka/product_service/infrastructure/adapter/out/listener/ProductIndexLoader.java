@@ -0,0 +1,122 @@
+package com.projectArka.product_service.infrastructure.adapter.out.listener;
+
+import com.projectArka.product_service.domain.exception.ChangeFeedExpiredException;
+import com.projectArka.product_service.domain.model.CatalogChange;
+import com.projectArka.product_service.domain.port.in.StreamCatalogChangesPort;
+import com.projectArka.product_service.domain.port.out.CatalogChangeRepositoryPort;
+import com.projectArka.product_service.domain.port.out.ProductRepositoryPort;
+import com.projectArka.product_service.infrastructure.metrics.MeteredProductRepositoryAdapter;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Loads the product indexes once the application is ready and then follows the catalog change
+ * outbox, so writes made through other instances reach them too: saved products are read again
+ * and deleted ones removed. The products are read past the cache, which may not have seen those
+ * writes. When the feed no longer holds the changes since the last one applied, the indexes are
+ * rebuilt after the retry delay.
+ */
+@Component
+public class ProductIndexLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductIndexLoader.class);
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(1);
+
+    private final ProductRepositoryPort productRepositoryPort;
+    private final CatalogChangeRepositoryPort catalogChangeRepositoryPort;
+    private final StreamCatalogChangesPort streamCatalogChangesPort;
+    private final List<ProductIndex> productIndexes;
+    private volatile Disposable subscription;
+    private volatile Long position;
+
+    public ProductIndexLoader(MeteredProductRepositoryAdapter productRepositoryPort,
+                              CatalogChangeRepositoryPort catalogChangeRepositoryPort,
+                              StreamCatalogChangesPort streamCatalogChangesPort,
+                              ObjectProvider<ProductIndex> productIndexes) {
+        this.productRepositoryPort = productRepositoryPort;
+        this.catalogChangeRepositoryPort = catalogChangeRepositoryPort;
+        this.streamCatalogChangesPort = streamCatalogChangesPort;
+        this.productIndexes = productIndexes.orderedStream().toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (productIndexes.isEmpty()) {
+            return;
+        }
+        subscription = Flux.defer(this::follow)
+                .doOnError(this::onError)
+                .retryWhen(Retry.fixedDelay(Long.MAX_VALUE, RETRY_DELAY))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        Disposable current = subscription;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    // Without a position the indexes are loaded first; after an error the feed is resumed from the last change applied.
+    private Flux<Long> follow() {
+        Flux<Long> changes = Flux.defer(() -> streamCatalogChangesPort.streamChanges(position))
+                .concatMap(change -> apply(change).thenReturn(change.getSequence()))
+                .doOnNext(sequence -> position = sequence);
+        return position == null ? rebuild().thenMany(changes) : changes;
+    }
+
+    // The position is taken before the products are read, so a change made during the load is applied after it.
+    private Mono<Long> rebuild() {
+        return catalogChangeRepositoryPort.findLatestSequence()
+                .defaultIfEmpty(0L)
+                .flatMap(latest -> {
+                    productIndexes.forEach(ProductIndex::clear);
+                    return productRepositoryPort.findAll()
+                            .doOnNext(product -> productIndexes.forEach(index -> index.onSaved(product)))
+                            .count()
+                            .doOnNext(count -> {
+                                position = latest;
+                                productIndexes.forEach(ProductIndex::onLoaded);
+                                logger.info("Loaded {} products into {} product indexes", count, productIndexes.size());
+                            });
+                });
+    }
+
+    private Mono<Void> apply(CatalogChange change) {
+        if (change.getEntityType() != CatalogChange.EntityType.PRODUCT) {
+            return Mono.empty();
+        }
+        String id = change.getEntityId();
+        if (change.getType() == CatalogChange.Type.DELETED) {
+            return Mono.fromRunnable(() -> productIndexes.forEach(index -> index.onDeleted(id)));
+        }
+        return productRepositoryPort.findById(id)
+                .doOnNext(product -> productIndexes.forEach(index -> index.onSaved(product)))
+                .switchIfEmpty(Mono.fromRunnable(() -> productIndexes.forEach(index -> index.onDeleted(id))))
+                .then();
+    }
+
+    private void onError(Throwable ex) {
+        if (ex instanceof ChangeFeedExpiredException) {
+            logger.warn("The product indexes missed catalog changes, rebuilding them: {}", ex.getMessage());
+            position = null;
+        } else if (position == null) {
+            logger.error("Failed to load the product indexes, retrying: {}", ex.getMessage(), ex);
+        } else {
+            logger.warn("Failed to follow catalog changes for the product indexes, retrying: {}", ex.getMessage());
+        }
+    }
+}
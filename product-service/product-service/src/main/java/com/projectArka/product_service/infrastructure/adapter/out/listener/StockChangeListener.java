@@ -0,0 +1,5 @@
+package com.projectArka.product_service.infrastructure.adapter.out.listener;
+
+public interface StockChangeListener {
+    void onStockChanged(String productId);
+}
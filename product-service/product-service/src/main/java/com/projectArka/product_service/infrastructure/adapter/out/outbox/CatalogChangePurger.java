@@ -0,0 +1,56 @@
+package com.projectArka.product_service.infrastructure.adapter.out.outbox;
+
+import com.projectArka.product_service.domain.port.out.CatalogChangeRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Deletes catalog changes older than the retention period. Consumers that fall further behind
+ * than that get an error on resume and have to resynchronize from a full read.
+ */
+public class CatalogChangePurger {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogChangePurger.class);
+
+    private final CatalogChangeRepositoryPort catalogChangeRepositoryPort;
+    private final Duration retention;
+    private final Duration interval;
+    private final Disposable.Swap purger = Disposables.swap();
+
+    public CatalogChangePurger(CatalogChangeRepositoryPort catalogChangeRepositoryPort, Duration retention, Duration interval) {
+        this.catalogChangeRepositoryPort = catalogChangeRepositoryPort;
+        this.retention = retention;
+        this.interval = interval;
+    }
+
+    public void start() {
+        purger.update(Flux.interval(interval)
+                .onBackpressureDrop()
+                .concatMap(tick -> purge()
+                        .onErrorResume(ex -> {
+                            logger.warn("Failed to purge catalog changes, retrying on the next run: {}", ex.getMessage());
+                            return Mono.empty();
+                        }), 1)
+                .subscribe());
+    }
+
+    public void stop() {
+        purger.dispose();
+    }
+
+    public Mono<Long> purge() {
+        return Mono.defer(() -> catalogChangeRepositoryPort.purgeBefore(LocalDateTime.now().minus(retention)))
+                .doOnNext(purged -> {
+                    if (purged > 0) {
+                        logger.info("Purged {} catalog changes older than {}", purged, retention);
+                    }
+                });
+    }
+}
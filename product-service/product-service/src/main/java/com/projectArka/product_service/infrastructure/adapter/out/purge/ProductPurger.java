@@ -0,0 +1,82 @@
+package com.projectArka.product_service.infrastructure.adapter.out.purge;
+
+import com.projectArka.product_service.domain.port.out.ProductPurgeRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.support.CronExpression;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Removes soft-deleted products, with their features, once they are older than the retention
+ * period. Runs on a cron schedule meant for off-peak hours and deletes in bounded batches, each
+ * its own short statement, until a batch comes back short or the run outlasts its window.
+ */
+public class ProductPurger {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductPurger.class);
+
+    private final ProductPurgeRepositoryPort productPurgeRepositoryPort;
+    private final CronExpression schedule;
+    private final Duration retention;
+    private final int batchSize;
+    private final Duration window;
+    private final Disposable.Swap purger = Disposables.swap();
+
+    public ProductPurger(ProductPurgeRepositoryPort productPurgeRepositoryPort, CronExpression schedule, Duration retention,
+                         int batchSize, Duration window) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The purge batch size must be positive");
+        }
+        this.productPurgeRepositoryPort = productPurgeRepositoryPort;
+        this.schedule = schedule;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.window = window;
+    }
+
+    public void start() {
+        purger.update(Mono.defer(() -> Mono.delay(untilNextRun(LocalDateTime.now())))
+                .then(Mono.defer(this::purge)
+                        .onErrorResume(ex -> {
+                            logger.warn("Failed to purge deleted products, retrying on the next run: {}", ex.getMessage());
+                            return Mono.empty();
+                        }))
+                .repeat()
+                .subscribe());
+    }
+
+    public void stop() {
+        purger.dispose();
+    }
+
+    public Mono<Long> purge() {
+        return Mono.defer(() -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    LocalDateTime cutoff = now.minus(retention);
+                    LocalDateTime deadline = now.plus(window);
+                    return productPurgeRepositoryPort.purgeDeletedBefore(cutoff, batchSize)
+                            .expand(purged -> purged == batchSize && LocalDateTime.now().isBefore(deadline)
+                                    ? productPurgeRepositoryPort.purgeDeletedBefore(cutoff, batchSize)
+                                    : Mono.empty())
+                            .reduce(0L, Long::sum);
+                })
+                .doOnNext(purged -> {
+                    if (purged > 0) {
+                        logger.info("Purged {} products deleted more than {} ago", purged, retention);
+                    }
+                });
+    }
+
+    private Duration untilNextRun(LocalDateTime now) {
+        LocalDateTime next = schedule.next(now);
+        if (next == null) {
+            throw new IllegalStateException("The purge schedule has no next run: " + schedule);
+        }
+        return Duration.between(now, next);
+    }
+}
@@ -0,0 +1,39 @@
+package com.projectArka.product_service.infrastructure.adapter.out.r2dbc.adapter;
+
+import com.projectArka.product_service.domain.model.CatalogChange;
+import com.projectArka.product_service.infrastructure.adapter.out.r2dbc.repository.CatalogChangeRepository;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Appends change rows for the catalog writes of the R2DBC adapters. Callers run it inside the
+ * transaction of the write, so a change is visible in the feed exactly when the write is.
+ */
+final class CatalogChangeOutbox {
+
+    private final CatalogChangeRepository catalogChangeRepository;
+
+    CatalogChangeOutbox(CatalogChangeRepository catalogChangeRepository) {
+        this.catalogChangeRepository = catalogChangeRepository;
+    }
+
+    Mono<Void> saved(CatalogChange.EntityType entityType, UUID id) {
+        return append(entityType, CatalogChange.Type.SAVED, new UUID[]{id});
+    }
+
+    Mono<Void> savedAll(CatalogChange.EntityType entityType, Collection<UUID> ids) {
+        return ids.isEmpty()
+                ? Mono.empty()
+                : append(entityType, CatalogChange.Type.SAVED, ids.toArray(new UUID[0]));
+    }
+
+    Mono<Void> deleted(CatalogChange.EntityType entityType, UUID id) {
+        return append(entityType, CatalogChange.Type.DELETED, new UUID[]{id});
+    }
+
+    private Mono<Void> append(CatalogChange.EntityType entityType, CatalogChange.Type type, UUID[] ids) {
+        return catalogChangeRepository.append(entityType.name(), ids, type.name());
+    }
+}
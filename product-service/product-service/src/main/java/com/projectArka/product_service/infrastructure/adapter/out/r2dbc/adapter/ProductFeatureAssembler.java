@@ -0,0 +1,35 @@
+package com.projectArka.product_service.infrastructure.adapter.out.r2dbc.adapter;
+
+import com.projectArka.product_service.domain.model.Product;
+import com.projectArka.product_service.domain.model.ProductFeature;
+import com.projectArka.product_service.infrastructure.entity.ProductEntity;
+import com.projectArka.product_service.infrastructure.entity.ProductFeatureEntity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public final class ProductFeatureAssembler {
+
+    private ProductFeatureAssembler() {
+    }
+
+    public static List<Product> assemble(List<ProductEntity> productEntities, Collection<ProductFeatureEntity> featureEntities) {
+        Map<UUID, List<ProductFeature>> featuresByProduct = new HashMap<>(productEntities.size() * 2);
+        for (ProductFeatureEntity featureEntity : featureEntities) {
+            featuresByProduct.computeIfAbsent(featureEntity.getProductId(), id -> new ArrayList<>())
+                    .add(featureEntity.toDomain());
+        }
+
+        List<Product> products = new ArrayList<>(productEntities.size());
+        for (ProductEntity productEntity : productEntities) {
+            Product product = productEntity.toDomain();
+            product.setFeatures(featuresByProduct.getOrDefault(productEntity.getId(), new ArrayList<>()));
+            products.add(product);
+        }
+        return products;
+    }
+}
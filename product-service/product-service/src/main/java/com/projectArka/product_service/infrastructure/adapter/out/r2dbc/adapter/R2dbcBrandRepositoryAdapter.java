@@ -1,28 +1,47 @@
 package com.projectArka.product_service.infrastructure.adapter.out.r2dbc.adapter;
 
+import com.projectArka.product_service.domain.exception.BrandAlreadyExistsException;
+import com.projectArka.product_service.domain.exception.VersionConflictException;
 import com.projectArka.product_service.domain.model.Brand;
+import com.projectArka.product_service.domain.model.CatalogChange;
+import com.projectArka.product_service.domain.model.PageCursor;
 import com.projectArka.product_service.domain.port.out.BrandRepositoryPort;
 import com.projectArka.product_service.infrastructure.adapter.out.r2dbc.repository.BrandRepository;
+import com.projectArka.product_service.infrastructure.adapter.out.r2dbc.repository.CatalogChangeRepository;
 import com.projectArka.product_service.infrastructure.entity.BrandEntity;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
 import java.util.UUID;
 
 @Component
 public class R2dbcBrandRepositoryAdapter implements BrandRepositoryPort {
 
     private final BrandRepository brandRepository;
+    private final CatalogChangeOutbox catalogChangeOutbox;
 
-    public R2dbcBrandRepositoryAdapter(BrandRepository brandRepository) {
+    public R2dbcBrandRepositoryAdapter(BrandRepository brandRepository, CatalogChangeRepository catalogChangeRepository) {
         this.brandRepository = brandRepository;
+        this.catalogChangeOutbox = new CatalogChangeOutbox(catalogChangeRepository);
     }
 
     @Override
+    @Transactional
     public Mono<Brand> save(Brand brand) {
         return brandRepository.save(BrandEntity.fromDomain(brand))
-                .map(BrandEntity::toDomain);
+                .onErrorMap(DataIntegrityViolationException.class,
+                        ex -> UniqueConstraints.isViolated(ex, UniqueConstraints.BRAND_NAME)
+                                ? new BrandAlreadyExistsException("There is already a brand with the name: " + brand.getName())
+                                : ex)
+                .onErrorMap(OptimisticLockingFailureException.class,
+                        ex -> new VersionConflictException("The brand was changed concurrently: " + brand.getId()))
+                .flatMap(saved -> catalogChangeOutbox.saved(CatalogChange.EntityType.BRAND, saved.getId())
+                        .thenReturn(saved.toDomain()));
     }
 
 
@@ -46,8 +65,27 @@ public class R2dbcBrandRepositoryAdapter implements BrandRepositoryPort {
     }
 
     @Override
+    public Flux<Brand> findAllByIds(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+        return brandRepository.findAllById(ids.stream().map(UUID::fromString).toList())
+                .map(BrandEntity::toDomain);
+    }
+
+    @Override
+    public Flux<Brand> findPage(PageCursor after, int limit) {
+        Flux<BrandEntity> page = after == null
+                ? brandRepository.findFirstPage(limit)
+                : brandRepository.findPageAfter(after.getCreatedAt(), UUID.fromString(after.getId()), limit);
+        return page.map(BrandEntity::toDomain);
+    }
+
+    @Override
+    @Transactional
     public Mono<Void> deleteById(String id) {
         UUID uuid = UUID.fromString(id);
-        return brandRepository.deleteById(uuid);
+        return brandRepository.deleteById(uuid)
+                .then(catalogChangeOutbox.deleted(CatalogChange.EntityType.BRAND, uuid));
     }
 }
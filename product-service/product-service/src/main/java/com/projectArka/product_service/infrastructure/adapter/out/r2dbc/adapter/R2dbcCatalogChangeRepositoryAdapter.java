@@ -0,0 +1,47 @@
+package com.projectArka.product_service.infrastructure.adapter.out.r2dbc.adapter;
+
+import com.projectArka.product_service.domain.model.CatalogChange;
+import com.projectArka.product_service.domain.port.out.CatalogChangeRepositoryPort;
+import com.projectArka.product_service.infrastructure.adapter.out.r2dbc.repository.CatalogChangeRepository;
+import com.projectArka.product_service.infrastructure.entity.CatalogChangeEntity;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@Component
+public class R2dbcCatalogChangeRepositoryAdapter implements CatalogChangeRepositoryPort {
+
+    private final CatalogChangeRepository catalogChangeRepository;
+
+    public R2dbcCatalogChangeRepositoryAdapter(CatalogChangeRepository catalogChangeRepository) {
+        this.catalogChangeRepository = catalogChangeRepository;
+    }
+
+    @Override
+    public Flux<CatalogChange> findAfter(long sequence, int limit) {
+        return catalogChangeRepository.findAfter(sequence, limit)
+                .map(CatalogChangeEntity::toDomain);
+    }
+
+    @Override
+    public Mono<Long> findLatestSequence() {
+        return catalogChangeRepository.findLatestSeq();
+    }
+
+    @Override
+    public Mono<Long> findPurgedSequence() {
+        return catalogChangeRepository.findPurgedSeq();
+    }
+
+    @Override
+    public Mono<LocalDateTime> findCurrentTime() {
+        return catalogChangeRepository.findCurrentTime();
+    }
+
+    @Override
+    public Mono<Long> purgeBefore(LocalDateTime cutoff) {
+        return catalogChangeRepository.purgeBefore(cutoff);
+    }
+}
@@ -1,30 +1,49 @@
 package com.projectArka.product_service.infrastructure.adapter.out.r2dbc.adapter;
 
+import com.projectArka.product_service.domain.exception.CategoryAlreadyExistsException;
+import com.projectArka.product_service.domain.exception.VersionConflictException;
 import com.projectArka.product_service.domain.model.Brand;
+import com.projectArka.product_service.domain.model.CatalogChange;
 import com.projectArka.product_service.domain.model.Category;
+import com.projectArka.product_service.domain.model.PageCursor;
 import com.projectArka.product_service.domain.port.out.CategoryRepositoryPort;
+import com.projectArka.product_service.infrastructure.adapter.out.r2dbc.repository.CatalogChangeRepository;
 import com.projectArka.product_service.infrastructure.adapter.out.r2dbc.repository.CategoryRepository;
 import com.projectArka.product_service.infrastructure.entity.BrandEntity;
 import com.projectArka.product_service.infrastructure.entity.CategoryEntity;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
 import java.util.UUID;
 
 @Component
 public class R2dbcCategoryRepositoryAdapter implements CategoryRepositoryPort {
 
     private final CategoryRepository categoryRepository;
+    private final CatalogChangeOutbox catalogChangeOutbox;
 
-    public R2dbcCategoryRepositoryAdapter(CategoryRepository categoryRepository) {
+    public R2dbcCategoryRepositoryAdapter(CategoryRepository categoryRepository, CatalogChangeRepository catalogChangeRepository) {
         this.categoryRepository = categoryRepository;
+        this.catalogChangeOutbox = new CatalogChangeOutbox(catalogChangeRepository);
     }
 
     @Override
+    @Transactional
     public Mono<Category> save(Category category) {
         return categoryRepository.save(CategoryEntity.fromDomain(category))
-                .map(CategoryEntity::toDomain);
+                .onErrorMap(DataIntegrityViolationException.class,
+                        ex -> UniqueConstraints.isViolated(ex, UniqueConstraints.CATEGORY_NAME)
+                                ? new CategoryAlreadyExistsException("Category with the name already exists: " + category.getName())
+                                : ex)
+                .onErrorMap(OptimisticLockingFailureException.class,
+                        ex -> new VersionConflictException("The category was changed concurrently: " + category.getId()))
+                .flatMap(saved -> catalogChangeOutbox.saved(CatalogChange.EntityType.CATEGORY, saved.getId())
+                        .thenReturn(saved.toDomain()));
     }
 
     @Override
@@ -41,8 +60,27 @@ public class R2dbcCategoryRepositoryAdapter implements CategoryRepositoryPort {
     }
 
     @Override
+    public Flux<Category> findAllByIds(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+        return categoryRepository.findAllById(ids.stream().map(UUID::fromString).toList())
+                .map(CategoryEntity::toDomain);
+    }
+
+    @Override
+    public Flux<Category> findPage(PageCursor after, int limit) {
+        Flux<CategoryEntity> page = after == null
+                ? categoryRepository.findFirstPage(limit)
+                : categoryRepository.findPageAfter(after.getCreatedAt(), UUID.fromString(after.getId()), limit);
+        return page.map(CategoryEntity::toDomain);
+    }
+
+    @Override
+    @Transactional
     public Mono<Void> deleteById(UUID id) {
-        return categoryRepository.deleteById(id);
+        return categoryRepository.deleteById(id)
+                .then(catalogChangeOutbox.deleted(CatalogChange.EntityType.CATEGORY, id));
     }
 
     @Override
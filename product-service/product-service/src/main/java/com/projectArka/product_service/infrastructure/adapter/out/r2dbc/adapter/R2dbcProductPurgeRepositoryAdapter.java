@@ -0,0 +1,23 @@
+package com.projectArka.product_service.infrastructure.adapter.out.r2dbc.adapter;
+
+import com.projectArka.product_service.domain.port.out.ProductPurgeRepositoryPort;
+import com.projectArka.product_service.infrastructure.adapter.out.r2dbc.repository.ProductRepository;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@Component
+public class R2dbcProductPurgeRepositoryAdapter implements ProductPurgeRepositoryPort {
+
+    private final ProductRepository productRepository;
+
+    public R2dbcProductPurgeRepositoryAdapter(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    @Override
+    public Mono<Long> purgeDeletedBefore(LocalDateTime cutoff, int limit) {
+        return productRepository.purgeDeletedBefore(cutoff, limit);
+    }
+}
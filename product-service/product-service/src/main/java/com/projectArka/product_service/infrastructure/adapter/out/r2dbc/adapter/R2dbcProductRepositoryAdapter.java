@@ -1,150 +1,307 @@
 package com.projectArka.product_service.infrastructure.adapter.out.r2dbc.adapter;
 
+import com.projectArka.product_service.domain.exception.ProductAlreadyExistsException;
+import com.projectArka.product_service.domain.exception.VersionConflictException;
+import com.projectArka.product_service.domain.model.CatalogChange;
+import com.projectArka.product_service.domain.model.CatalogVersion;
+import com.projectArka.product_service.domain.model.PageCursor;
+import com.projectArka.product_service.domain.model.PriceCursor;
+import com.projectArka.product_service.domain.model.PriceFilter;
 import com.projectArka.product_service.domain.model.Product;
 import com.projectArka.product_service.domain.model.ProductFeature;
+import com.projectArka.product_service.domain.model.ProductPatch;
+import com.projectArka.product_service.domain.model.ProductVersion;
 import com.projectArka.product_service.domain.port.out.ProductRepositoryPort;
+import com.projectArka.product_service.infrastructure.adapter.out.r2dbc.repository.CatalogChangeRepository;
 import com.projectArka.product_service.infrastructure.adapter.out.r2dbc.repository.ProductFeatureRepository;
 import com.projectArka.product_service.infrastructure.adapter.out.r2dbc.repository.ProductRepository;
 import com.projectArka.product_service.infrastructure.entity.ProductEntity;
 import com.projectArka.product_service.infrastructure.entity.ProductFeatureEntity;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Component
 public class R2dbcProductRepositoryAdapter implements ProductRepositoryPort {
 
+    private static final int FEATURE_BATCH_SIZE = 500;
+    private static final int FETCH_SIZE = 1000;
+
     private final ProductRepository productRepository;
     private final ProductFeatureRepository productFeatureRepository;
+    private final CatalogChangeOutbox catalogChangeOutbox;
 
-    public R2dbcProductRepositoryAdapter(ProductRepository productRepository, ProductFeatureRepository productFeatureRepository) {
+    public R2dbcProductRepositoryAdapter(ProductRepository productRepository, ProductFeatureRepository productFeatureRepository,
+                                         CatalogChangeRepository catalogChangeRepository) {
         this.productRepository = productRepository;
         this.productFeatureRepository = productFeatureRepository;
+        this.catalogChangeOutbox = new CatalogChangeOutbox(catalogChangeRepository);
     }
 
     @Override
+    @Transactional
     public Mono<Product> save(Product product) {
         ProductEntity productEntity = ProductEntity.fromDomain(product);
+        boolean newProduct = productEntity.getId() == null;
+        // An update without a stock leaves the stored one alone; the stock engine writes it as deltas.
+        Mono<ProductEntity> written = newProduct || productEntity.getStock() != null
+                ? productRepository.save(productEntity)
+                : productRepository.replaceExceptStock(productEntity)
+                        .switchIfEmpty(Mono.error(() -> new OptimisticLockingFailureException(
+                                "No live product at version " + productEntity.getVersion())));
 
-        return productRepository.save(productEntity)
-                .flatMap(savedEntity -> {
-                    if (product.getFeatures() != null && !product.getFeatures().isEmpty()) {
-                        Mono<Void> deleteExistingFeatures = Mono.empty();
-                        if (savedEntity.getId() != null) {
-                            deleteExistingFeatures = productFeatureRepository.deleteByProductId(savedEntity.getId());
-                        }
+        return written
+                .onErrorMap(DataIntegrityViolationException.class, ex -> translateUniqueViolation(ex, product.getSku(), product.getName()))
+                .onErrorMap(OptimisticLockingFailureException.class,
+                        ex -> new VersionConflictException("The product was changed concurrently: " + product.getId()))
+                .flatMap(savedEntity -> syncFeatures(savedEntity.getId(), product.getFeatures(), newProduct)
+                        .map(features -> {
+                            Product savedProduct = savedEntity.toDomain();
+                            savedProduct.setFeatures(features);
+                            return savedProduct;
+                        })
+                        .flatMap(savedProduct -> catalogChangeOutbox.saved(CatalogChange.EntityType.PRODUCT, savedEntity.getId())
+                                .thenReturn(savedProduct)));
+    }
 
-                        return deleteExistingFeatures.thenMany(Flux.fromIterable(product.getFeatures()))
-                                .map(feature -> ProductFeatureEntity.builder()
-                                        .productId(savedEntity.getId())
-                                        .name(feature.getName())
-                                        .value(feature.getValue())
-                                        .createdAt(LocalDateTime.now())
-                                        .updatedAt(LocalDateTime.now())
-                                        .build())
-                                .flatMap(productFeatureRepository::save)
-                                .then(productFeatureRepository.findByProductId(savedEntity.getId())
-                                        .map(entity -> ProductFeature.builder()
-                                                .name(entity.getName())
-                                                .value(entity.getValue())
-                                                .build())
-                                        .collectList()
-                                        .map(features -> {
-                                            Product updatedProduct = savedEntity.toDomain();
-                                            updatedProduct.setFeatures(features);
-                                            return updatedProduct;
-                                        }));
-                    } else {
-                        return Mono.just(savedEntity.toDomain()).map(p -> {
-                            p.setFeatures(java.util.Collections.emptyList());
-                            return p;
-                        });
-                    }
-                });
+    @Override
+    @Transactional
+    public Mono<Product> patch(String id, ProductPatch patch) {
+        UUID uuid = UUID.fromString(id);
+        return productRepository.patch(uuid, patch)
+                .onErrorMap(DataIntegrityViolationException.class, ex -> translateUniqueViolation(ex, patch.getSku(), patch.getName()))
+                .flatMap(patchedEntity -> {
+                    Mono<Product> patched = patch.getFeatures() == null
+                            ? withFeatures(patchedEntity)
+                            : syncFeatures(uuid, patch.getFeatures(), false).map(features -> {
+                                Product patchedProduct = patchedEntity.toDomain();
+                                patchedProduct.setFeatures(features);
+                                return patchedProduct;
+                            });
+                    return patched.flatMap(patchedProduct -> catalogChangeOutbox.saved(CatalogChange.EntityType.PRODUCT, uuid)
+                            .thenReturn(patchedProduct));
+                })
+                .switchIfEmpty(Mono.defer(() -> patch.getVersion() == null
+                        ? Mono.empty()
+                        : productRepository.existsLiveById(uuid)
+                                .flatMap(exists -> exists
+                                        ? Mono.error(new VersionConflictException("The product is no longer at version " + patch.getVersion() + ": " + id))
+                                        : Mono.empty())));
+    }
+
+    private Throwable translateUniqueViolation(DataIntegrityViolationException ex, String sku, String name) {
+        if (UniqueConstraints.isViolated(ex, UniqueConstraints.PRODUCT_SKU)) {
+            return new ProductAlreadyExistsException("Product with the SKU already exists: " + sku, "sku");
+        }
+        if (UniqueConstraints.isViolated(ex, UniqueConstraints.PRODUCT_NAME)) {
+            return new ProductAlreadyExistsException("Product with the name already exists: " + name, "name");
+        }
+        return ex;
     }
 
     @Override
     public Mono<Product> findById(String id) {
         UUID uuid = UUID.fromString(id);
-        return productRepository.findById(uuid)
-                .flatMap(productEntity ->
-                        productFeatureRepository.findByProductId(productEntity.getId())
-                                .map(entity -> ProductFeature.builder()
-                                        .name(entity.getName())
-                                        .value(entity.getValue())
-                                        .build())
-                                .collectList()
-                                .map(features -> {
-                                    Product product = productEntity.toDomain();
-                                    product.setFeatures(features);
-                                    return product;
-                                })
-                );
+        return productRepository.findLiveById(uuid)
+                .flatMap(this::withFeatures);
     }
 
     @Override
     public Mono<Product> findBySku(String sku) {
         return productRepository.findBySku(sku)
-                .flatMap(productEntity ->
-                        productFeatureRepository.findByProductId(productEntity.getId())
-                                .map(entity -> ProductFeature.builder()
-                                        .name(entity.getName())
-                                        .value(entity.getValue())
-                                        .build())
-                                .collectList()
-                                .map(features -> {
-                                    Product product = productEntity.toDomain();
-                                    product.setFeatures(features);
-                                    return product;
-                                })
-                );
+                .flatMap(this::withFeatures);
     }
 
     @Override
     public Mono<Product> findByName(String name) {
         return productRepository.findByName(name)
-                .flatMap(productEntity -> {
-                    if (productEntity == null) {
-                        return Mono.empty();
-                    }
-                    return productFeatureRepository.findByProductId(productEntity.getId())
-                            .map(entity -> ProductFeature.builder()
-                                    .name(entity.getName())
-                                    .value(entity.getValue())
-                                    .build())
-                            .collectList()
-                            .map(features -> {
-                                Product product = productEntity.toDomain();
-                                product.setFeatures(features);
-                                return product;
-                            });
-                });
+                .flatMap(this::withFeatures);
+    }
+
+    @Override
+    public Flux<Product> findAllByIds(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+        List<UUID> uuids = ids.stream()
+                .map(UUID::fromString)
+                .toList();
+        return productRepository.findLiveByIdIn(uuids)
+                .collectList()
+                .flatMapMany(this::withFeatures);
+    }
+
+    @Override
+    public Flux<Product> findAllBySkus(Collection<String> skus) {
+        if (skus.isEmpty()) {
+            return Flux.empty();
+        }
+        return productRepository.findBySkuIn(skus)
+                .collectList()
+                .flatMapMany(this::withFeatures);
     }
 
     @Override
     public Flux<Product> findAll() {
-        return productRepository.findAll()
-                .flatMap(productEntity -> productFeatureRepository.findByProductId(productEntity.getId())
-                        .map(entity -> ProductFeature.builder()
-                                .name(entity.getName())
-                                .value(entity.getValue())
-                                .build())
-                        .collectList()
-                        .map(features -> {
-                            Product product = productEntity.toDomain();
-                            product.setFeatures(features);
-                            return product;
-                        })
-                );
+        return productRepository.streamAll(FETCH_SIZE)
+                .buffer(FEATURE_BATCH_SIZE)
+                .concatMap(this::withFeatures);
     }
 
     @Override
-    public Mono<Void> deleteById(String id) {
+    public Flux<Product> findPage(PageCursor after, int limit) {
+        Flux<ProductEntity> page = after == null
+                ? productRepository.findFirstPage(limit)
+                : productRepository.findPageAfter(after.getCreatedAt(), UUID.fromString(after.getId()), limit);
+        return page.collectList()
+                .flatMapMany(this::withFeatures);
+    }
+
+    @Override
+    public Flux<Product> findPageByPrice(PriceFilter filter, PriceCursor after, int limit) {
+        return productRepository.findPageByPrice(filter, after, limit)
+                .collectList()
+                .flatMapMany(this::withFeatures);
+    }
+
+    @Override
+    public Mono<ProductVersion> findVersionById(String id) {
         UUID uuid = UUID.fromString(id);
-        return productRepository.deleteById(uuid);
+        return productRepository.findLiveById(uuid)
+                .map(entity -> new ProductVersion(id, entity.getUpdatedAt(), entity.getStock(), entity.getVersion()));
+    }
+
+    @Override
+    public Mono<CatalogVersion> findCatalogVersion() {
+        return productRepository.findCatalogVersion();
+    }
+
+    @Override
+    @Transactional
+    public Mono<Boolean> deleteById(String id) {
+        UUID uuid = UUID.fromString(id);
+        return productRepository.softDeleteById(uuid, LocalDateTime.now().truncatedTo(ChronoUnit.MICROS))
+                .flatMap(deleted -> deleted == 0
+                        ? Mono.just(false)
+                        : catalogChangeOutbox.deleted(CatalogChange.EntityType.PRODUCT, uuid).thenReturn(true));
+    }
+
+    @Override
+    public Flux<Product> findConflicting(Collection<String> skus, Collection<String> names) {
+        return productRepository.findBySkuInOrNameIn(skus, names)
+                .map(ProductEntity::toDomain);
+    }
+
+    @Override
+    @Transactional
+    public Flux<Product> insertAll(List<Product> products) {
+        List<ProductEntity> productEntities = new ArrayList<>(products.size());
+        List<ProductFeatureEntity> featureEntities = new ArrayList<>();
+        for (Product product : products) {
+            ProductEntity productEntity = ProductEntity.fromDomain(product);
+            productEntity.setId(UUID.randomUUID());
+            productEntity.setVersion(0L);
+            productEntities.add(productEntity);
+            if (product.getFeatures() != null) {
+                featureEntities.addAll(newFeatureEntities(productEntity.getId(), product.getFeatures()));
+            }
+        }
+
+        return productRepository.insertBatch(productEntities)
+                .then(productFeatureRepository.insertBatch(featureEntities))
+                .then(catalogChangeOutbox.savedAll(CatalogChange.EntityType.PRODUCT,
+                        productEntities.stream().map(ProductEntity::getId).toList()))
+                .thenMany(Flux.defer(() -> Flux.fromIterable(ProductFeatureAssembler.assemble(productEntities, featureEntities))));
+    }
+
+    private Mono<List<ProductFeature>> syncFeatures(UUID productId, List<ProductFeature> incoming, boolean newProduct) {
+        if (newProduct) {
+            List<ProductFeature> features = incoming != null ? incoming : new ArrayList<>();
+            return productFeatureRepository.insertBatch(newFeatureEntities(productId, features))
+                    .thenReturn(new ArrayList<>(features));
+        }
+
+        return productFeatureRepository.findByProductId(productId)
+                .collectList()
+                .flatMap(stored -> {
+                    if (incoming == null) {
+                        return Mono.just(stored.stream()
+                                .map(ProductFeatureEntity::toDomain)
+                                .collect(Collectors.toCollection(ArrayList::new)));
+                    }
+
+                    Map<String, ProductFeatureEntity> storedByName = new HashMap<>(stored.size() * 2);
+                    List<UUID> deletions = new ArrayList<>();
+                    for (ProductFeatureEntity featureEntity : stored) {
+                        if (storedByName.putIfAbsent(featureEntity.getName(), featureEntity) != null) {
+                            deletions.add(featureEntity.getId());
+                        }
+                    }
+
+                    LocalDateTime now = LocalDateTime.now();
+                    List<ProductFeature> insertions = new ArrayList<>();
+                    List<ProductFeatureEntity> updates = new ArrayList<>();
+                    for (ProductFeature feature : incoming) {
+                        ProductFeatureEntity existing = storedByName.remove(feature.getName());
+                        if (existing == null) {
+                            insertions.add(feature);
+                        } else if (!Objects.equals(existing.getValue(), feature.getValue())) {
+                            existing.setValue(feature.getValue());
+                            existing.setUpdatedAt(now);
+                            updates.add(existing);
+                        }
+                    }
+                    storedByName.values().forEach(featureEntity -> deletions.add(featureEntity.getId()));
+
+                    Mono<Void> deleteRemoved = deletions.isEmpty()
+                            ? Mono.empty()
+                            : productFeatureRepository.deleteAllById(deletions);
+                    return deleteRemoved
+                            .thenMany(Flux.fromIterable(updates).concatMap(productFeatureRepository::save))
+                            .then(productFeatureRepository.insertBatch(newFeatureEntities(productId, insertions)))
+                            .thenReturn(new ArrayList<>(incoming));
+                });
+    }
+
+    private List<ProductFeatureEntity> newFeatureEntities(UUID productId, List<ProductFeature> features) {
+        List<ProductFeatureEntity> featureEntities = new ArrayList<>(features.size());
+        for (ProductFeature feature : features) {
+            ProductFeatureEntity featureEntity = ProductFeatureEntity.fromDomain(feature);
+            featureEntity.setId(UUID.randomUUID());
+            featureEntity.setProductId(productId);
+            featureEntities.add(featureEntity);
+        }
+        return featureEntities;
+    }
+
+    private Mono<Product> withFeatures(ProductEntity productEntity) {
+        return withFeatures(List.of(productEntity)).next();
+    }
+
+    private Flux<Product> withFeatures(List<ProductEntity> productEntities) {
+        if (productEntities.isEmpty()) {
+            return Flux.empty();
+        }
+        List<UUID> productIds = productEntities.stream()
+                .map(ProductEntity::getId)
+                .toList();
+        return productFeatureRepository.findByProductIdIn(productIds)
+                .collectList()
+                .flatMapIterable(features -> ProductFeatureAssembler.assemble(productEntities, features));
     }
 
 }
\ No newline at end of file
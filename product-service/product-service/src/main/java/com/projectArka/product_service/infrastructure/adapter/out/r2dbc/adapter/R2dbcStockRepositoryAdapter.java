@@ -0,0 +1,40 @@
+package com.projectArka.product_service.infrastructure.adapter.out.r2dbc.adapter;
+
+import com.projectArka.product_service.domain.model.StockReservation;
+import com.projectArka.product_service.domain.port.out.StockRepositoryPort;
+import com.projectArka.product_service.infrastructure.adapter.out.r2dbc.repository.StockReservationRepository;
+import com.projectArka.product_service.infrastructure.entity.StockReservationEntity;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+@Component
+public class R2dbcStockRepositoryAdapter implements StockRepositoryPort {
+
+    private final StockReservationRepository stockReservationRepository;
+
+    public R2dbcStockRepositoryAdapter(StockReservationRepository stockReservationRepository) {
+        this.stockReservationRepository = stockReservationRepository;
+    }
+
+    @Override
+    public Mono<StockReservation> reserve(String productId, int quantity) {
+        return stockReservationRepository.reserve(UUID.randomUUID(), UUID.fromString(productId), quantity, LocalDateTime.now().truncatedTo(ChronoUnit.MICROS))
+                .map(StockReservationEntity::toDomain);
+    }
+
+    @Override
+    public Mono<StockReservation> commit(String reservationId) {
+        return stockReservationRepository.commit(UUID.fromString(reservationId), LocalDateTime.now())
+                .map(StockReservationEntity::toDomain);
+    }
+
+    @Override
+    public Mono<StockReservation> release(String reservationId) {
+        return stockReservationRepository.release(UUID.fromString(reservationId), LocalDateTime.now().truncatedTo(ChronoUnit.MICROS))
+                .map(StockReservationEntity::toDomain);
+    }
+}
@@ -0,0 +1,58 @@
+package com.projectArka.product_service.infrastructure.adapter.out.r2dbc.adapter;
+
+import com.projectArka.product_service.domain.model.StockReservation;
+import com.projectArka.product_service.infrastructure.adapter.out.r2dbc.repository.StockReservationRepository;
+import com.projectArka.product_service.infrastructure.adapter.out.stock.StockStore;
+import com.projectArka.product_service.infrastructure.entity.StockReservationEntity;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+@Component
+public class R2dbcStockStoreAdapter implements StockStore {
+
+    private final StockReservationRepository stockReservationRepository;
+
+    public R2dbcStockStoreAdapter(StockReservationRepository stockReservationRepository) {
+        this.stockReservationRepository = stockReservationRepository;
+    }
+
+    @Override
+    public Mono<Integer> loadStock(String productId) {
+        return stockReservationRepository.findStock(UUID.fromString(productId));
+    }
+
+    @Override
+    public Mono<Long> loadFlushedEpoch() {
+        return stockReservationRepository.findFlushedEpoch();
+    }
+
+    @Override
+    public Mono<Void> applyDeltas(Map<String, Long> deltas, long epoch) {
+        Map<UUID, Long> deltasById = new HashMap<>(deltas.size() * 2);
+        deltas.forEach((productId, delta) -> deltasById.put(UUID.fromString(productId), delta));
+        return stockReservationRepository.applyDeltas(deltasById, epoch);
+    }
+
+    @Override
+    public Mono<StockReservation> insertReservation(String productId, int quantity) {
+        return stockReservationRepository.insertReserved(UUID.randomUUID(), UUID.fromString(productId), quantity, LocalDateTime.now())
+                .map(StockReservationEntity::toDomain);
+    }
+
+    @Override
+    public Mono<StockReservation> commitReservation(String reservationId) {
+        return stockReservationRepository.commit(UUID.fromString(reservationId), LocalDateTime.now())
+                .map(StockReservationEntity::toDomain);
+    }
+
+    @Override
+    public Mono<StockReservation> releaseReservation(String reservationId) {
+        return stockReservationRepository.markReleased(UUID.fromString(reservationId), LocalDateTime.now())
+                .map(StockReservationEntity::toDomain);
+    }
+}
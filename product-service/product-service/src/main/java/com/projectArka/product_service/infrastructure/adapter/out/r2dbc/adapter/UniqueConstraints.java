@@ -0,0 +1,23 @@
+package com.projectArka.product_service.infrastructure.adapter.out.r2dbc.adapter;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+final class UniqueConstraints {
+
+    static final String PRODUCT_SKU = "ux_product_live_sku";
+    static final String PRODUCT_NAME = "ux_product_live_name";
+    static final String BRAND_NAME = "ux_brand_name";
+    static final String CATEGORY_NAME = "ux_category_name";
+
+    private UniqueConstraints() {
+    }
+
+    static boolean isViolated(DataIntegrityViolationException ex, String constraint) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains(constraint)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,8 @@
+package com.projectArka.product_service.infrastructure.adapter.out.r2dbc.repository;
+
+import com.projectArka.product_service.domain.model.CatalogVersion;
+import reactor.core.publisher.Mono;
+
+public interface CatalogVersionRepository {
+    Mono<CatalogVersion> findCatalogVersion();
+}
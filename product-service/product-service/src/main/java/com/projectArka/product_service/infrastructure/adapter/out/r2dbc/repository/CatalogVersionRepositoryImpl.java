@@ -0,0 +1,39 @@
+package com.projectArka.product_service.infrastructure.adapter.out.r2dbc.repository;
+
+import com.projectArka.product_service.domain.model.CatalogVersion;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+public class CatalogVersionRepositoryImpl implements CatalogVersionRepository {
+
+    // Every catalog write appends to the change outbox, so its latest sequence catches deletes that
+    // leave max(updated_at) unchanged; it never moves back, purges included. The timestamps catch the
+    // stock updates of reservations, which are not in the outbox. All of it is read from indexes.
+    private static final String CATALOG_VERSION_SQL = """
+            SELECT (SELECT GREATEST(purged_seq, (SELECT max(seq) FROM catalog_change))
+                    FROM catalog_change_checkpoint WHERE id = 1) AS change_sequence,
+                   (SELECT max(updated_at) FROM product WHERE deleted_at IS NULL) AS products_updated_at,
+                   (SELECT max(updated_at) FROM brand) AS brands_updated_at,
+                   (SELECT max(updated_at) FROM category) AS categories_updated_at
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    public CatalogVersionRepositoryImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<CatalogVersion> findCatalogVersion() {
+        return databaseClient.sql(CATALOG_VERSION_SQL)
+                .map(row -> CatalogVersion.builder()
+                        .changeSequence(row.get("change_sequence", Long.class))
+                        .productsUpdatedAt(row.get("products_updated_at", LocalDateTime.class))
+                        .brandsUpdatedAt(row.get("brands_updated_at", LocalDateTime.class))
+                        .categoriesUpdatedAt(row.get("categories_updated_at", LocalDateTime.class))
+                        .build())
+                .one();
+    }
+}
@@ -1,9 +1,12 @@
 package com.projectArka.product_service.infrastructure.adapter.out.r2dbc.repository;
 
 import com.projectArka.product_service.infrastructure.entity.BrandEntity;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 public interface BrandRepository extends R2dbcRepository<BrandEntity, UUID> {
@@ -12,4 +15,10 @@ public interface BrandRepository extends R2dbcRepository<BrandEntity, UUID> {
     Mono<BrandEntity> findById(UUID id);
     reactor.core.publisher.Flux<BrandEntity> findAll();
     Mono<Void> deleteById(UUID id);
+
+    @Query("SELECT * FROM brand ORDER BY created_at, id LIMIT :limit")
+    Flux<BrandEntity> findFirstPage(int limit);
+
+    @Query("SELECT * FROM brand WHERE (created_at, id) > (:createdAt, :id) ORDER BY created_at, id LIMIT :limit")
+    Flux<BrandEntity> findPageAfter(LocalDateTime createdAt, UUID id, int limit);
 }
\ No newline at end of file
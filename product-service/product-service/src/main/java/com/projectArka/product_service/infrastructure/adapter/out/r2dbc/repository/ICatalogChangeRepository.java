@@ -0,0 +1,49 @@
+package com.projectArka.product_service.infrastructure.adapter.out.r2dbc.repository;
+
+import com.projectArka.product_service.infrastructure.entity.CatalogChangeEntity;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface CatalogChangeRepository extends R2dbcRepository<CatalogChangeEntity, Long> {
+
+    // Stamped with the database clock, the one the feed compares against, at the moment the
+    // sequence is taken rather than when the transaction started.
+    @Query("""
+            INSERT INTO catalog_change (entity_type, entity_id, change_type, changed_at)
+            SELECT :entityType, entity_id, :changeType, CAST(clock_timestamp() AS timestamp)
+            FROM unnest(CAST(:entityIds AS uuid[])) AS entity_id
+            """)
+    Mono<Void> append(String entityType, UUID[] entityIds, String changeType);
+
+    @Query("SELECT CAST(clock_timestamp() AS timestamp)")
+    Mono<LocalDateTime> findCurrentTime();
+
+    @Query("SELECT * FROM catalog_change WHERE seq > :after ORDER BY seq LIMIT :limit")
+    Flux<CatalogChangeEntity> findAfter(long after, int limit);
+
+    @Query("""
+            SELECT GREATEST(purged_seq, (SELECT max(seq) FROM catalog_change))
+            FROM catalog_change_checkpoint WHERE id = 1
+            """)
+    Mono<Long> findLatestSeq();
+
+    @Query("SELECT purged_seq FROM catalog_change_checkpoint WHERE id = 1")
+    Mono<Long> findPurgedSeq();
+
+    // The checkpoint keeps the highest purged sequence, so a consumer behind it knows it missed changes.
+    @Query("""
+            WITH purged AS (
+                DELETE FROM catalog_change WHERE changed_at < :cutoff
+                RETURNING seq
+            )
+            UPDATE catalog_change_checkpoint SET purged_seq = GREATEST(purged_seq, (SELECT max(seq) FROM purged))
+            WHERE id = 1
+            RETURNING (SELECT count(*) FROM purged)
+            """)
+    Mono<Long> purgeBefore(LocalDateTime cutoff);
+}
@@ -1,11 +1,20 @@
 package com.projectArka.product_service.infrastructure.adapter.out.r2dbc.repository;
 
 import com.projectArka.product_service.infrastructure.entity.CategoryEntity;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 public interface CategoryRepository extends ReactiveCrudRepository<CategoryEntity, UUID> {
      Mono<CategoryEntity> findByName(String name);
+
+     @Query("SELECT * FROM category ORDER BY created_at, id LIMIT :limit")
+     Flux<CategoryEntity> findFirstPage(int limit);
+
+     @Query("SELECT * FROM category WHERE (created_at, id) > (:createdAt, :id) ORDER BY created_at, id LIMIT :limit")
+     Flux<CategoryEntity> findPageAfter(LocalDateTime createdAt, UUID id, int limit);
 }
\ No newline at end of file
@@ -5,10 +5,12 @@ import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
 import java.util.UUID;
 
-public interface ProductFeatureRepository extends R2dbcRepository<ProductFeatureEntity, UUID> {
+public interface ProductFeatureRepository extends R2dbcRepository<ProductFeatureEntity, UUID>, ProductFeatureBulkRepository {
 
     Flux<ProductFeatureEntity> findByProductId(UUID productId);
+    Flux<ProductFeatureEntity> findByProductIdIn(Collection<UUID> productIds);
     Mono<Void> deleteByProductId(UUID productId);
-}
\ No newline at end of file
+}
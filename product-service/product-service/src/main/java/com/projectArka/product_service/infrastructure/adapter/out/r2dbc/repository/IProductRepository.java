@@ -1,12 +1,69 @@
 package com.projectArka.product_service.infrastructure.adapter.out.r2dbc.repository;
 
 import com.projectArka.product_service.infrastructure.entity.ProductEntity;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.UUID;
 
-public interface ProductRepository extends R2dbcRepository<ProductEntity, UUID> {
+public interface ProductRepository extends R2dbcRepository<ProductEntity, UUID>, ProductStreamRepository, ProductBulkRepository,
+        CatalogVersionRepository, ProductPriceRepository, ProductPatchRepository {
+
+    @Query("SELECT * FROM product WHERE id = :id AND deleted_at IS NULL")
+    Mono<ProductEntity> findLiveById(UUID id);
+
+    @Query("SELECT * FROM product WHERE id IN (:ids) AND deleted_at IS NULL")
+    Flux<ProductEntity> findLiveByIdIn(Collection<UUID> ids);
+
+    @Query("SELECT EXISTS (SELECT 1 FROM product WHERE id = :id AND deleted_at IS NULL)")
+    Mono<Boolean> existsLiveById(UUID id);
+
+    @Query("SELECT * FROM product WHERE sku = :sku AND deleted_at IS NULL")
     Mono<ProductEntity> findBySku(String sku);
+
+    @Query("SELECT * FROM product WHERE name = :name AND deleted_at IS NULL")
     Mono<ProductEntity> findByName(String name);
-}
\ No newline at end of file
+
+    @Query("SELECT * FROM product WHERE sku IN (:skus) AND deleted_at IS NULL")
+    Flux<ProductEntity> findBySkuIn(Collection<String> skus);
+
+    @Query("SELECT * FROM product WHERE (sku IN (:skus) OR name IN (:names)) AND deleted_at IS NULL")
+    Flux<ProductEntity> findBySkuInOrNameIn(Collection<String> skus, Collection<String> names);
+
+    @Query("SELECT * FROM product WHERE deleted_at IS NULL ORDER BY created_at, id LIMIT :limit")
+    Flux<ProductEntity> findFirstPage(int limit);
+
+    @Query("""
+            SELECT * FROM product WHERE deleted_at IS NULL AND (created_at, id) > (:createdAt, :id)
+            ORDER BY created_at, id LIMIT :limit
+            """)
+    Flux<ProductEntity> findPageAfter(LocalDateTime createdAt, UUID id, int limit);
+
+    // Bumps the version so a writer still holding the old one conflicts instead of reviving the row.
+    @Modifying
+    @Query("""
+            UPDATE product SET active = FALSE, deleted_at = :deletedAt, updated_at = :deletedAt, version = version + 1
+            WHERE id = :id AND deleted_at IS NULL
+            """)
+    Mono<Long> softDeleteById(UUID id, LocalDateTime deletedAt);
+
+    // Rows locked by a concurrent purge are skipped rather than waited on. The features go in the
+    // same statement, the foreign key is only checked once both deletes are done.
+    @Modifying
+    @Query("""
+            WITH purged AS (
+                SELECT id FROM product WHERE deleted_at < :cutoff
+                ORDER BY deleted_at LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            ), purged_features AS (
+                DELETE FROM product_feature WHERE product_id IN (SELECT id FROM purged)
+            )
+            DELETE FROM product WHERE id IN (SELECT id FROM purged)
+            """)
+    Mono<Long> purgeDeletedBefore(LocalDateTime cutoff, int limit);
+}
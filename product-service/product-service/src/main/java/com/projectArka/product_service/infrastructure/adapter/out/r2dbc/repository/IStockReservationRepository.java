@@ -0,0 +1,54 @@
+package com.projectArka.product_service.infrastructure.adapter.out.r2dbc.repository;
+
+import com.projectArka.product_service.infrastructure.entity.StockReservationEntity;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface StockReservationRepository extends R2dbcRepository<StockReservationEntity, UUID>, StockDeltaRepository,
+        StockReserveRepository {
+
+    @Query("""
+            UPDATE stock_reservation SET status = 'COMMITTED', updated_at = :now
+            WHERE id = :id AND status = 'RESERVED'
+            RETURNING *
+            """)
+    Mono<StockReservationEntity> commit(UUID id, LocalDateTime now);
+
+    @Query("""
+            WITH released AS (
+                UPDATE stock_reservation SET status = 'RELEASED', updated_at = :now
+                WHERE id = :id AND status = 'RESERVED'
+                RETURNING *
+            ), restocked AS (
+                UPDATE product SET stock = product.stock + released.quantity, updated_at = :now,
+                    version = product.version + 1
+                FROM released WHERE product.id = released.product_id
+            )
+            SELECT * FROM released
+            """)
+    Mono<StockReservationEntity> release(UUID id, LocalDateTime now);
+
+    @Query("""
+            INSERT INTO stock_reservation (id, product_id, quantity, status, created_at, updated_at)
+            VALUES (:id, :productId, :quantity, 'RESERVED', :now, :now)
+            RETURNING *
+            """)
+    Mono<StockReservationEntity> insertReserved(UUID id, UUID productId, int quantity, LocalDateTime now);
+
+    @Query("""
+            UPDATE stock_reservation SET status = 'RELEASED', updated_at = :now
+            WHERE id = :id AND status = 'RESERVED'
+            RETURNING *
+            """)
+    Mono<StockReservationEntity> markReleased(UUID id, LocalDateTime now);
+
+    @Query("SELECT stock FROM product WHERE id = :productId AND deleted_at IS NULL")
+    Mono<Integer> findStock(UUID productId);
+
+    @Query("SELECT epoch FROM stock_flush_checkpoint WHERE id = 1")
+    Mono<Long> findFlushedEpoch();
+}
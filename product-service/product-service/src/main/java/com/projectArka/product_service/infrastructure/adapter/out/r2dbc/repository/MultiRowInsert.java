@@ -0,0 +1,73 @@
+package com.projectArka.product_service.infrastructure.adapter.out.r2dbc.repository;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+public final class MultiRowInsert<T> {
+
+    private static final int MAX_BIND_PARAMETERS = 30000;
+
+    private final String table;
+    private final List<Column<T>> columns = new ArrayList<>();
+
+    private MultiRowInsert(String table) {
+        this.table = table;
+    }
+
+    public static <T> MultiRowInsert<T> into(String table) {
+        return new MultiRowInsert<>(table);
+    }
+
+    public MultiRowInsert<T> column(String name, Class<?> type, Function<T, ?> value) {
+        columns.add(new Column<>(name, type, value));
+        return this;
+    }
+
+    public Mono<Long> execute(DatabaseClient databaseClient, List<T> rows) {
+        if (rows.isEmpty()) {
+            return Mono.just(0L);
+        }
+        int rowsPerStatement = Math.max(1, MAX_BIND_PARAMETERS / columns.size());
+        List<List<T>> batches = new ArrayList<>();
+        for (int from = 0; from < rows.size(); from += rowsPerStatement) {
+            batches.add(rows.subList(from, Math.min(rows.size(), from + rowsPerStatement)));
+        }
+        return Flux.fromIterable(batches)
+                .concatMap(batch -> statement(databaseClient, batch).fetch().rowsUpdated())
+                .reduce(0L, Long::sum);
+    }
+
+    private DatabaseClient.GenericExecuteSpec statement(DatabaseClient databaseClient, List<T> batch) {
+        StringBuilder sql = new StringBuilder("INSERT INTO ").append(table).append(" (");
+        for (int c = 0; c < columns.size(); c++) {
+            sql.append(c == 0 ? "" : ", ").append(columns.get(c).name());
+        }
+        sql.append(") VALUES ");
+        for (int r = 0; r < batch.size(); r++) {
+            sql.append(r == 0 ? "(" : ", (");
+            for (int c = 0; c < columns.size(); c++) {
+                sql.append(c == 0 ? ":" : ", :").append(columns.get(c).name()).append(r);
+            }
+            sql.append(')');
+        }
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+        for (int r = 0; r < batch.size(); r++) {
+            T row = batch.get(r);
+            for (Column<T> column : columns) {
+                Object value = column.value().apply(row);
+                String parameter = column.name() + r;
+                spec = value != null ? spec.bind(parameter, value) : spec.bindNull(parameter, column.type());
+            }
+        }
+        return spec;
+    }
+
+    private record Column<T>(String name, Class<?> type, Function<T, ?> value) {
+    }
+}
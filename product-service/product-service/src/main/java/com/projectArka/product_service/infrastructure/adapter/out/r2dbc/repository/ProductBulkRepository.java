@@ -0,0 +1,10 @@
+package com.projectArka.product_service.infrastructure.adapter.out.r2dbc.repository;
+
+import com.projectArka.product_service.infrastructure.entity.ProductEntity;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface ProductBulkRepository {
+    Mono<Long> insertBatch(List<ProductEntity> products);
+}
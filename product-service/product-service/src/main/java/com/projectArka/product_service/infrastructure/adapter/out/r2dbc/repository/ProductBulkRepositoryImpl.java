@@ -0,0 +1,37 @@
+package com.projectArka.product_service.infrastructure.adapter.out.r2dbc.repository;
+
+import com.projectArka.product_service.infrastructure.entity.ProductEntity;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public class ProductBulkRepositoryImpl implements ProductBulkRepository {
+
+    private static final MultiRowInsert<ProductEntity> INSERT = MultiRowInsert.<ProductEntity>into("product")
+            .column("id", UUID.class, ProductEntity::getId)
+            .column("sku", String.class, ProductEntity::getSku)
+            .column("name", String.class, ProductEntity::getName)
+            .column("description", String.class, ProductEntity::getDescription)
+            .column("price", BigDecimal.class, ProductEntity::getPrice)
+            .column("category_id", UUID.class, ProductEntity::getCategoryId)
+            .column("brand_id", UUID.class, ProductEntity::getBrandId)
+            .column("stock", Integer.class, ProductEntity::getStock)
+            .column("active", Boolean.class, ProductEntity::getActive)
+            .column("created_at", LocalDateTime.class, ProductEntity::getCreatedAt)
+            .column("updated_at", LocalDateTime.class, ProductEntity::getUpdatedAt);
+
+    private final DatabaseClient databaseClient;
+
+    public ProductBulkRepositoryImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<Long> insertBatch(List<ProductEntity> products) {
+        return INSERT.execute(databaseClient, products);
+    }
+}
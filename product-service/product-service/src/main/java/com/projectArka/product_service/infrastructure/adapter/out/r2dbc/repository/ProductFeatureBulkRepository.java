@@ -0,0 +1,10 @@
+package com.projectArka.product_service.infrastructure.adapter.out.r2dbc.repository;
+
+import com.projectArka.product_service.infrastructure.entity.ProductFeatureEntity;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface ProductFeatureBulkRepository {
+    Mono<Long> insertBatch(List<ProductFeatureEntity> features);
+}
@@ -0,0 +1,31 @@
+package com.projectArka.product_service.infrastructure.adapter.out.r2dbc.repository;
+
+import com.projectArka.product_service.infrastructure.entity.ProductFeatureEntity;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public class ProductFeatureBulkRepositoryImpl implements ProductFeatureBulkRepository {
+
+    private static final MultiRowInsert<ProductFeatureEntity> INSERT = MultiRowInsert.<ProductFeatureEntity>into("product_feature")
+            .column("id", UUID.class, ProductFeatureEntity::getId)
+            .column("product_id", UUID.class, ProductFeatureEntity::getProductId)
+            .column("name", String.class, ProductFeatureEntity::getName)
+            .column("value", String.class, ProductFeatureEntity::getValue)
+            .column("created_at", LocalDateTime.class, ProductFeatureEntity::getCreatedAt)
+            .column("updated_at", LocalDateTime.class, ProductFeatureEntity::getUpdatedAt);
+
+    private final DatabaseClient databaseClient;
+
+    public ProductFeatureBulkRepositoryImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<Long> insertBatch(List<ProductFeatureEntity> features) {
+        return INSERT.execute(databaseClient, features);
+    }
+}
@@ -0,0 +1,12 @@
+package com.projectArka.product_service.infrastructure.adapter.out.r2dbc.repository;
+
+import com.projectArka.product_service.domain.model.ProductPatch;
+import com.projectArka.product_service.infrastructure.entity.ProductEntity;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface ProductPatchRepository {
+    Mono<ProductEntity> patch(UUID id, ProductPatch patch);
+    Mono<ProductEntity> replaceExceptStock(ProductEntity product);
+}
@@ -0,0 +1,124 @@
+package com.projectArka.product_service.infrastructure.adapter.out.r2dbc.repository;
+
+import com.projectArka.product_service.domain.model.ProductPatch;
+import com.projectArka.product_service.infrastructure.entity.ProductEntity;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+public class ProductPatchRepositoryImpl implements ProductPatchRepository {
+
+    private final R2dbcEntityTemplate entityTemplate;
+
+    public ProductPatchRepositoryImpl(R2dbcEntityTemplate entityTemplate) {
+        this.entityTemplate = entityTemplate;
+    }
+
+    // Sets only the given columns and reads the row back from the same statement. The version is
+    // bumped in SQL so an unconditional patch still invalidates the version other writers hold.
+    @Override
+    public Mono<ProductEntity> patch(UUID id, ProductPatch patch) {
+        StringBuilder sql = new StringBuilder("UPDATE product SET updated_at = :updatedAt, version = version + 1");
+        if (patch.getSku() != null) {
+            sql.append(", sku = :sku");
+        }
+        if (patch.getName() != null) {
+            sql.append(", name = :name");
+        }
+        if (patch.getDescription() != null) {
+            sql.append(", description = :description");
+        }
+        if (patch.getPrice() != null) {
+            sql.append(", price = :price");
+        }
+        if (patch.getCategoryId() != null) {
+            sql.append(", category_id = :categoryId");
+        }
+        if (patch.getBrandId() != null) {
+            sql.append(", brand_id = :brandId");
+        }
+        if (patch.getStock() != null) {
+            sql.append(", stock = :stock");
+        }
+        if (patch.getActive() != null) {
+            sql.append(", active = :active");
+        }
+        sql.append(" WHERE id = :id AND deleted_at IS NULL");
+        if (patch.getVersion() != null) {
+            sql.append(" AND version = :version");
+        }
+        sql.append(" RETURNING *");
+
+        DatabaseClient.GenericExecuteSpec spec = entityTemplate.getDatabaseClient().sql(sql.toString())
+                .bind("updatedAt", LocalDateTime.now().truncatedTo(ChronoUnit.MICROS))
+                .bind("id", id);
+        if (patch.getSku() != null) {
+            spec = spec.bind("sku", patch.getSku());
+        }
+        if (patch.getName() != null) {
+            spec = spec.bind("name", patch.getName());
+        }
+        if (patch.getDescription() != null) {
+            spec = spec.bind("description", patch.getDescription());
+        }
+        if (patch.getPrice() != null) {
+            spec = spec.bind("price", patch.getPrice());
+        }
+        if (patch.getCategoryId() != null) {
+            spec = spec.bind("categoryId", patch.getCategoryId());
+        }
+        if (patch.getBrandId() != null) {
+            spec = spec.bind("brandId", patch.getBrandId());
+        }
+        if (patch.getStock() != null) {
+            spec = spec.bind("stock", patch.getStock());
+        }
+        if (patch.getActive() != null) {
+            spec = spec.bind("active", patch.getActive());
+        }
+        if (patch.getVersion() != null) {
+            spec = spec.bind("version", patch.getVersion());
+        }
+        return spec.map((row, metadata) -> entityTemplate.getConverter().read(ProductEntity.class, row, metadata))
+                .one();
+    }
+
+    // Writes every column of an update but stock, so deltas added to stock meanwhile are kept. Same
+    // version check and bump as save.
+    @Override
+    public Mono<ProductEntity> replaceExceptStock(ProductEntity product) {
+        String sql = """
+                UPDATE product SET sku = :sku, name = :name, description = :description, price = :price,
+                    category_id = :categoryId, brand_id = :brandId, active = :active, updated_at = :updatedAt,
+                    version = version + 1
+                WHERE id = :id AND deleted_at IS NULL
+                """ + (product.getVersion() != null ? " AND version = :version" : "") + " RETURNING *";
+        LocalDateTime updatedAt = product.getUpdatedAt() != null ? product.getUpdatedAt() : LocalDateTime.now();
+
+        DatabaseClient.GenericExecuteSpec spec = entityTemplate.getDatabaseClient().sql(sql)
+                .bind("id", product.getId())
+                .bind("updatedAt", updatedAt.truncatedTo(ChronoUnit.MICROS));
+        spec = bind(spec, "sku", product.getSku(), String.class);
+        spec = bind(spec, "name", product.getName(), String.class);
+        spec = bind(spec, "description", product.getDescription(), String.class);
+        spec = bind(spec, "price", product.getPrice(), BigDecimal.class);
+        spec = bind(spec, "categoryId", product.getCategoryId(), UUID.class);
+        spec = bind(spec, "brandId", product.getBrandId(), UUID.class);
+        spec = bind(spec, "active", product.getActive(), Boolean.class);
+        if (product.getVersion() != null) {
+            spec = spec.bind("version", product.getVersion());
+        }
+        return spec.map((row, metadata) -> entityTemplate.getConverter().read(ProductEntity.class, row, metadata))
+                .one();
+    }
+
+    private static <T> DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec, String name,
+                                                              T value, Class<T> type) {
+        return value != null ? spec.bind(name, value) : spec.bindNull(name, type);
+    }
+}
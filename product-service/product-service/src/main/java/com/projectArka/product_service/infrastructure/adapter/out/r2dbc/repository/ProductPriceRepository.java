@@ -0,0 +1,10 @@
+package com.projectArka.product_service.infrastructure.adapter.out.r2dbc.repository;
+
+import com.projectArka.product_service.domain.model.PriceCursor;
+import com.projectArka.product_service.domain.model.PriceFilter;
+import com.projectArka.product_service.infrastructure.entity.ProductEntity;
+import reactor.core.publisher.Flux;
+
+public interface ProductPriceRepository {
+    Flux<ProductEntity> findPageByPrice(PriceFilter filter, PriceCursor after, int limit);
+}
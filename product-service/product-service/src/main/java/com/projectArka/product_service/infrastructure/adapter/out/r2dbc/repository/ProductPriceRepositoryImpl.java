@@ -0,0 +1,57 @@
+package com.projectArka.product_service.infrastructure.adapter.out.r2dbc.repository;
+
+import com.projectArka.product_service.domain.model.PriceCursor;
+import com.projectArka.product_service.domain.model.PriceFilter;
+import com.projectArka.product_service.infrastructure.entity.ProductEntity;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+public class ProductPriceRepositoryImpl implements ProductPriceRepository {
+
+    private final R2dbcEntityTemplate entityTemplate;
+
+    public ProductPriceRepositoryImpl(R2dbcEntityTemplate entityTemplate) {
+        this.entityTemplate = entityTemplate;
+    }
+
+    // Seeks on (price, id) so a page costs one index descent whatever its depth: through
+    // idx_product_live_category_price_id within a category, idx_product_live_price_id otherwise.
+    @Override
+    public Flux<ProductEntity> findPageByPrice(PriceFilter filter, PriceCursor after, int limit) {
+        String direction = filter.isDescending() ? "DESC" : "ASC";
+        StringBuilder sql = new StringBuilder("SELECT * FROM product WHERE deleted_at IS NULL");
+        if (filter.getCategoryId() != null) {
+            sql.append(" AND category_id = :categoryId");
+        }
+        if (filter.getMinPrice() != null) {
+            sql.append(" AND price >= :minPrice");
+        }
+        if (filter.getMaxPrice() != null) {
+            sql.append(" AND price <= :maxPrice");
+        }
+        if (after != null) {
+            sql.append(" AND (price, id) ").append(filter.isDescending() ? "<" : ">").append(" (:afterPrice, :afterId)");
+        }
+        sql.append(" ORDER BY price ").append(direction).append(", id ").append(direction).append(" LIMIT :limit");
+
+        DatabaseClient.GenericExecuteSpec spec = entityTemplate.getDatabaseClient().sql(sql.toString())
+                .bind("limit", limit);
+        if (filter.getCategoryId() != null) {
+            spec = spec.bind("categoryId", UUID.fromString(filter.getCategoryId()));
+        }
+        if (filter.getMinPrice() != null) {
+            spec = spec.bind("minPrice", filter.getMinPrice());
+        }
+        if (filter.getMaxPrice() != null) {
+            spec = spec.bind("maxPrice", filter.getMaxPrice());
+        }
+        if (after != null) {
+            spec = spec.bind("afterPrice", after.getPrice()).bind("afterId", UUID.fromString(after.getId()));
+        }
+        return spec.map((row, metadata) -> entityTemplate.getConverter().read(ProductEntity.class, row, metadata))
+                .all();
+    }
+}
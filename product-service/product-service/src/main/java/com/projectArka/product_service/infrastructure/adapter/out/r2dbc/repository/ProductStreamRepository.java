@@ -0,0 +1,8 @@
+package com.projectArka.product_service.infrastructure.adapter.out.r2dbc.repository;
+
+import com.projectArka.product_service.infrastructure.entity.ProductEntity;
+import reactor.core.publisher.Flux;
+
+public interface ProductStreamRepository {
+    Flux<ProductEntity> streamAll(int fetchSize);
+}
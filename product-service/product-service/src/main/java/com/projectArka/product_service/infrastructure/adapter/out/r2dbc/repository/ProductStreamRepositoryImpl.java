@@ -0,0 +1,23 @@
+package com.projectArka.product_service.infrastructure.adapter.out.r2dbc.repository;
+
+import com.projectArka.product_service.infrastructure.entity.ProductEntity;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import reactor.core.publisher.Flux;
+
+public class ProductStreamRepositoryImpl implements ProductStreamRepository {
+
+    private final R2dbcEntityTemplate entityTemplate;
+
+    public ProductStreamRepositoryImpl(R2dbcEntityTemplate entityTemplate) {
+        this.entityTemplate = entityTemplate;
+    }
+
+    @Override
+    public Flux<ProductEntity> streamAll(int fetchSize) {
+        return entityTemplate.getDatabaseClient()
+                .sql("SELECT * FROM product WHERE deleted_at IS NULL ORDER BY created_at, id")
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map((row, metadata) -> entityTemplate.getConverter().read(ProductEntity.class, row, metadata))
+                .all();
+    }
+}
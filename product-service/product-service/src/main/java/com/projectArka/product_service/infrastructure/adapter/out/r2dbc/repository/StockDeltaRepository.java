@@ -0,0 +1,10 @@
+package com.projectArka.product_service.infrastructure.adapter.out.r2dbc.repository;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.UUID;
+
+public interface StockDeltaRepository {
+    Mono<Void> applyDeltas(Map<UUID, Long> deltas, long epoch);
+}
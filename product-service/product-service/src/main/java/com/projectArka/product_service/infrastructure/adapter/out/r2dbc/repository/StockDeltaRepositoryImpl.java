@@ -0,0 +1,44 @@
+package com.projectArka.product_service.infrastructure.adapter.out.r2dbc.repository;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public class StockDeltaRepositoryImpl implements StockDeltaRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public StockDeltaRepositoryImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    // One statement, so the deltas and the flushed epoch are committed together. The deltas only
+    // apply if the checkpoint moved, so a batch sent again after an unknown outcome is a no-op; a
+    // concurrent resend waits on the checkpoint row and then sees the new epoch. The version is bumped
+    // like any other write to the row, so a save that read the old stock conflicts.
+    @Override
+    public Mono<Void> applyDeltas(Map<UUID, Long> deltas, long epoch) {
+        List<Map.Entry<UUID, Long>> rows = List.copyOf(deltas.entrySet());
+        StringBuilder sql = new StringBuilder("WITH checkpoint AS (UPDATE stock_flush_checkpoint SET epoch = :epoch ")
+                .append("WHERE id = 1 AND epoch < :epoch RETURNING epoch) ")
+                .append("UPDATE product SET stock = product.stock + v.delta, updated_at = :now, version = product.version + 1 ")
+                .append("FROM (VALUES ");
+        for (int r = 0; r < rows.size(); r++) {
+            sql.append(r == 0 ? "" : ", ").append("(:id").append(r).append("::uuid, :delta").append(r).append("::integer)");
+        }
+        sql.append(") AS v(id, delta) WHERE product.id = v.id AND product.deleted_at IS NULL AND EXISTS (SELECT 1 FROM checkpoint)");
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString())
+                .bind("now", LocalDateTime.now().truncatedTo(ChronoUnit.MICROS))
+                .bind("epoch", epoch);
+        for (int r = 0; r < rows.size(); r++) {
+            spec = spec.bind("id" + r, rows.get(r).getKey()).bind("delta" + r, rows.get(r).getValue().intValue());
+        }
+        return spec.fetch().rowsUpdated().then();
+    }
+}
@@ -0,0 +1,11 @@
+package com.projectArka.product_service.infrastructure.adapter.out.r2dbc.repository;
+
+import com.projectArka.product_service.infrastructure.entity.StockReservationEntity;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface StockReserveRepository {
+    Mono<StockReservationEntity> reserve(UUID id, UUID productId, int quantity, LocalDateTime now);
+}
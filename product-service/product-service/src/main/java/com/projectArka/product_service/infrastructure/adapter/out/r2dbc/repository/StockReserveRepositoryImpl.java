@@ -0,0 +1,42 @@
+package com.projectArka.product_service.infrastructure.adapter.out.r2dbc.repository;
+
+import com.projectArka.product_service.infrastructure.entity.StockReservationEntity;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class StockReserveRepositoryImpl implements StockReserveRepository {
+
+    // The check and the decrement are one conditional UPDATE, so concurrent reservations can never
+    // take the stock below zero; without a matching row nothing is inserted and the result is empty.
+    // The version is bumped so a writer that read the stock before the reservation conflicts.
+    static final String RESERVE_SQL = """
+            WITH reserved AS (
+                UPDATE product SET stock = stock - :quantity, updated_at = :now, version = version + 1
+                WHERE id = :productId AND stock >= :quantity AND deleted_at IS NULL
+                RETURNING id
+            )
+            INSERT INTO stock_reservation (id, product_id, quantity, status, created_at, updated_at)
+            SELECT :id, reserved.id, :quantity, 'RESERVED', :now, :now FROM reserved
+            RETURNING *
+            """;
+
+    private final R2dbcEntityTemplate entityTemplate;
+
+    public StockReserveRepositoryImpl(R2dbcEntityTemplate entityTemplate) {
+        this.entityTemplate = entityTemplate;
+    }
+
+    @Override
+    public Mono<StockReservationEntity> reserve(UUID id, UUID productId, int quantity, LocalDateTime now) {
+        return entityTemplate.getDatabaseClient().sql(RESERVE_SQL)
+                .bind("id", id)
+                .bind("productId", productId)
+                .bind("quantity", quantity)
+                .bind("now", now)
+                .map((row, metadata) -> entityTemplate.getConverter().read(StockReservationEntity.class, row, metadata))
+                .one();
+    }
+}
@@ -0,0 +1,59 @@
+package com.projectArka.product_service.infrastructure.adapter.out.search;
+
+import java.util.Arrays;
+
+final class PostingList {
+
+    private int[] docs = new int[4];
+    private int[] frequencies = new int[4];
+    private int size;
+    private int liveCount;
+
+    void add(int doc, int frequency) {
+        if (size == docs.length) {
+            docs = Arrays.copyOf(docs, size * 2);
+            frequencies = Arrays.copyOf(frequencies, size * 2);
+        }
+        docs[size] = doc;
+        frequencies[size] = frequency;
+        size++;
+        liveCount++;
+    }
+
+    void markDeleted() {
+        liveCount--;
+    }
+
+    void compact(int[] remappedDocs) {
+        int written = 0;
+        for (int read = 0; read < size; read++) {
+            int remapped = remappedDocs[docs[read]];
+            if (remapped >= 0) {
+                docs[written] = remapped;
+                frequencies[written] = frequencies[read];
+                written++;
+            }
+        }
+        size = written;
+        if (docs.length > 8 && size < docs.length / 4) {
+            docs = Arrays.copyOf(docs, Math.max(4, size * 2));
+            frequencies = Arrays.copyOf(frequencies, docs.length);
+        }
+    }
+
+    int doc(int position) {
+        return docs[position];
+    }
+
+    int frequency(int position) {
+        return frequencies[position];
+    }
+
+    int size() {
+        return size;
+    }
+
+    int liveCount() {
+        return liveCount;
+    }
+}
@@ -0,0 +1,267 @@
+package com.projectArka.product_service.infrastructure.adapter.out.search;
+
+import com.projectArka.product_service.domain.model.Product;
+import com.projectArka.product_service.domain.model.ProductFeature;
+import com.projectArka.product_service.domain.model.ProductSearchHit;
+import com.projectArka.product_service.domain.port.out.ProductSearchPort;
+import com.projectArka.product_service.infrastructure.adapter.out.listener.ProductIndex;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+public class ProductSearchIndex implements ProductIndex, ProductSearchPort {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int NAME_BOOST = 2;
+    private static final int MIN_DELETED_DOCS_TO_COMPACT = 10_000;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private PostingList[] postings = new PostingList[1024];
+    private int termCount;
+
+    private final Map<String, Integer> docsByProductId = new HashMap<>();
+    private String[] productIds = new String[1024];
+    private int[] docLengths = new int[1024];
+    private int[][] docTerms = new int[1024][];
+    private final BitSet deletedDocs = new BitSet();
+    private int docCount;
+    private int deletedCount;
+    private int liveDocs;
+    private long totalLength;
+
+    @Override
+    public void onSaved(Product product) {
+        lock.writeLock().lock();
+        try {
+            removeDoc(product.getId());
+            addDoc(product);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onDeleted(String id) {
+        lock.writeLock().lock();
+        try {
+            removeDoc(id);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            termIds.clear();
+            postings = new PostingList[1024];
+            termCount = 0;
+            docsByProductId.clear();
+            productIds = new String[1024];
+            docLengths = new int[1024];
+            docTerms = new int[1024][];
+            deletedDocs.clear();
+            docCount = 0;
+            deletedCount = 0;
+            liveDocs = 0;
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Flux<ProductSearchHit> search(String query, int limit) {
+        return Flux.defer(() -> Flux.fromIterable(topHits(query, limit)));
+    }
+
+    public List<ProductSearchHit> topHits(String query, int limit) {
+        Set<String> tokens = new LinkedHashSet<>(Tokenizer.tokenize(query));
+        lock.readLock().lock();
+        try {
+            List<PostingList> lists = new ArrayList<>(tokens.size());
+            for (String token : tokens) {
+                Integer termId = termIds.get(token);
+                if (termId != null && postings[termId].liveCount() > 0) {
+                    lists.add(postings[termId]);
+                }
+            }
+            if (lists.isEmpty() || limit < 1) {
+                return List.of();
+            }
+
+            int terms = lists.size();
+            float averageLength = liveDocs == 0 ? 1f : (float) totalLength / liveDocs;
+            float[] idf = new float[terms];
+            int[] cursors = new int[terms];
+            for (int t = 0; t < terms; t++) {
+                int df = lists.get(t).liveCount();
+                idf[t] = (float) Math.log(1 + (liveDocs - df + 0.5) / (df + 0.5));
+            }
+
+            TopK topK = new TopK(limit);
+            while (true) {
+                int doc = Integer.MAX_VALUE;
+                for (int t = 0; t < terms; t++) {
+                    PostingList list = lists.get(t);
+                    if (cursors[t] < list.size()) {
+                        doc = Math.min(doc, list.doc(cursors[t]));
+                    }
+                }
+                if (doc == Integer.MAX_VALUE) {
+                    break;
+                }
+
+                boolean live = !deletedDocs.get(doc);
+                float score = 0f;
+                for (int t = 0; t < terms; t++) {
+                    PostingList list = lists.get(t);
+                    if (cursors[t] < list.size() && list.doc(cursors[t]) == doc) {
+                        if (live) {
+                            int tf = list.frequency(cursors[t]);
+                            float norm = K1 * (1 - B + B * docLengths[doc] / averageLength);
+                            score += idf[t] * tf * (K1 + 1) / (tf + norm);
+                        }
+                        cursors[t]++;
+                    }
+                }
+                if (live) {
+                    topK.offer(doc, score);
+                }
+            }
+
+            topK.sortDescending();
+            List<ProductSearchHit> hits = new ArrayList<>(topK.size());
+            for (int i = 0; i < topK.size(); i++) {
+                hits.add(ProductSearchHit.builder()
+                        .productId(productIds[topK.doc(i)])
+                        .score(topK.score(i))
+                        .build());
+            }
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addDoc(Product product) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = addTokens(frequencies, product.getName(), NAME_BOOST)
+                + addTokens(frequencies, product.getDescription(), 1);
+        if (product.getFeatures() != null) {
+            for (ProductFeature feature : product.getFeatures()) {
+                length += addTokens(frequencies, feature.getName(), 1);
+                length += addTokens(frequencies, feature.getValue(), 1);
+            }
+        }
+        if (frequencies.isEmpty()) {
+            return;
+        }
+
+        int doc = allocateDoc(product.getId(), length);
+        int[] terms = new int[frequencies.size()];
+        int position = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            int termId = termId(entry.getKey());
+            postings[termId].add(doc, entry.getValue());
+            terms[position++] = termId;
+        }
+        docTerms[doc] = terms;
+        liveDocs++;
+        totalLength += length;
+    }
+
+    private void removeDoc(String productId) {
+        Integer doc = docsByProductId.remove(productId);
+        if (doc == null) {
+            return;
+        }
+        for (int termId : docTerms[doc]) {
+            postings[termId].markDeleted();
+        }
+        deletedDocs.set(doc);
+        docTerms[doc] = null;
+        deletedCount++;
+        liveDocs--;
+        totalLength -= docLengths[doc];
+    }
+
+    private int addTokens(Map<String, Integer> frequencies, String text, int weight) {
+        List<String> tokens = Tokenizer.tokenize(text);
+        for (String token : tokens) {
+            frequencies.merge(token, weight, Integer::sum);
+        }
+        return tokens.size() * weight;
+    }
+
+    private int allocateDoc(String productId, int length) {
+        if (docCount == productIds.length) {
+            int capacity = docCount * 2;
+            productIds = Arrays.copyOf(productIds, capacity);
+            docLengths = Arrays.copyOf(docLengths, capacity);
+            docTerms = Arrays.copyOf(docTerms, capacity);
+        }
+        int doc = docCount++;
+        productIds[doc] = productId;
+        docLengths[doc] = length;
+        docsByProductId.put(productId, doc);
+        return doc;
+    }
+
+    private int termId(String term) {
+        Integer termId = termIds.get(term);
+        if (termId != null) {
+            return termId;
+        }
+        if (termCount == postings.length) {
+            postings = Arrays.copyOf(postings, termCount * 2);
+        }
+        postings[termCount] = new PostingList();
+        termIds.put(term, termCount);
+        return termCount++;
+    }
+
+    private void compactIfNeeded() {
+        if (deletedCount < MIN_DELETED_DOCS_TO_COMPACT || deletedCount < liveDocs) {
+            return;
+        }
+        int[] remappedDocs = new int[docCount];
+        int next = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            if (deletedDocs.get(doc)) {
+                remappedDocs[doc] = -1;
+                continue;
+            }
+            remappedDocs[doc] = next;
+            productIds[next] = productIds[doc];
+            docLengths[next] = docLengths[doc];
+            docTerms[next] = docTerms[doc];
+            docsByProductId.put(productIds[next], next);
+            next++;
+        }
+        Arrays.fill(productIds, next, docCount, null);
+        Arrays.fill(docTerms, next, docCount, null);
+        for (int termId = 0; termId < termCount; termId++) {
+            postings[termId].compact(remappedDocs);
+        }
+        deletedDocs.clear();
+        docCount = next;
+        deletedCount = 0;
+    }
+}
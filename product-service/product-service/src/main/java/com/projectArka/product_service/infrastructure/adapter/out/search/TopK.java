@@ -0,0 +1,83 @@
+package com.projectArka.product_service.infrastructure.adapter.out.search;
+
+final class TopK {
+
+    private final int[] docs;
+    private final float[] scores;
+    private int size;
+
+    TopK(int capacity) {
+        this.docs = new int[capacity];
+        this.scores = new float[capacity];
+    }
+
+    void offer(int doc, float score) {
+        if (size < docs.length) {
+            docs[size] = doc;
+            scores[size] = score;
+            siftUp(size++);
+        } else if (score > scores[0]) {
+            docs[0] = doc;
+            scores[0] = score;
+            siftDown(0);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    int doc(int position) {
+        return docs[position];
+    }
+
+    float score(int position) {
+        return scores[position];
+    }
+
+    void sortDescending() {
+        int remaining = size;
+        while (remaining > 1) {
+            swap(0, --remaining);
+            int heapSize = size;
+            size = remaining;
+            siftDown(0);
+            size = heapSize;
+        }
+    }
+
+    private void siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (scores[parent] <= scores[position]) {
+                return;
+            }
+            swap(parent, position);
+            position = parent;
+        }
+    }
+
+    private void siftDown(int position) {
+        while (true) {
+            int left = 2 * position + 1;
+            if (left >= size) {
+                return;
+            }
+            int smallest = left + 1 < size && scores[left + 1] < scores[left] ? left + 1 : left;
+            if (scores[position] <= scores[smallest]) {
+                return;
+            }
+            swap(position, smallest);
+            position = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        int doc = docs[a];
+        docs[a] = docs[b];
+        docs[b] = doc;
+        float score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+    }
+}
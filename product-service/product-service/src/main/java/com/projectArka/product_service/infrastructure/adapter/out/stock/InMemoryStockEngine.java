@@ -0,0 +1,332 @@
+package com.projectArka.product_service.infrastructure.adapter.out.stock;
+
+import com.projectArka.product_service.domain.model.Product;
+import com.projectArka.product_service.infrastructure.adapter.out.listener.ProductChangeListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Keeps the stock of products that take reservations in memory and writes the net changes back to
+ * product.stock in periodic batches.
+ *
+ * Every change is tagged with the current flush epoch, added to that epoch's pending delta and
+ * appended to that epoch's log segment. A flush moves to the next epoch, waits for the changes
+ * still running in the old one, and writes the old epoch's deltas together with the epoch number
+ * in one statement. Segments up to the flushed epoch are then deleted; on startup the remaining
+ * segments newer than the stored epoch are replayed into the database before the first change.
+ *
+ * The statement skips a batch whose epoch the stored one has already reached, so a batch whose
+ * outcome is unknown is kept and sent again, in epoch order, instead of being folded into a newer
+ * epoch. Writes that set an absolute stock go through setStock as a delta against the counter, so
+ * they never race the deltas on their way to the database.
+ *
+ * Once every batch is confirmed, the products not changed in the flushed or the current epoch are
+ * dropped, since the database already holds their stock; the next change loads them again.
+ */
+public class InMemoryStockEngine implements ProductChangeListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryStockEngine.class);
+
+    private final StockStore stockStore;
+    private final StockDeltaLog deltaLog;
+    private final int stripes;
+    private final Duration flushInterval;
+    private final Duration logSyncInterval;
+
+    private final Map<String, Mono<StockEntry>> loading = new ConcurrentHashMap<>();
+    private final Map<String, StockEntry> entries = new ConcurrentHashMap<>();
+    private final LongAdder[] inFlight = {new LongAdder(), new LongAdder()};
+    private final LongAdder changes = new LongAdder();
+    private final Queue<Batch> unconfirmed = new ConcurrentLinkedQueue<>();
+    private final Mono<Void> recovered;
+    private final Scheduler scheduler = Schedulers.newSingle("stock-engine");
+    private final Disposable.Composite tasks = Disposables.composite();
+    private volatile long epoch;
+
+    public InMemoryStockEngine(StockStore stockStore, StockDeltaLog deltaLog, int stripes,
+                               Duration flushInterval, Duration logSyncInterval) {
+        this.stockStore = stockStore;
+        this.deltaLog = deltaLog;
+        this.stripes = stripes;
+        this.flushInterval = flushInterval;
+        this.logSyncInterval = logSyncInterval;
+        this.recovered = Mono.defer(this::recover)
+                .doOnError(ex -> logger.warn("Failed to replay the stock log, retrying: {}", ex.getMessage()))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .cache();
+    }
+
+    public void start() {
+        tasks.add(recovered.subscribe());
+        tasks.add(Flux.interval(logSyncInterval, scheduler)
+                .subscribe(tick -> syncLog()));
+        tasks.add(Flux.interval(flushInterval, scheduler)
+                .onBackpressureDrop()
+                .concatMap(tick -> flush(), 1)
+                .subscribe());
+    }
+
+    public void stop() {
+        tasks.dispose();
+        flush().block(flushInterval.multipliedBy(10));
+        syncLog();
+        scheduler.dispose();
+    }
+
+    public Mono<Boolean> reserve(String productId, int quantity) {
+        return withEntry(productId, entry -> change(entry, quantity, true))
+                .defaultIfEmpty(false);
+    }
+
+    public Mono<Void> release(String productId, int quantity) {
+        return withEntry(productId, entry -> change(entry, quantity, false))
+                .then();
+    }
+
+    public Mono<Void> setStock(String productId, int stock) {
+        return withEntry(productId, entry -> overwrite(entry, stock))
+                .then();
+    }
+
+    public Integer availableStock(String productId) {
+        StockEntry entry = entries.get(productId);
+        return entry == null ? null : (int) entry.counter().available();
+    }
+
+    public long changeCount() {
+        return changes.sum();
+    }
+
+    // A stock set by a product write arrives through setStock, not here.
+    @Override
+    public void onSaved(Product product) {
+    }
+
+    @Override
+    public void onDeleted(String id) {
+        loading.remove(id);
+        entries.remove(id);
+    }
+
+    public Mono<Void> flush() {
+        return recovered.then(Mono.defer(() -> {
+            long flushedEpoch = epoch;
+            epoch = flushedEpoch + 1;
+            LongAdder active = inFlight[slot(flushedEpoch)];
+            while (active.sum() != 0) {
+                Thread.onSpinWait();
+            }
+            deltaLog.sync();
+
+            Map<String, Long> deltas = new HashMap<>();
+            entries.forEach((productId, entry) -> {
+                long delta = entry.pending()[slot(flushedEpoch)].sumThenReset();
+                if (delta != 0) {
+                    deltas.put(productId, delta);
+                }
+            });
+            if (!deltas.isEmpty()) {
+                unconfirmed.add(new Batch(flushedEpoch, deltas));
+            } else if (unconfirmed.isEmpty()) {
+                deltaLog.deleteThrough(flushedEpoch);
+                evictIdle(flushedEpoch);
+                return Mono.<Void>empty();
+            }
+            return applyUnconfirmed()
+                    .then(Mono.fromRunnable(() -> {
+                        if (unconfirmed.isEmpty()) {
+                            evictIdle(flushedEpoch);
+                        }
+                    }));
+        }));
+    }
+
+    // An entry in use is skipped; one retired here is already out of the map for later callers, and
+    // the ones still holding it load a fresh entry.
+    private void evictIdle(long flushedEpoch) {
+        entries.forEach((productId, entry) -> {
+            if (entry.lastChange().get() < flushedEpoch && entry.tryRetire()) {
+                if (entry.lastChange().get() < flushedEpoch) {
+                    loading.remove(productId);
+                    entries.remove(productId, entry);
+                } else {
+                    entry.users().set(0);
+                }
+            }
+        });
+    }
+
+    // A batch leaves the queue only once its statement has returned, so a flush that fails or is
+    // cancelled leaves it to the next one, which resends it with its own epoch.
+    private Mono<Void> applyUnconfirmed() {
+        Batch batch = unconfirmed.peek();
+        if (batch == null) {
+            return Mono.empty();
+        }
+        return stockStore.applyDeltas(batch.deltas(), batch.epoch())
+                .publishOn(scheduler)
+                .then(Mono.defer(() -> {
+                    unconfirmed.remove(batch);
+                    deltaLog.deleteThrough(batch.epoch());
+                    return applyUnconfirmed();
+                }))
+                .onErrorResume(ex -> {
+                    logger.warn("Failed to flush stock deltas of epoch {}, retrying on the next flush: {}",
+                            batch.epoch(), ex.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private boolean change(StockEntry entry, int quantity, boolean reserve) {
+        while (true) {
+            long current = epoch;
+            LongAdder active = inFlight[slot(current)];
+            active.increment();
+            try {
+                if (epoch != current) {
+                    continue;
+                }
+                if (reserve) {
+                    if (!entry.counter().tryReserve(quantity)) {
+                        return false;
+                    }
+                } else {
+                    entry.counter().release(quantity);
+                }
+                record(current, entry, reserve ? -quantity : quantity);
+                return true;
+            } finally {
+                active.decrement();
+            }
+        }
+    }
+
+    private boolean overwrite(StockEntry entry, int stock) {
+        while (true) {
+            long current = epoch;
+            LongAdder active = inFlight[slot(current)];
+            active.increment();
+            try {
+                if (epoch != current) {
+                    continue;
+                }
+                long delta = stock - entry.counter().reset(stock);
+                if (delta != 0) {
+                    record(current, entry, delta);
+                }
+                return true;
+            } finally {
+                active.decrement();
+            }
+        }
+    }
+
+    private void record(long current, StockEntry entry, long delta) {
+        entry.lastChange().accumulateAndGet(current, Math::max);
+        entry.pending()[slot(current)].add(delta);
+        deltaLog.append(current, entry.productId(), delta);
+        changes.increment();
+    }
+
+    private Mono<Boolean> withEntry(String productId, Function<StockEntry, Boolean> action) {
+        return entry(productId).flatMap(entry -> {
+            if (!entry.tryUse()) {
+                return withEntry(productId, action);
+            }
+            try {
+                return Mono.just(action.apply(entry));
+            } finally {
+                entry.users().decrementAndGet();
+            }
+        });
+    }
+
+    private Mono<StockEntry> entry(String productId) {
+        StockEntry entry = entries.get(productId);
+        if (entry != null) {
+            return Mono.just(entry);
+        }
+        Mono<StockEntry> load = loading.computeIfAbsent(productId, id -> recovered
+                .then(Mono.defer(() -> stockStore.loadStock(id)))
+                .map(stock -> entries.computeIfAbsent(id, key -> new StockEntry(UUID.fromString(key),
+                        new StripedStockCounter(stripes, stock), new LongAdder[]{new LongAdder(), new LongAdder()},
+                        new AtomicLong(-1), new AtomicInteger())))
+                .cache());
+        return load
+                .doOnError(ex -> loading.remove(productId, load))
+                .switchIfEmpty(Mono.fromRunnable(() -> loading.remove(productId, load)));
+    }
+
+    private Mono<Void> recover() {
+        return stockStore.loadFlushedEpoch()
+                .defaultIfEmpty(0L)
+                .flatMap(flushedEpoch -> {
+                    StockDeltaLog.Replay replay = deltaLog.replay(flushedEpoch);
+                    epoch = replay.lastEpoch() + 1;
+                    if (replay.deltas().isEmpty()) {
+                        deltaLog.deleteThrough(replay.lastEpoch());
+                        return Mono.<Void>empty();
+                    }
+                    Map<String, Long> deltas = new HashMap<>();
+                    replay.deltas().forEach((productId, delta) -> deltas.put(productId.toString(), delta));
+                    logger.info("Replaying unflushed stock deltas of {} products", deltas.size());
+                    return stockStore.applyDeltas(deltas, replay.lastEpoch())
+                            .doOnSuccess(done -> deltaLog.deleteThrough(replay.lastEpoch()));
+                });
+    }
+
+    private void syncLog() {
+        try {
+            deltaLog.sync();
+        } catch (RuntimeException ex) {
+            logger.error("Failed to sync the stock log: {}", ex.getMessage(), ex);
+        }
+    }
+
+    private static int slot(long epoch) {
+        return (int) (epoch & 1);
+    }
+
+    // users is -1 once the entry is retired, and it then takes no more changes.
+    private record StockEntry(UUID productId, StripedStockCounter counter, LongAdder[] pending,
+                              AtomicLong lastChange, AtomicInteger users) {
+
+        boolean tryUse() {
+            for (;;) {
+                int count = users.get();
+                if (count < 0) {
+                    return false;
+                }
+                if (users.compareAndSet(count, count + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        boolean tryRetire() {
+            return users.compareAndSet(0, -1);
+        }
+    }
+
+    private record Batch(long epoch, Map<String, Long> deltas) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.projectArka.product_service.infrastructure.adapter.out.stock;
+
+import com.projectArka.product_service.domain.model.StockReservation;
+import com.projectArka.product_service.domain.port.out.StockRepositoryPort;
+import reactor.core.publisher.Mono;
+
+public class InMemoryStockRepositoryAdapter implements StockRepositoryPort {
+
+    private final InMemoryStockEngine stockEngine;
+    private final StockStore stockStore;
+
+    public InMemoryStockRepositoryAdapter(InMemoryStockEngine stockEngine, StockStore stockStore) {
+        this.stockEngine = stockEngine;
+        this.stockStore = stockStore;
+    }
+
+    @Override
+    public Mono<StockReservation> reserve(String productId, int quantity) {
+        return stockEngine.reserve(productId, quantity)
+                .filter(reserved -> reserved)
+                .flatMap(reserved -> stockStore.insertReservation(productId, quantity)
+                        .onErrorResume(ex -> stockEngine.release(productId, quantity).then(Mono.error(ex))));
+    }
+
+    @Override
+    public Mono<StockReservation> commit(String reservationId) {
+        return stockStore.commitReservation(reservationId);
+    }
+
+    @Override
+    public Mono<StockReservation> release(String reservationId) {
+        return stockStore.releaseReservation(reservationId)
+                .flatMap(reservation -> stockEngine.release(reservation.getProductId(), reservation.getQuantity())
+                        .thenReturn(reservation));
+    }
+}
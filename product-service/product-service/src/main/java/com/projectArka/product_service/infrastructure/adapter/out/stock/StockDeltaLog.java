@@ -0,0 +1,152 @@
+package com.projectArka.product_service.infrastructure.adapter.out.stock;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Stream;
+
+/**
+ * Append-only log of stock deltas that have not reached the database yet, one segment file per
+ * flush epoch. Appends only enqueue; {@link #sync()} writes and forces the queued records, so a
+ * hard crash can lose at most the deltas of the last sync interval.
+ */
+public class StockDeltaLog {
+
+    private static final int RECORD_SIZE = Long.BYTES * 3;
+    private static final String SEGMENT_PREFIX = "stock-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path directory;
+    private final Queue<Record> pending = new ConcurrentLinkedQueue<>();
+    private final Map<Long, FileChannel> segments = new HashMap<>();
+
+    public StockDeltaLog(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create the stock log directory: " + directory, e);
+        }
+    }
+
+    public void append(long epoch, UUID productId, long delta) {
+        pending.add(new Record(epoch, productId, delta));
+    }
+
+    public synchronized void sync() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        try {
+            Map<Long, ByteBuffer> buffers = new HashMap<>();
+            Record record;
+            while ((record = pending.poll()) != null) {
+                ByteBuffer buffer = buffers.get(record.epoch());
+                if (buffer == null || !buffer.hasRemaining()) {
+                    if (buffer != null) {
+                        write(record.epoch(), buffer);
+                    }
+                    buffer = ByteBuffer.allocate(RECORD_SIZE * 1024);
+                    buffers.put(record.epoch(), buffer);
+                }
+                buffer.putLong(record.productId().getMostSignificantBits())
+                        .putLong(record.productId().getLeastSignificantBits())
+                        .putLong(record.delta());
+            }
+            for (Map.Entry<Long, ByteBuffer> buffer : buffers.entrySet()) {
+                write(buffer.getKey(), buffer.getValue());
+            }
+            for (FileChannel channel : segments.values()) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write the stock log", e);
+        }
+    }
+
+    public synchronized void deleteThrough(long epoch) {
+        try {
+            for (long segmentEpoch : segmentEpochs()) {
+                if (segmentEpoch <= epoch) {
+                    FileChannel channel = segments.remove(segmentEpoch);
+                    if (channel != null) {
+                        channel.close();
+                    }
+                    Files.deleteIfExists(segment(segmentEpoch));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to delete flushed stock log segments", e);
+        }
+    }
+
+    public synchronized Replay replay(long flushedEpoch) {
+        Map<UUID, Long> deltas = new HashMap<>();
+        long lastEpoch = flushedEpoch;
+        try {
+            for (long segmentEpoch : segmentEpochs()) {
+                lastEpoch = Math.max(lastEpoch, segmentEpoch);
+                if (segmentEpoch <= flushedEpoch) {
+                    continue;
+                }
+                ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(segment(segmentEpoch)));
+                // A trailing partial record is a write torn by a crash and is skipped.
+                while (buffer.remaining() >= RECORD_SIZE) {
+                    UUID productId = new UUID(buffer.getLong(), buffer.getLong());
+                    deltas.merge(productId, buffer.getLong(), Long::sum);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read the stock log", e);
+        }
+        deltas.values().removeIf(delta -> delta == 0);
+        return new Replay(deltas, lastEpoch);
+    }
+
+    private void write(long epoch, ByteBuffer buffer) throws IOException {
+        FileChannel channel = segments.get(epoch);
+        if (channel == null) {
+            channel = FileChannel.open(segment(epoch),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            segments.put(epoch, channel);
+        }
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private List<Long> segmentEpochs() throws IOException {
+        List<Long> epochs = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .forEach(name -> epochs.add(Long.parseLong(
+                            name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()))));
+        }
+        epochs.sort(Long::compare);
+        return epochs;
+    }
+
+    private Path segment(long epoch) {
+        return directory.resolve(SEGMENT_PREFIX + epoch + SEGMENT_SUFFIX);
+    }
+
+    public record Replay(Map<UUID, Long> deltas, long lastEpoch) {
+    }
+
+    private record Record(long epoch, UUID productId, long delta) {
+    }
+}
@@ -0,0 +1,129 @@
+package com.projectArka.product_service.infrastructure.adapter.out.stock;
+
+import com.projectArka.product_service.domain.model.CatalogVersion;
+import com.projectArka.product_service.domain.model.PageCursor;
+import com.projectArka.product_service.domain.model.PriceCursor;
+import com.projectArka.product_service.domain.model.PriceFilter;
+import com.projectArka.product_service.domain.model.Product;
+import com.projectArka.product_service.domain.model.ProductPatch;
+import com.projectArka.product_service.domain.model.ProductVersion;
+import com.projectArka.product_service.domain.port.out.ProductRepositoryPort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+
+public class StockOverlayProductRepositoryAdapter implements ProductRepositoryPort {
+
+    private final ProductRepositoryPort delegate;
+    private final InMemoryStockEngine stockEngine;
+
+    public StockOverlayProductRepositoryAdapter(ProductRepositoryPort delegate, InMemoryStockEngine stockEngine) {
+        this.delegate = delegate;
+        this.stockEngine = stockEngine;
+    }
+
+    // The engine owns the stock of existing products: a write that sets it leaves the row's stock
+    // alone and hands the new value to the engine, which records the difference as a delta.
+    @Override
+    public Mono<Product> save(Product product) {
+        if (product.getId() == null || product.getStock() == null) {
+            return delegate.save(product);
+        }
+        int stock = product.getStock();
+        return delegate.save(product.toBuilder().stock(null).build())
+                .flatMap(saved -> stockEngine.setStock(saved.getId(), stock).thenReturn(saved))
+                .map(this::overlay);
+    }
+
+    @Override
+    public Mono<Product> patch(String id, ProductPatch patch) {
+        if (patch.getStock() == null) {
+            return delegate.patch(id, patch).map(this::overlay);
+        }
+        int stock = patch.getStock();
+        return delegate.patch(id, patch.toBuilder().stock(null).build())
+                .flatMap(patched -> stockEngine.setStock(id, stock).thenReturn(patched))
+                .map(this::overlay);
+    }
+
+    @Override
+    public Mono<Product> findById(String id) {
+        return delegate.findById(id).map(this::overlay);
+    }
+
+    @Override
+    public Mono<Product> findBySku(String sku) {
+        return delegate.findBySku(sku).map(this::overlay);
+    }
+
+    @Override
+    public Mono<Product> findByName(String name) {
+        return delegate.findByName(name).map(this::overlay);
+    }
+
+    @Override
+    public Flux<Product> findAllByIds(Collection<String> ids) {
+        return delegate.findAllByIds(ids).map(this::overlay);
+    }
+
+    @Override
+    public Flux<Product> findAllBySkus(Collection<String> skus) {
+        return delegate.findAllBySkus(skus).map(this::overlay);
+    }
+
+    @Override
+    public Flux<Product> findAll() {
+        return delegate.findAll().map(this::overlay);
+    }
+
+    @Override
+    public Flux<Product> findPage(PageCursor after, int limit) {
+        return delegate.findPage(after, limit).map(this::overlay);
+    }
+
+    @Override
+    public Flux<Product> findPageByPrice(PriceFilter filter, PriceCursor after, int limit) {
+        return delegate.findPageByPrice(filter, after, limit).map(this::overlay);
+    }
+
+    @Override
+    public Mono<ProductVersion> findVersionById(String id) {
+        return delegate.findVersionById(id).map(this::overlay);
+    }
+
+    @Override
+    public Mono<CatalogVersion> findCatalogVersion() {
+        return delegate.findCatalogVersion()
+                .map(version -> version.toBuilder().stockChanges(stockEngine.changeCount()).build());
+    }
+
+    @Override
+    public Mono<Boolean> deleteById(String id) {
+        return delegate.deleteById(id);
+    }
+
+    @Override
+    public Flux<Product> findConflicting(Collection<String> skus, Collection<String> names) {
+        return delegate.findConflicting(skus, names);
+    }
+
+    @Override
+    public Flux<Product> insertAll(List<Product> products) {
+        return delegate.insertAll(products);
+    }
+
+    private Product overlay(Product product) {
+        Integer stock = stockEngine.availableStock(product.getId());
+        if (stock != null) {
+            product.setStock(stock);
+        }
+        return product;
+    }
+
+    private ProductVersion overlay(ProductVersion version) {
+        Integer stock = stockEngine.availableStock(version.getId());
+        return stock == null ? version : version.toBuilder().stock(stock).build();
+    }
+}
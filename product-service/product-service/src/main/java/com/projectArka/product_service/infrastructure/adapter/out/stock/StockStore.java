@@ -0,0 +1,15 @@
+package com.projectArka.product_service.infrastructure.adapter.out.stock;
+
+import com.projectArka.product_service.domain.model.StockReservation;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+public interface StockStore {
+    Mono<Integer> loadStock(String productId);
+    Mono<Long> loadFlushedEpoch();
+    Mono<Void> applyDeltas(Map<String, Long> deltas, long epoch);
+    Mono<StockReservation> insertReservation(String productId, int quantity);
+    Mono<StockReservation> commitReservation(String reservationId);
+    Mono<StockReservation> releaseReservation(String reservationId);
+}
@@ -0,0 +1,101 @@
+package com.projectArka.product_service.infrastructure.adapter.out.stock;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Stock counter split into cells so concurrent reservations on one product mostly CAS different
+ * cells. A reservation only succeeds on a cell that holds enough units, so no cell and therefore
+ * no total can go below zero. When no single cell can cover a reservation the cells are
+ * consolidated under a lock; that slow path only runs when stock is nearly sold out.
+ */
+public class StripedStockCounter {
+
+    // Cells are spaced one cache line apart to avoid false sharing.
+    private static final int PADDING = 8;
+
+    private final AtomicLongArray cells;
+    private final int stripes;
+    private final Object rebalanceLock = new Object();
+
+    public StripedStockCounter(int stripes, long initial) {
+        this.stripes = stripes;
+        this.cells = new AtomicLongArray(stripes * PADDING);
+        spread(initial);
+    }
+
+    public boolean tryReserve(int quantity) {
+        int start = ThreadLocalRandom.current().nextInt(stripes);
+        if (tryReserveFast(start, quantity)) {
+            return true;
+        }
+        synchronized (rebalanceLock) {
+            if (tryReserveFast(start, quantity)) {
+                return true;
+            }
+            long total = drain();
+            if (total < quantity) {
+                spread(total);
+                return false;
+            }
+            spread(total - quantity);
+            return true;
+        }
+    }
+
+    public void release(int quantity) {
+        cells.getAndAdd(cell(ThreadLocalRandom.current().nextInt(stripes)), quantity);
+    }
+
+    // May briefly undercount while a rebalance is moving units between cells.
+    public long available() {
+        long total = 0;
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            total += cells.get(cell(stripe));
+        }
+        return total;
+    }
+
+    // Returns the units there were, so the caller can record the change as a delta.
+    public long reset(long value) {
+        synchronized (rebalanceLock) {
+            long previous = drain();
+            spread(value);
+            return previous;
+        }
+    }
+
+    private boolean tryReserveFast(int start, int quantity) {
+        for (int i = 0; i < stripes; i++) {
+            int cell = cell((start + i) % stripes);
+            long current = cells.get(cell);
+            while (current >= quantity) {
+                if (cells.compareAndSet(cell, current, current - quantity)) {
+                    return true;
+                }
+                current = cells.get(cell);
+            }
+        }
+        return false;
+    }
+
+    private long drain() {
+        long total = 0;
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            total += cells.getAndSet(cell(stripe), 0);
+        }
+        return total;
+    }
+
+    private void spread(long value) {
+        long share = value / stripes;
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            cells.getAndAdd(cell(stripe), share);
+        }
+        cells.getAndAdd(cell(0), value - share * stripes);
+    }
+
+    private int cell(int stripe) {
+        return stripe * PADDING;
+    }
+}
@@ -0,0 +1,94 @@
+package com.projectArka.product_service.infrastructure.coalescing;
+
+import com.projectArka.product_service.domain.model.CatalogVersion;
+import com.projectArka.product_service.domain.model.CursorPage;
+import com.projectArka.product_service.domain.model.PriceFilter;
+import com.projectArka.product_service.domain.model.Product;
+import com.projectArka.product_service.domain.model.ProductLookup;
+import com.projectArka.product_service.domain.model.ProductVersion;
+import com.projectArka.product_service.domain.port.in.GetProductPort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Coalesces concurrent single-product lookups for the same key into one call to the delegate.
+ * Every caller gets its own copy of the shared result. Batches, listings and pages go straight
+ * through: their keys rarely repeat while one is running.
+ */
+public class CoalescingGetProductPort implements GetProductPort {
+
+    private final GetProductPort delegate;
+    private final ProductLookupFlights flights;
+
+    public CoalescingGetProductPort(GetProductPort delegate, ProductLookupFlights flights) {
+        this.delegate = delegate;
+        this.flights = flights;
+    }
+
+    @Override
+    public Mono<Product> getProductById(UUID id) {
+        return flights.byId().execute(id.toString(), () -> delegate.getProductById(id))
+                .map(CoalescingGetProductPort::copyOf);
+    }
+
+    @Override
+    public Mono<Product> getProductBySku(String sku) {
+        return flights.bySku().execute(sku, () -> delegate.getProductBySku(sku).doOnNext(flights::remember))
+                .map(CoalescingGetProductPort::copyOf);
+    }
+
+    @Override
+    public Mono<Product> getProductByName(String name) {
+        return flights.byName().execute(name, () -> delegate.getProductByName(name).doOnNext(flights::remember))
+                .map(CoalescingGetProductPort::copyOf);
+    }
+
+    @Override
+    public Flux<ProductLookup> getProductsByIds(List<UUID> ids) {
+        return delegate.getProductsByIds(ids);
+    }
+
+    @Override
+    public Flux<ProductLookup> getProductsBySkus(List<String> skus) {
+        return delegate.getProductsBySkus(skus);
+    }
+
+    @Override
+    public Flux<Product> getAllProducts() {
+        return delegate.getAllProducts();
+    }
+
+    @Override
+    public Mono<CursorPage<Product>> getProductPage(String cursor, int limit) {
+        return delegate.getProductPage(cursor, limit);
+    }
+
+    @Override
+    public Mono<CursorPage<Product>> getProductPageByPrice(PriceFilter filter, String cursor, int limit) {
+        return delegate.getProductPageByPrice(filter, cursor, limit);
+    }
+
+    @Override
+    public Mono<ProductVersion> getProductVersion(UUID id) {
+        return flights.versionById().execute(id.toString(), () -> delegate.getProductVersion(id))
+                .map(version -> version.toBuilder().build());
+    }
+
+    @Override
+    public Mono<CatalogVersion> getCatalogVersion() {
+        return delegate.getCatalogVersion();
+    }
+
+    private static Product copyOf(Product product) {
+        return product.toBuilder()
+                .features(product.getFeatures() == null ? null : product.getFeatures().stream()
+                        .map(feature -> feature.toBuilder().build())
+                        .collect(Collectors.toCollection(ArrayList::new)))
+                .build();
+    }
+}
@@ -0,0 +1,106 @@
+package com.projectArka.product_service.infrastructure.coalescing;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.projectArka.product_service.domain.model.Product;
+import com.projectArka.product_service.domain.model.ProductVersion;
+import com.projectArka.product_service.infrastructure.adapter.out.listener.ProductChangeListener;
+import com.projectArka.product_service.infrastructure.adapter.out.listener.StockChangeListener;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.LocalDateTime;
+
+/**
+ * The in-flight single-product lookups, one group per operation. A write detaches the flights that
+ * may have read the product before it, so a caller arriving after the write never joins a stale
+ * load. Writes carry the product id, so the SKU and name each product was last seen under are
+ * kept, bounded; for a product not among them the SKU and name groups are detached as a whole,
+ * since one of their running lookups may be about to return it.
+ */
+public class ProductLookupFlights implements ProductChangeListener, StockChangeListener {
+
+    private static final String PORT = "ProductPorts";
+    private static final int MAX_KNOWN_PRODUCTS = 10_000;
+
+    private final SingleFlight<String, Product> byId;
+    private final SingleFlight<String, Product> bySku;
+    private final SingleFlight<String, Product> byName;
+    private final SingleFlight<String, ProductVersion> versionById;
+    private final Cache<String, Keys> keysById = Caffeine.newBuilder()
+            .maximumSize(MAX_KNOWN_PRODUCTS)
+            .build();
+
+    public ProductLookupFlights(MeterRegistry meterRegistry) {
+        this.byId = new SingleFlight<>(meterRegistry, PORT, "getProductById");
+        this.bySku = new SingleFlight<>(meterRegistry, PORT, "getProductBySku");
+        this.byName = new SingleFlight<>(meterRegistry, PORT, "getProductByName");
+        this.versionById = new SingleFlight<>(meterRegistry, PORT, "getProductVersion");
+    }
+
+    public SingleFlight<String, Product> byId() {
+        return byId;
+    }
+
+    public SingleFlight<String, Product> bySku() {
+        return bySku;
+    }
+
+    public SingleFlight<String, Product> byName() {
+        return byName;
+    }
+
+    public SingleFlight<String, ProductVersion> versionById() {
+        return versionById;
+    }
+
+    // Called with the results of the SKU and name lookups; an older read never replaces a newer one.
+    public void remember(Product product) {
+        if (product.getId() != null) {
+            keysById.asMap().merge(product.getId(), Keys.of(product), Keys::newer);
+        }
+    }
+
+    // A flight under the new SKU or name may have read the product as missing, so those go too.
+    @Override
+    public void onSaved(Product product) {
+        forget(product.getId());
+        bySku.forget(product.getSku());
+        byName.forget(product.getName());
+        keysById.put(product.getId(), Keys.of(product));
+    }
+
+    @Override
+    public void onDeleted(String id) {
+        forget(id);
+        keysById.invalidate(id);
+    }
+
+    @Override
+    public void onStockChanged(String productId) {
+        forget(productId);
+    }
+
+    private void forget(String id) {
+        byId.forget(id);
+        versionById.forget(id);
+        Keys keys = keysById.getIfPresent(id);
+        if (keys == null) {
+            bySku.forgetAll();
+            byName.forgetAll();
+            return;
+        }
+        bySku.forget(keys.sku());
+        byName.forget(keys.name());
+    }
+
+    private record Keys(String sku, String name, LocalDateTime updatedAt) {
+
+        static Keys of(Product product) {
+            return new Keys(product.getSku(), product.getName(), product.getUpdatedAt());
+        }
+
+        Keys newer(Keys other) {
+            return updatedAt != null && other.updatedAt != null && updatedAt.isAfter(other.updatedAt) ? this : other;
+        }
+    }
+}
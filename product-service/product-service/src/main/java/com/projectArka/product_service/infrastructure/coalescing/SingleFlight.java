@@ -0,0 +1,71 @@
+package com.projectArka.product_service.infrastructure.coalescing;
+
+import com.projectArka.product_service.infrastructure.metrics.MetricNames;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Lets concurrent lookups of the same key share one load. The first caller starts it, callers
+ * arriving while it runs join it and receive the same result, and the key is released as soon as
+ * the load terminates, so nothing outlives the flight itself. {@link #forget} detaches a running
+ * flight when the data it reads has changed: callers already in it keep their result, later ones
+ * start a new load.
+ */
+public class SingleFlight<K, T> {
+
+    private final Map<K, Mono<T>> inFlight = new ConcurrentHashMap<>();
+    private final Counter started;
+    private final Counter joined;
+
+    public SingleFlight(MeterRegistry meterRegistry, String port, String operation) {
+        this.started = counter(meterRegistry, port, operation, "started");
+        this.joined = counter(meterRegistry, port, operation, "joined");
+    }
+
+    public Mono<T> execute(K key, Supplier<Mono<T>> loader) {
+        return Mono.defer(() -> {
+            boolean[] leader = new boolean[1];
+            Mono<T> flight = inFlight.computeIfAbsent(key, k -> {
+                leader[0] = true;
+                return newFlight(k, loader);
+            });
+            (leader[0] ? started : joined).increment();
+            return flight;
+        });
+    }
+
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    public void forgetAll() {
+        inFlight.clear();
+    }
+
+    public int size() {
+        return inFlight.size();
+    }
+
+    private Mono<T> newFlight(K key, Supplier<Mono<T>> loader) {
+        AtomicReference<Mono<T>> self = new AtomicReference<>();
+        Mono<T> flight = Mono.defer(loader)
+                .doFinally(signal -> inFlight.remove(key, self.get()))
+                .cache();
+        self.set(flight);
+        return flight;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String port, String operation, String result) {
+        return Counter.builder(MetricNames.SINGLE_FLIGHT_CALLS)
+                .tag("port", port)
+                .tag("operation", operation)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,34 @@
+package com.projectArka.product_service.infrastructure.config;
+
+import com.projectArka.product_service.domain.port.out.CatalogChangeRepositoryPort;
+import com.projectArka.product_service.infrastructure.adapter.out.outbox.CatalogChangePurger;
+import com.projectArka.product_service.infrastructure.adapter.out.r2dbc.adapter.R2dbcCatalogChangeRepositoryAdapter;
+import com.projectArka.product_service.infrastructure.metrics.MeteredCatalogChangeRepositoryAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+@Configuration
+public class CatalogChangeFeedConfig {
+
+    @Bean
+    @Primary
+    public CatalogChangeRepositoryPort catalogChangeRepositoryPort(R2dbcCatalogChangeRepositoryAdapter r2dbcCatalogChangeRepositoryAdapter,
+                                                                   ObjectProvider<MeterRegistry> meterRegistry) {
+        return new MeteredCatalogChangeRepositoryAdapter(r2dbcCatalogChangeRepositoryAdapter,
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public CatalogChangePurger catalogChangePurger(CatalogChangeRepositoryPort catalogChangeRepositoryPort,
+                                                   @Value("${catalog.changes.retention:7d}") Duration retention,
+                                                   @Value("${catalog.changes.purge-interval:1h}") Duration purgeInterval) {
+        return new CatalogChangePurger(catalogChangeRepositoryPort, retention, purgeInterval);
+    }
+}
@@ -0,0 +1,39 @@
+package com.projectArka.product_service.infrastructure.config;
+
+import com.projectArka.product_service.infrastructure.adapter.out.dictionary.DictionaryBrandRepositoryAdapter;
+import com.projectArka.product_service.infrastructure.adapter.out.dictionary.DictionaryCategoryRepositoryAdapter;
+import com.projectArka.product_service.infrastructure.adapter.out.r2dbc.adapter.R2dbcBrandRepositoryAdapter;
+import com.projectArka.product_service.infrastructure.adapter.out.r2dbc.adapter.R2dbcCategoryRepositoryAdapter;
+import com.projectArka.product_service.infrastructure.metrics.MeteredBrandRepositoryAdapter;
+import com.projectArka.product_service.infrastructure.metrics.MeteredCategoryRepositoryAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+@Configuration
+public class CatalogRepositoryConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @Primary
+    public DictionaryBrandRepositoryAdapter brandRepositoryPort(R2dbcBrandRepositoryAdapter r2dbcBrandRepositoryAdapter,
+                                                                ObjectProvider<MeterRegistry> meterRegistry,
+                                                                @Value("${catalog.dictionary.refresh-interval:5m}") Duration refreshInterval) {
+        return new DictionaryBrandRepositoryAdapter(new MeteredBrandRepositoryAdapter(r2dbcBrandRepositoryAdapter,
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry)), refreshInterval);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @Primary
+    public DictionaryCategoryRepositoryAdapter categoryRepositoryPort(R2dbcCategoryRepositoryAdapter r2dbcCategoryRepositoryAdapter,
+                                                                      ObjectProvider<MeterRegistry> meterRegistry,
+                                                                      @Value("${catalog.dictionary.refresh-interval:5m}") Duration refreshInterval) {
+        return new DictionaryCategoryRepositoryAdapter(new MeteredCategoryRepositoryAdapter(r2dbcCategoryRepositoryAdapter,
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry)), refreshInterval);
+    }
+}
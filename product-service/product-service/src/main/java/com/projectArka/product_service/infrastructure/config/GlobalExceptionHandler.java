@@ -1,5 +1,12 @@
 package com.projectArka.product_service.infrastructure.config;
 
+import com.projectArka.product_service.domain.exception.BrandAlreadyExistsException;
+import com.projectArka.product_service.domain.exception.CategoryAlreadyExistsException;
+import com.projectArka.product_service.domain.exception.ChangeFeedExpiredException;
+import com.projectArka.product_service.domain.exception.InsufficientStockException;
+import com.projectArka.product_service.domain.exception.ProductAlreadyExistsException;
+import com.projectArka.product_service.domain.exception.ReservationNotFoundException;
+import com.projectArka.product_service.domain.exception.VersionConflictException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -33,6 +40,31 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(Map.of("message", "Resource not found"), HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler({ProductAlreadyExistsException.class, BrandAlreadyExistsException.class, CategoryAlreadyExistsException.class})
+    public ResponseEntity<Map<String, String>> handleAlreadyExistsException(RuntimeException ex) {
+        return new ResponseEntity<>(Map.of("message", ex.getMessage()), HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(InsufficientStockException.class)
+    public ResponseEntity<Map<String, String>> handleInsufficientStockException(InsufficientStockException ex) {
+        return new ResponseEntity<>(Map.of("message", ex.getMessage()), HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(ReservationNotFoundException.class)
+    public ResponseEntity<Map<String, String>> handleReservationNotFoundException(ReservationNotFoundException ex) {
+        return new ResponseEntity<>(Map.of("message", ex.getMessage()), HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler(ChangeFeedExpiredException.class)
+    public ResponseEntity<Map<String, String>> handleChangeFeedExpiredException(ChangeFeedExpiredException ex) {
+        return new ResponseEntity<>(Map.of("message", ex.getMessage()), HttpStatus.GONE);
+    }
+
+    @ExceptionHandler(VersionConflictException.class)
+    public ResponseEntity<Map<String, String>> handleVersionConflictException(VersionConflictException ex) {
+        return new ResponseEntity<>(Map.of("message", ex.getMessage()), HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<Map<String, String>> handleRuntimeException(RuntimeException ex) {
         logger.error("Internal server error: {}", ex.getMessage(), ex);
@@ -0,0 +1,28 @@
+package com.projectArka.product_service.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectArka.product_service.infrastructure.adapter.out.cache.ProductJsonCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+@Configuration
+public class ProductJsonCacheConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "product.json-cache.enabled", havingValue = "true")
+    public ProductJsonCache productJsonCache(ObjectMapper objectMapper,
+                                             ObjectProvider<MeterRegistry> meterRegistry,
+                                             @Value("${product.json-cache.maximum-size:64MB}") DataSize maximumSize,
+                                             @Value("${product.json-cache.gzip:false}") boolean gzip) {
+        ProductJsonCache productJsonCache =
+                new ProductJsonCache(objectMapper, PooledByteBufAllocator.DEFAULT, maximumSize.toBytes(), gzip);
+        meterRegistry.ifAvailable(productJsonCache::bindTo);
+        return productJsonCache;
+    }
+}
@@ -0,0 +1,112 @@
+package com.projectArka.product_service.infrastructure.config;
+
+import com.projectArka.product_service.domain.port.in.StreamCatalogChangesPort;
+import com.projectArka.product_service.domain.port.out.CatalogChangeRepositoryPort;
+import com.projectArka.product_service.domain.port.out.ProductPurgeRepositoryPort;
+import com.projectArka.product_service.domain.port.out.ProductRepositoryPort;
+import com.projectArka.product_service.infrastructure.adapter.out.cache.CachingProductRepositoryAdapter;
+import com.projectArka.product_service.infrastructure.adapter.out.existence.ExistenceFilterProductRepositoryAdapter;
+import com.projectArka.product_service.infrastructure.adapter.out.existence.ProductExistenceFilter;
+import com.projectArka.product_service.infrastructure.adapter.out.existence.ProductExistenceFilterFeed;
+import com.projectArka.product_service.infrastructure.adapter.out.listener.NotifyingProductRepositoryAdapter;
+import com.projectArka.product_service.infrastructure.adapter.out.listener.ProductChangeListener;
+import com.projectArka.product_service.infrastructure.adapter.out.purge.ProductPurger;
+import com.projectArka.product_service.infrastructure.adapter.out.r2dbc.adapter.R2dbcProductRepositoryAdapter;
+import com.projectArka.product_service.infrastructure.adapter.out.stock.InMemoryStockEngine;
+import com.projectArka.product_service.infrastructure.adapter.out.stock.StockOverlayProductRepositoryAdapter;
+import com.projectArka.product_service.infrastructure.metrics.MeteredProductRepositoryAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.support.CronExpression;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+public class ProductRepositoryConfig {
+
+    @Bean
+    public MeteredProductRepositoryAdapter meteredProductRepositoryAdapter(R2dbcProductRepositoryAdapter r2dbcProductRepositoryAdapter,
+                                                                           ObjectProvider<MeterRegistry> meterRegistry) {
+        return new MeteredProductRepositoryAdapter(r2dbcProductRepositoryAdapter,
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "product.cache.enabled", havingValue = "true")
+    public CachingProductRepositoryAdapter cachingProductRepositoryAdapter(MeteredProductRepositoryAdapter meteredProductRepositoryAdapter,
+                                                                           ObjectProvider<MeterRegistry> meterRegistry,
+                                                                           @Value("${product.cache.maximum-size:10000}") long cacheMaximumSize,
+                                                                           @Value("${product.cache.ttl:10m}") Duration cacheTtl) {
+        CachingProductRepositoryAdapter cachingAdapter =
+                new CachingProductRepositoryAdapter(meteredProductRepositoryAdapter, cacheMaximumSize, cacheTtl);
+        meterRegistry.ifAvailable(cachingAdapter::bindTo);
+        return cachingAdapter;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "product.existence-filter.enabled", havingValue = "true")
+    public ProductExistenceFilter productExistenceFilter(ObjectProvider<MeterRegistry> meterRegistry,
+                                                         @Value("${product.existence-filter.expected-products:100000}") long expectedProducts,
+                                                         @Value("${product.existence-filter.fpp:0.01}") double fpp) {
+        ProductExistenceFilter productExistenceFilter = new ProductExistenceFilter(expectedProducts, fpp);
+        meterRegistry.ifAvailable(productExistenceFilter::bindTo);
+        return productExistenceFilter;
+    }
+
+    // Reads the products behind the changes past the cache, which may not have seen them yet.
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnProperty(name = "product.existence-filter.enabled", havingValue = "true")
+    public ProductExistenceFilterFeed productExistenceFilterFeed(StreamCatalogChangesPort streamCatalogChangesPort,
+                                                                 CatalogChangeRepositoryPort catalogChangeRepositoryPort,
+                                                                 MeteredProductRepositoryAdapter meteredProductRepositoryAdapter,
+                                                                 ProductExistenceFilter productExistenceFilter) {
+        return new ProductExistenceFilterFeed(streamCatalogChangesPort, catalogChangeRepositoryPort,
+                meteredProductRepositoryAdapter, productExistenceFilter);
+    }
+
+    @Bean
+    @Primary
+    public ProductRepositoryPort productRepositoryPort(MeteredProductRepositoryAdapter meteredProductRepositoryAdapter,
+                                                       ObjectProvider<CachingProductRepositoryAdapter> cachingProductRepositoryAdapter,
+                                                       ObjectProvider<ProductExistenceFilter> productExistenceFilter,
+                                                       ObjectProvider<InMemoryStockEngine> inMemoryStockEngine,
+                                                       ObjectProvider<ProductChangeListener> productChangeListeners) {
+        ProductRepositoryPort productRepositoryPort = cachingProductRepositoryAdapter.getIfAvailable();
+        if (productRepositoryPort == null) {
+            productRepositoryPort = meteredProductRepositoryAdapter;
+        }
+
+        ProductExistenceFilter existenceFilter = productExistenceFilter.getIfAvailable();
+        if (existenceFilter != null) {
+            productRepositoryPort = new ExistenceFilterProductRepositoryAdapter(productRepositoryPort, existenceFilter);
+        }
+
+        InMemoryStockEngine stockEngine = inMemoryStockEngine.getIfAvailable();
+        if (stockEngine != null) {
+            productRepositoryPort = new StockOverlayProductRepositoryAdapter(productRepositoryPort, stockEngine);
+        }
+
+        List<ProductChangeListener> listeners = productChangeListeners.orderedStream().toList();
+        if (!listeners.isEmpty()) {
+            productRepositoryPort = new NotifyingProductRepositoryAdapter(productRepositoryPort, listeners);
+        }
+
+        return productRepositoryPort;
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public ProductPurger productPurger(ProductPurgeRepositoryPort productPurgeRepositoryPort,
+                                       @Value("${product.purge.cron:0 0 3 * * *}") String purgeCron,
+                                       @Value("${product.purge.retention:7d}") Duration retention,
+                                       @Value("${product.purge.batch-size:500}") int batchSize,
+                                       @Value("${product.purge.window:1h}") Duration window) {
+        return new ProductPurger(productPurgeRepositoryPort, CronExpression.parse(purgeCron), retention, batchSize, window);
+    }
+}
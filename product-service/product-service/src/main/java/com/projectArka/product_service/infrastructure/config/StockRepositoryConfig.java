@@ -0,0 +1,54 @@
+package com.projectArka.product_service.infrastructure.config;
+
+import com.projectArka.product_service.domain.port.out.StockRepositoryPort;
+import com.projectArka.product_service.infrastructure.adapter.out.listener.NotifyingStockRepositoryAdapter;
+import com.projectArka.product_service.infrastructure.adapter.out.listener.StockChangeListener;
+import com.projectArka.product_service.infrastructure.adapter.out.r2dbc.adapter.R2dbcStockRepositoryAdapter;
+import com.projectArka.product_service.infrastructure.adapter.out.r2dbc.adapter.R2dbcStockStoreAdapter;
+import com.projectArka.product_service.infrastructure.adapter.out.stock.InMemoryStockEngine;
+import com.projectArka.product_service.infrastructure.adapter.out.stock.InMemoryStockRepositoryAdapter;
+import com.projectArka.product_service.infrastructure.adapter.out.stock.StockDeltaLog;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+public class StockRepositoryConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnProperty(name = "stock.engine.enabled", havingValue = "true")
+    public InMemoryStockEngine inMemoryStockEngine(R2dbcStockStoreAdapter r2dbcStockStoreAdapter,
+                                                   @Value("${stock.engine.stripes:8}") int stripes,
+                                                   @Value("${stock.engine.flush-interval:1s}") Duration flushInterval,
+                                                   @Value("${stock.engine.log-sync-interval:20ms}") Duration logSyncInterval,
+                                                   @Value("${stock.engine.log-dir:stock-log}") Path logDirectory) {
+        return new InMemoryStockEngine(r2dbcStockStoreAdapter, new StockDeltaLog(logDirectory), stripes,
+                flushInterval, logSyncInterval);
+    }
+
+    @Bean
+    @Primary
+    public StockRepositoryPort stockRepositoryPort(R2dbcStockRepositoryAdapter r2dbcStockRepositoryAdapter,
+                                                   R2dbcStockStoreAdapter r2dbcStockStoreAdapter,
+                                                   ObjectProvider<InMemoryStockEngine> inMemoryStockEngine,
+                                                   ObjectProvider<StockChangeListener> stockChangeListeners) {
+        InMemoryStockEngine stockEngine = inMemoryStockEngine.getIfAvailable();
+        StockRepositoryPort stockRepositoryPort = stockEngine != null
+                ? new InMemoryStockRepositoryAdapter(stockEngine, r2dbcStockStoreAdapter)
+                : r2dbcStockRepositoryAdapter;
+
+        List<StockChangeListener> listeners = stockChangeListeners.orderedStream().toList();
+        if (!listeners.isEmpty()) {
+            stockRepositoryPort = new NotifyingStockRepositoryAdapter(stockRepositoryPort, listeners);
+        }
+
+        return stockRepositoryPort;
+    }
+}
@@ -0,0 +1,78 @@
+package com.projectArka.product_service.infrastructure.config;
+
+import com.projectArka.product_service.application.usecase.BrandUseCase;
+import com.projectArka.product_service.application.usecase.CategoryUseCase;
+import com.projectArka.product_service.application.usecase.ProductExpansionUseCase;
+import com.projectArka.product_service.application.usecase.ProductFilterUseCase;
+import com.projectArka.product_service.application.usecase.ProductSearchUseCase;
+import com.projectArka.product_service.application.usecase.ProductUseCase;
+import com.projectArka.product_service.application.usecase.StockUseCase;
+import com.projectArka.product_service.domain.port.in.GetProductPort;
+import com.projectArka.product_service.infrastructure.coalescing.CoalescingGetProductPort;
+import com.projectArka.product_service.infrastructure.coalescing.ProductLookupFlights;
+import com.projectArka.product_service.infrastructure.metrics.MeteredBrandPorts;
+import com.projectArka.product_service.infrastructure.metrics.MeteredCategoryPorts;
+import com.projectArka.product_service.infrastructure.metrics.MeteredProductPorts;
+import com.projectArka.product_service.infrastructure.metrics.MeteredProductQueryPorts;
+import com.projectArka.product_service.infrastructure.metrics.MeteredStockPorts;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+public class UseCaseMetricsConfig {
+
+    @Bean
+    @Primary
+    public MeteredProductPorts meteredProductPorts(ProductUseCase productUseCase,
+                                                   ObjectProvider<ProductLookupFlights> productLookupFlights,
+                                                   ObjectProvider<MeterRegistry> meterRegistry) {
+        ProductLookupFlights flights = productLookupFlights.getIfAvailable();
+        GetProductPort getProductPort = flights != null ? new CoalescingGetProductPort(productUseCase, flights) : productUseCase;
+        return new MeteredProductPorts(productUseCase, getProductPort, productUseCase, productUseCase, productUseCase,
+                registry(meterRegistry));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "product.coalescing.enabled", havingValue = "true", matchIfMissing = true)
+    public ProductLookupFlights productLookupFlights(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new ProductLookupFlights(registry(meterRegistry));
+    }
+
+    @Bean
+    @Primary
+    public MeteredBrandPorts meteredBrandPorts(BrandUseCase brandUseCase, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new MeteredBrandPorts(brandUseCase, brandUseCase, brandUseCase, brandUseCase, registry(meterRegistry));
+    }
+
+    @Bean
+    @Primary
+    public MeteredCategoryPorts meteredCategoryPorts(CategoryUseCase categoryUseCase, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new MeteredCategoryPorts(categoryUseCase, categoryUseCase, categoryUseCase, categoryUseCase,
+                registry(meterRegistry));
+    }
+
+    @Bean
+    @Primary
+    public MeteredProductQueryPorts meteredProductQueryPorts(ProductSearchUseCase productSearchUseCase,
+                                                             ProductFilterUseCase productFilterUseCase,
+                                                             ProductExpansionUseCase productExpansionUseCase,
+                                                             ObjectProvider<MeterRegistry> meterRegistry) {
+        return new MeteredProductQueryPorts(productSearchUseCase, productFilterUseCase, productExpansionUseCase,
+                registry(meterRegistry));
+    }
+
+    @Bean
+    @Primary
+    public MeteredStockPorts meteredStockPorts(StockUseCase stockUseCase, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new MeteredStockPorts(stockUseCase, registry(meterRegistry));
+    }
+
+    private MeterRegistry registry(ObjectProvider<MeterRegistry> meterRegistry) {
+        return meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+    }
+}
@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
 
@@ -31,6 +32,10 @@ public class BrandEntity {
     @Column("updated_at")
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column("version")
+    private Long version;
+
     public static BrandEntity fromDomain(Brand brand) {
         if (brand == null) {
             return null;
@@ -46,6 +51,7 @@ public class BrandEntity {
                 .name(brand.getName())
                 .createdAt(brand.getCreatedAt() != null ? brand.getCreatedAt() : now)
                 .updatedAt(now)
+                .version(brand.getVersion())
                 .build();
     }
 
@@ -55,6 +61,7 @@ public class BrandEntity {
                 .name(this.name)
                 .createdAt(this.createdAt)
                 .updatedAt(this.updatedAt)
+                .version(this.version)
                 .build();
     }
 }
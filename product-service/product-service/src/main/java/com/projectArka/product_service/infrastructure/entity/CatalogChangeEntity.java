@@ -0,0 +1,46 @@
+package com.projectArka.product_service.infrastructure.entity;
+
+import com.projectArka.product_service.domain.model.CatalogChange;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Table(name = "catalog_change")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CatalogChangeEntity {
+    @Id
+    @Column("seq")
+    private Long seq;
+
+    @Column("entity_type")
+    private String entityType;
+
+    @Column("entity_id")
+    private UUID entityId;
+
+    @Column("change_type")
+    private String changeType;
+
+    @Column("changed_at")
+    private LocalDateTime changedAt;
+
+    public CatalogChange toDomain() {
+        return CatalogChange.builder()
+                .sequence(this.seq)
+                .entityType(CatalogChange.EntityType.valueOf(this.entityType))
+                .entityId(this.entityId.toString())
+                .type(CatalogChange.Type.valueOf(this.changeType))
+                .changedAt(this.changedAt)
+                .build();
+    }
+}
@@ -6,10 +6,12 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
 @Table(name = "category")
@@ -35,8 +37,12 @@ public class CategoryEntity {
     @Column("updated_at")
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column("version")
+    private Long version;
+
     public static CategoryEntity fromDomain(Category category) {
-        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS); // the precision of the TIMESTAMP columns
         UUID id = null;
         if (category.getId() != null) {
             id = UUID.fromString(category.getId());
@@ -48,17 +54,18 @@ public class CategoryEntity {
                 .description(category.getDescription())
                 .createdAt(category.getCreatedAt() != null ? category.getCreatedAt() : now)
                 .updatedAt(now)
+                .version(category.getVersion())
                 .build();
     }
 
     public Category toDomain() {
-        this.updatedAt = LocalDateTime.now();
         return Category.builder()
                 .id(this.id != null ? this.id.toString() : null)
                 .name(this.name)
                 .description(this.description)
                 .createdAt(this.createdAt)
                 .updatedAt(this.updatedAt)
+                .version(this.version)
                 .build();
     }
 }
\ No newline at end of file
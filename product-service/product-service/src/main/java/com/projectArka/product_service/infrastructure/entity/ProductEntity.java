@@ -6,11 +6,13 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
 @Table(name = "product")
@@ -53,11 +55,15 @@ public class ProductEntity {
     @Column("updated_at")
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column("version")
+    private Long version;
+
     public static ProductEntity fromDomain(Product product) {
         if (product == null) {
             return null;
         }
-        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS); // the precision of the TIMESTAMP columns
         UUID id = null;
         if (product.getId() != null) {
             id = UUID.fromString(product.getId());
@@ -75,11 +81,11 @@ public class ProductEntity {
                 .active(product.getActive())
                 .createdAt(product.getCreatedAt() != null ? product.getCreatedAt() : now)
                 .updatedAt(now)
+                .version(product.getVersion())
                 .build();
     }
 
     public Product toDomain() {
-        this.updatedAt = LocalDateTime.now();
         return Product.builder()
                 .id(this.id != null ? this.id.toString() : null)
                 .sku(this.sku)
@@ -92,6 +98,7 @@ public class ProductEntity {
                 .active(this.active)
                 .createdAt(this.createdAt)
                 .updatedAt(this.updatedAt)
+                .version(this.version)
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.projectArka.product_service.infrastructure.entity;
+
+import com.projectArka.product_service.domain.model.StockReservation;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Table(name = "stock_reservation")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockReservationEntity {
+    @Id
+    @Column("id")
+    private UUID id;
+
+    @Column("product_id")
+    private UUID productId;
+
+    @Column("quantity")
+    private Integer quantity;
+
+    @Column("status")
+    private String status;
+
+    @Column("created_at")
+    private LocalDateTime createdAt;
+
+    @Column("updated_at")
+    private LocalDateTime updatedAt;
+
+    public StockReservation toDomain() {
+        return StockReservation.builder()
+                .id(this.id.toString())
+                .productId(this.productId.toString())
+                .quantity(this.quantity)
+                .status(StockReservation.Status.valueOf(this.status))
+                .createdAt(this.createdAt)
+                .updatedAt(this.updatedAt)
+                .build();
+    }
+}
@@ -0,0 +1,82 @@
+package com.projectArka.product_service.infrastructure.metrics;
+
+import com.projectArka.product_service.domain.model.Brand;
+import com.projectArka.product_service.domain.model.CursorPage;
+import com.projectArka.product_service.domain.port.in.CreateBrandPort;
+import com.projectArka.product_service.domain.port.in.DeleteBrandPort;
+import com.projectArka.product_service.domain.port.in.GetBrandPort;
+import com.projectArka.product_service.domain.port.in.UpdateBrandPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public class MeteredBrandPorts implements CreateBrandPort, GetBrandPort, UpdateBrandPort, DeleteBrandPort {
+
+    private final CreateBrandPort createBrandPort;
+    private final GetBrandPort getBrandPort;
+    private final UpdateBrandPort updateBrandPort;
+    private final DeleteBrandPort deleteBrandPort;
+    private final PortMetrics.Operation createBrand;
+    private final PortMetrics.Operation getBrandById;
+    private final PortMetrics.Operation getBrandByName;
+    private final PortMetrics.Operation getAllBrands;
+    private final PortMetrics.Operation getBrandPage;
+    private final PortMetrics.Operation updateBrand;
+    private final PortMetrics.Operation deleteBrandById;
+
+    public MeteredBrandPorts(CreateBrandPort createBrandPort,
+                             GetBrandPort getBrandPort,
+                             UpdateBrandPort updateBrandPort,
+                             DeleteBrandPort deleteBrandPort,
+                             MeterRegistry meterRegistry) {
+        this.createBrandPort = createBrandPort;
+        this.getBrandPort = getBrandPort;
+        this.updateBrandPort = updateBrandPort;
+        this.deleteBrandPort = deleteBrandPort;
+        PortMetrics metrics = new PortMetrics(meterRegistry, MetricNames.USE_CASE_CALLS, "BrandPorts");
+        this.createBrand = metrics.operation("createBrand");
+        this.getBrandById = metrics.operation("getBrandById");
+        this.getBrandByName = metrics.operation("getBrandByName");
+        this.getAllBrands = metrics.operation("getAllBrands");
+        this.getBrandPage = metrics.operation("getBrandPage");
+        this.updateBrand = metrics.operation("updateBrand");
+        this.deleteBrandById = metrics.operation("deleteBrandById");
+    }
+
+    @Override
+    public Mono<Brand> createBrand(Brand brand) {
+        return createBrand.record(createBrandPort.createBrand(brand));
+    }
+
+    @Override
+    public Mono<Brand> getBrandById(UUID id) {
+        return getBrandById.record(getBrandPort.getBrandById(id));
+    }
+
+    @Override
+    public Mono<Brand> getBrandByName(String name) {
+        return getBrandByName.record(getBrandPort.getBrandByName(name));
+    }
+
+    @Override
+    public Flux<Brand> getAllBrands() {
+        return getAllBrands.record(getBrandPort.getAllBrands());
+    }
+
+    @Override
+    public Mono<CursorPage<Brand>> getBrandPage(String cursor, int limit) {
+        return getBrandPage.record(getBrandPort.getBrandPage(cursor, limit));
+    }
+
+    @Override
+    public Mono<Brand> updateBrand(Brand brand) {
+        return updateBrand.record(updateBrandPort.updateBrand(brand));
+    }
+
+    @Override
+    public Mono<Void> deleteBrandById(UUID id) {
+        return deleteBrandById.record(deleteBrandPort.deleteBrandById(id));
+    }
+}
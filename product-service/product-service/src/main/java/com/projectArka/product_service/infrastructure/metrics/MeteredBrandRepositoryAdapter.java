@@ -0,0 +1,69 @@
+package com.projectArka.product_service.infrastructure.metrics;
+
+import com.projectArka.product_service.domain.model.Brand;
+import com.projectArka.product_service.domain.model.PageCursor;
+import com.projectArka.product_service.domain.port.out.BrandRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+public class MeteredBrandRepositoryAdapter implements BrandRepositoryPort {
+
+    private final BrandRepositoryPort delegate;
+    private final PortMetrics.Operation save;
+    private final PortMetrics.Operation findById;
+    private final PortMetrics.Operation findByName;
+    private final PortMetrics.Operation findAll;
+    private final PortMetrics.Operation findAllByIds;
+    private final PortMetrics.Operation findPage;
+    private final PortMetrics.Operation deleteById;
+
+    public MeteredBrandRepositoryAdapter(BrandRepositoryPort delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        PortMetrics metrics = new PortMetrics(meterRegistry, MetricNames.REPOSITORY_CALLS, "BrandRepositoryPort");
+        this.save = metrics.operation("save");
+        this.findById = metrics.operation("findById");
+        this.findByName = metrics.operation("findByName");
+        this.findAll = metrics.operation("findAll");
+        this.findAllByIds = metrics.operation("findAllByIds");
+        this.findPage = metrics.operation("findPage");
+        this.deleteById = metrics.operation("deleteById");
+    }
+
+    @Override
+    public Mono<Brand> save(Brand brand) {
+        return save.record(delegate.save(brand));
+    }
+
+    @Override
+    public Mono<Brand> findById(String id) {
+        return findById.record(delegate.findById(id));
+    }
+
+    @Override
+    public Mono<Brand> findByName(String name) {
+        return findByName.record(delegate.findByName(name));
+    }
+
+    @Override
+    public Flux<Brand> findAll() {
+        return findAll.record(delegate.findAll());
+    }
+
+    @Override
+    public Flux<Brand> findAllByIds(Collection<String> ids) {
+        return findAllByIds.record(delegate.findAllByIds(ids));
+    }
+
+    @Override
+    public Flux<Brand> findPage(PageCursor after, int limit) {
+        return findPage.record(delegate.findPage(after, limit));
+    }
+
+    @Override
+    public Mono<Void> deleteById(String id) {
+        return deleteById.record(delegate.deleteById(id));
+    }
+}
@@ -0,0 +1,54 @@
+package com.projectArka.product_service.infrastructure.metrics;
+
+import com.projectArka.product_service.domain.model.CatalogChange;
+import com.projectArka.product_service.domain.port.out.CatalogChangeRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+public class MeteredCatalogChangeRepositoryAdapter implements CatalogChangeRepositoryPort {
+
+    private final CatalogChangeRepositoryPort delegate;
+    private final PortMetrics.Operation findAfter;
+    private final PortMetrics.Operation findLatestSequence;
+    private final PortMetrics.Operation findPurgedSequence;
+    private final PortMetrics.Operation findCurrentTime;
+    private final PortMetrics.Operation purgeBefore;
+
+    public MeteredCatalogChangeRepositoryAdapter(CatalogChangeRepositoryPort delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        PortMetrics metrics = new PortMetrics(meterRegistry, MetricNames.REPOSITORY_CALLS, "CatalogChangeRepositoryPort");
+        this.findAfter = metrics.operation("findAfter");
+        this.findLatestSequence = metrics.operation("findLatestSequence");
+        this.findPurgedSequence = metrics.operation("findPurgedSequence");
+        this.findCurrentTime = metrics.operation("findCurrentTime");
+        this.purgeBefore = metrics.operation("purgeBefore");
+    }
+
+    @Override
+    public Flux<CatalogChange> findAfter(long sequence, int limit) {
+        return findAfter.record(delegate.findAfter(sequence, limit));
+    }
+
+    @Override
+    public Mono<Long> findLatestSequence() {
+        return findLatestSequence.record(delegate.findLatestSequence());
+    }
+
+    @Override
+    public Mono<Long> findPurgedSequence() {
+        return findPurgedSequence.record(delegate.findPurgedSequence());
+    }
+
+    @Override
+    public Mono<LocalDateTime> findCurrentTime() {
+        return findCurrentTime.record(delegate.findCurrentTime());
+    }
+
+    @Override
+    public Mono<Long> purgeBefore(LocalDateTime cutoff) {
+        return purgeBefore.record(delegate.purgeBefore(cutoff));
+    }
+}
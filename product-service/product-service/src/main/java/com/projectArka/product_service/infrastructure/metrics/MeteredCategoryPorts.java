@@ -0,0 +1,82 @@
+package com.projectArka.product_service.infrastructure.metrics;
+
+import com.projectArka.product_service.domain.model.Category;
+import com.projectArka.product_service.domain.model.CursorPage;
+import com.projectArka.product_service.domain.port.in.CreateCategoryPort;
+import com.projectArka.product_service.domain.port.in.DeleteCategoryPort;
+import com.projectArka.product_service.domain.port.in.GetCategoryPort;
+import com.projectArka.product_service.domain.port.in.UpdateCategoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public class MeteredCategoryPorts implements CreateCategoryPort, GetCategoryPort, UpdateCategoryPort, DeleteCategoryPort {
+
+    private final CreateCategoryPort createCategoryPort;
+    private final GetCategoryPort getCategoryPort;
+    private final UpdateCategoryPort updateCategoryPort;
+    private final DeleteCategoryPort deleteCategoryPort;
+    private final PortMetrics.Operation createCategory;
+    private final PortMetrics.Operation getCategoryById;
+    private final PortMetrics.Operation getCategoryByName;
+    private final PortMetrics.Operation getAllCategories;
+    private final PortMetrics.Operation getCategoryPage;
+    private final PortMetrics.Operation updateCategory;
+    private final PortMetrics.Operation deleteCategoryById;
+
+    public MeteredCategoryPorts(CreateCategoryPort createCategoryPort,
+                                GetCategoryPort getCategoryPort,
+                                UpdateCategoryPort updateCategoryPort,
+                                DeleteCategoryPort deleteCategoryPort,
+                                MeterRegistry meterRegistry) {
+        this.createCategoryPort = createCategoryPort;
+        this.getCategoryPort = getCategoryPort;
+        this.updateCategoryPort = updateCategoryPort;
+        this.deleteCategoryPort = deleteCategoryPort;
+        PortMetrics metrics = new PortMetrics(meterRegistry, MetricNames.USE_CASE_CALLS, "CategoryPorts");
+        this.createCategory = metrics.operation("createCategory");
+        this.getCategoryById = metrics.operation("getCategoryById");
+        this.getCategoryByName = metrics.operation("getCategoryByName");
+        this.getAllCategories = metrics.operation("getAllCategories");
+        this.getCategoryPage = metrics.operation("getCategoryPage");
+        this.updateCategory = metrics.operation("updateCategory");
+        this.deleteCategoryById = metrics.operation("deleteCategoryById");
+    }
+
+    @Override
+    public Mono<Category> createCategory(Category category) {
+        return createCategory.record(createCategoryPort.createCategory(category));
+    }
+
+    @Override
+    public Mono<Category> getCategoryById(UUID id) {
+        return getCategoryById.record(getCategoryPort.getCategoryById(id));
+    }
+
+    @Override
+    public Mono<Category> getCategoryByName(String name) {
+        return getCategoryByName.record(getCategoryPort.getCategoryByName(name));
+    }
+
+    @Override
+    public Flux<Category> getAllCategories() {
+        return getAllCategories.record(getCategoryPort.getAllCategories());
+    }
+
+    @Override
+    public Mono<CursorPage<Category>> getCategoryPage(String cursor, int limit) {
+        return getCategoryPage.record(getCategoryPort.getCategoryPage(cursor, limit));
+    }
+
+    @Override
+    public Mono<Category> updateCategory(Category category) {
+        return updateCategory.record(updateCategoryPort.updateCategory(category));
+    }
+
+    @Override
+    public Mono<Void> deleteCategoryById(UUID id) {
+        return deleteCategoryById.record(deleteCategoryPort.deleteCategoryById(id));
+    }
+}
@@ -0,0 +1,70 @@
+package com.projectArka.product_service.infrastructure.metrics;
+
+import com.projectArka.product_service.domain.model.Category;
+import com.projectArka.product_service.domain.model.PageCursor;
+import com.projectArka.product_service.domain.port.out.CategoryRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.UUID;
+
+public class MeteredCategoryRepositoryAdapter implements CategoryRepositoryPort {
+
+    private final CategoryRepositoryPort delegate;
+    private final PortMetrics.Operation save;
+    private final PortMetrics.Operation findById;
+    private final PortMetrics.Operation findByName;
+    private final PortMetrics.Operation findAll;
+    private final PortMetrics.Operation findAllByIds;
+    private final PortMetrics.Operation findPage;
+    private final PortMetrics.Operation deleteById;
+
+    public MeteredCategoryRepositoryAdapter(CategoryRepositoryPort delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        PortMetrics metrics = new PortMetrics(meterRegistry, MetricNames.REPOSITORY_CALLS, "CategoryRepositoryPort");
+        this.save = metrics.operation("save");
+        this.findById = metrics.operation("findById");
+        this.findByName = metrics.operation("findByName");
+        this.findAll = metrics.operation("findAll");
+        this.findAllByIds = metrics.operation("findAllByIds");
+        this.findPage = metrics.operation("findPage");
+        this.deleteById = metrics.operation("deleteById");
+    }
+
+    @Override
+    public Mono<Category> save(Category category) {
+        return save.record(delegate.save(category));
+    }
+
+    @Override
+    public Mono<Category> findById(String id) {
+        return findById.record(delegate.findById(id));
+    }
+
+    @Override
+    public Mono<Category> findByName(String name) {
+        return findByName.record(delegate.findByName(name));
+    }
+
+    @Override
+    public Flux<Category> findAll() {
+        return findAll.record(delegate.findAll());
+    }
+
+    @Override
+    public Flux<Category> findAllByIds(Collection<String> ids) {
+        return findAllByIds.record(delegate.findAllByIds(ids));
+    }
+
+    @Override
+    public Flux<Category> findPage(PageCursor after, int limit) {
+        return findPage.record(delegate.findPage(after, limit));
+    }
+
+    @Override
+    public Mono<Void> deleteById(UUID id) {
+        return deleteById.record(delegate.deleteById(id));
+    }
+}
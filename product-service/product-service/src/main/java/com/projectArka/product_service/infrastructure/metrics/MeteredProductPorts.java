@@ -0,0 +1,150 @@
+package com.projectArka.product_service.infrastructure.metrics;
+
+import com.projectArka.product_service.domain.model.CatalogVersion;
+import com.projectArka.product_service.domain.model.CursorPage;
+import com.projectArka.product_service.domain.model.PriceFilter;
+import com.projectArka.product_service.domain.model.Product;
+import com.projectArka.product_service.domain.model.ProductImportItem;
+import com.projectArka.product_service.domain.model.ProductImportResult;
+import com.projectArka.product_service.domain.model.ProductLookup;
+import com.projectArka.product_service.domain.model.ProductPatch;
+import com.projectArka.product_service.domain.model.ProductVersion;
+import com.projectArka.product_service.domain.port.in.CreateProductPort;
+import com.projectArka.product_service.domain.port.in.DeleteProductPort;
+import com.projectArka.product_service.domain.port.in.GetProductPort;
+import com.projectArka.product_service.domain.port.in.ImportProductsPort;
+import com.projectArka.product_service.domain.port.in.UpdateProductPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+public class MeteredProductPorts implements CreateProductPort, GetProductPort, UpdateProductPort, DeleteProductPort, ImportProductsPort {
+
+    private final CreateProductPort createProductPort;
+    private final GetProductPort getProductPort;
+    private final UpdateProductPort updateProductPort;
+    private final DeleteProductPort deleteProductPort;
+    private final ImportProductsPort importProductsPort;
+    private final PortMetrics.Operation createProduct;
+    private final PortMetrics.Operation getProductById;
+    private final PortMetrics.Operation getProductBySku;
+    private final PortMetrics.Operation getProductByName;
+    private final PortMetrics.Operation getProductsByIds;
+    private final PortMetrics.Operation getProductsBySkus;
+    private final PortMetrics.Operation getAllProducts;
+    private final PortMetrics.Operation getProductPage;
+    private final PortMetrics.Operation getProductPageByPrice;
+    private final PortMetrics.Operation getProductVersion;
+    private final PortMetrics.Operation getCatalogVersion;
+    private final PortMetrics.Operation updateProduct;
+    private final PortMetrics.Operation patchProduct;
+    private final PortMetrics.Operation deleteProductById;
+    private final PortMetrics.Operation importProducts;
+
+    public MeteredProductPorts(CreateProductPort createProductPort,
+                               GetProductPort getProductPort,
+                               UpdateProductPort updateProductPort,
+                               DeleteProductPort deleteProductPort,
+                               ImportProductsPort importProductsPort,
+                               MeterRegistry meterRegistry) {
+        this.createProductPort = createProductPort;
+        this.getProductPort = getProductPort;
+        this.updateProductPort = updateProductPort;
+        this.deleteProductPort = deleteProductPort;
+        this.importProductsPort = importProductsPort;
+        PortMetrics metrics = new PortMetrics(meterRegistry, MetricNames.USE_CASE_CALLS, "ProductPorts");
+        this.createProduct = metrics.operation("createProduct");
+        this.getProductById = metrics.operation("getProductById");
+        this.getProductBySku = metrics.operation("getProductBySku");
+        this.getProductByName = metrics.operation("getProductByName");
+        this.getProductsByIds = metrics.operation("getProductsByIds");
+        this.getProductsBySkus = metrics.operation("getProductsBySkus");
+        this.getAllProducts = metrics.operation("getAllProducts");
+        this.getProductPage = metrics.operation("getProductPage");
+        this.getProductPageByPrice = metrics.operation("getProductPageByPrice");
+        this.getProductVersion = metrics.operation("getProductVersion");
+        this.getCatalogVersion = metrics.operation("getCatalogVersion");
+        this.updateProduct = metrics.operation("updateProduct");
+        this.patchProduct = metrics.operation("patchProduct");
+        this.deleteProductById = metrics.operation("deleteProductById");
+        this.importProducts = metrics.operation("importProducts");
+    }
+
+    @Override
+    public Mono<Product> createProduct(Product product) {
+        return createProduct.record(createProductPort.createProduct(product));
+    }
+
+    @Override
+    public Mono<Product> getProductById(UUID id) {
+        return getProductById.record(getProductPort.getProductById(id));
+    }
+
+    @Override
+    public Mono<Product> getProductBySku(String sku) {
+        return getProductBySku.record(getProductPort.getProductBySku(sku));
+    }
+
+    @Override
+    public Mono<Product> getProductByName(String name) {
+        return getProductByName.record(getProductPort.getProductByName(name));
+    }
+
+    @Override
+    public Flux<ProductLookup> getProductsByIds(List<UUID> ids) {
+        return getProductsByIds.record(getProductPort.getProductsByIds(ids));
+    }
+
+    @Override
+    public Flux<ProductLookup> getProductsBySkus(List<String> skus) {
+        return getProductsBySkus.record(getProductPort.getProductsBySkus(skus));
+    }
+
+    @Override
+    public Flux<Product> getAllProducts() {
+        return getAllProducts.record(getProductPort.getAllProducts());
+    }
+
+    @Override
+    public Mono<CursorPage<Product>> getProductPage(String cursor, int limit) {
+        return getProductPage.record(getProductPort.getProductPage(cursor, limit));
+    }
+
+    @Override
+    public Mono<CursorPage<Product>> getProductPageByPrice(PriceFilter filter, String cursor, int limit) {
+        return getProductPageByPrice.record(getProductPort.getProductPageByPrice(filter, cursor, limit));
+    }
+
+    @Override
+    public Mono<ProductVersion> getProductVersion(UUID id) {
+        return getProductVersion.record(getProductPort.getProductVersion(id));
+    }
+
+    @Override
+    public Mono<CatalogVersion> getCatalogVersion() {
+        return getCatalogVersion.record(getProductPort.getCatalogVersion());
+    }
+
+    @Override
+    public Mono<Product> updateProduct(Product product, Product current) {
+        return updateProduct.record(updateProductPort.updateProduct(product, current));
+    }
+
+    @Override
+    public Mono<Product> patchProduct(UUID id, ProductPatch patch) {
+        return patchProduct.record(updateProductPort.patchProduct(id, patch));
+    }
+
+    @Override
+    public Mono<Boolean> deleteProductById(UUID id) {
+        return deleteProductById.record(deleteProductPort.deleteProductById(id));
+    }
+
+    @Override
+    public Flux<ProductImportResult> importProducts(Flux<ProductImportItem> items) {
+        return importProducts.record(importProductsPort.importProducts(items));
+    }
+}
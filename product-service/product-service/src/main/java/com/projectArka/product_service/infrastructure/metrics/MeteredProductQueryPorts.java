@@ -0,0 +1,52 @@
+package com.projectArka.product_service.infrastructure.metrics;
+
+import com.projectArka.product_service.domain.model.Product;
+import com.projectArka.product_service.domain.model.ProductExpansion;
+import com.projectArka.product_service.domain.model.ProductFacets;
+import com.projectArka.product_service.domain.model.ProductFilter;
+import com.projectArka.product_service.domain.port.in.ExpandProductsPort;
+import com.projectArka.product_service.domain.port.in.FilterProductsPort;
+import com.projectArka.product_service.domain.port.in.SearchProductsPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+public class MeteredProductQueryPorts implements SearchProductsPort, FilterProductsPort, ExpandProductsPort {
+
+    private final SearchProductsPort searchProductsPort;
+    private final FilterProductsPort filterProductsPort;
+    private final ExpandProductsPort expandProductsPort;
+    private final PortMetrics.Operation searchProducts;
+    private final PortMetrics.Operation filterProducts;
+    private final PortMetrics.Operation expandProducts;
+
+    public MeteredProductQueryPorts(SearchProductsPort searchProductsPort,
+                                    FilterProductsPort filterProductsPort,
+                                    ExpandProductsPort expandProductsPort,
+                                    MeterRegistry meterRegistry) {
+        this.searchProductsPort = searchProductsPort;
+        this.filterProductsPort = filterProductsPort;
+        this.expandProductsPort = expandProductsPort;
+        PortMetrics metrics = new PortMetrics(meterRegistry, MetricNames.USE_CASE_CALLS, "ProductQueryPorts");
+        this.searchProducts = metrics.operation("searchProducts");
+        this.filterProducts = metrics.operation("filterProducts");
+        this.expandProducts = metrics.operation("expandProducts");
+    }
+
+    @Override
+    public Flux<Product> searchProducts(String query, int limit) {
+        return searchProducts.record(searchProductsPort.searchProducts(query, limit));
+    }
+
+    @Override
+    public Mono<ProductFacets> filterProducts(ProductFilter filter, int limit) {
+        return filterProducts.record(filterProductsPort.filterProducts(filter, limit));
+    }
+
+    @Override
+    public Mono<ProductExpansion> expandProducts(Collection<Product> products, boolean brands, boolean categories) {
+        return expandProducts.record(expandProductsPort.expandProducts(products, brands, categories));
+    }
+}
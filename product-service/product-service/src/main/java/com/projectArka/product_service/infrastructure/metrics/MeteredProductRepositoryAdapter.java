@@ -0,0 +1,131 @@
+package com.projectArka.product_service.infrastructure.metrics;
+
+import com.projectArka.product_service.domain.model.CatalogVersion;
+import com.projectArka.product_service.domain.model.PageCursor;
+import com.projectArka.product_service.domain.model.PriceCursor;
+import com.projectArka.product_service.domain.model.PriceFilter;
+import com.projectArka.product_service.domain.model.Product;
+import com.projectArka.product_service.domain.model.ProductPatch;
+import com.projectArka.product_service.domain.model.ProductVersion;
+import com.projectArka.product_service.domain.port.out.ProductRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+
+public class MeteredProductRepositoryAdapter implements ProductRepositoryPort {
+
+    private final ProductRepositoryPort delegate;
+    private final PortMetrics.Operation save;
+    private final PortMetrics.Operation patch;
+    private final PortMetrics.Operation findById;
+    private final PortMetrics.Operation findBySku;
+    private final PortMetrics.Operation findByName;
+    private final PortMetrics.Operation findAllByIds;
+    private final PortMetrics.Operation findAllBySkus;
+    private final PortMetrics.Operation findAll;
+    private final PortMetrics.Operation findPage;
+    private final PortMetrics.Operation findPageByPrice;
+    private final PortMetrics.Operation findVersionById;
+    private final PortMetrics.Operation findCatalogVersion;
+    private final PortMetrics.Operation deleteById;
+    private final PortMetrics.Operation findConflicting;
+    private final PortMetrics.Operation insertAll;
+
+    public MeteredProductRepositoryAdapter(ProductRepositoryPort delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        PortMetrics metrics = new PortMetrics(meterRegistry, MetricNames.REPOSITORY_CALLS, "ProductRepositoryPort");
+        this.save = metrics.operation("save");
+        this.patch = metrics.operation("patch");
+        this.findById = metrics.operation("findById");
+        this.findBySku = metrics.operation("findBySku");
+        this.findByName = metrics.operation("findByName");
+        this.findAllByIds = metrics.operation("findAllByIds");
+        this.findAllBySkus = metrics.operation("findAllBySkus");
+        this.findAll = metrics.operation("findAll");
+        this.findPage = metrics.operation("findPage");
+        this.findPageByPrice = metrics.operation("findPageByPrice");
+        this.findVersionById = metrics.operation("findVersionById");
+        this.findCatalogVersion = metrics.operation("findCatalogVersion");
+        this.deleteById = metrics.operation("deleteById");
+        this.findConflicting = metrics.operation("findConflicting");
+        this.insertAll = metrics.operation("insertAll");
+    }
+
+    @Override
+    public Mono<Product> save(Product product) {
+        return save.record(delegate.save(product));
+    }
+
+    @Override
+    public Mono<Product> patch(String id, ProductPatch productPatch) {
+        return patch.record(delegate.patch(id, productPatch));
+    }
+
+    @Override
+    public Mono<Product> findById(String id) {
+        return findById.record(delegate.findById(id));
+    }
+
+    @Override
+    public Mono<Product> findBySku(String sku) {
+        return findBySku.record(delegate.findBySku(sku));
+    }
+
+    @Override
+    public Mono<Product> findByName(String name) {
+        return findByName.record(delegate.findByName(name));
+    }
+
+    @Override
+    public Flux<Product> findAllByIds(Collection<String> ids) {
+        return findAllByIds.record(delegate.findAllByIds(ids));
+    }
+
+    @Override
+    public Flux<Product> findAllBySkus(Collection<String> skus) {
+        return findAllBySkus.record(delegate.findAllBySkus(skus));
+    }
+
+    @Override
+    public Flux<Product> findAll() {
+        return findAll.record(delegate.findAll());
+    }
+
+    @Override
+    public Flux<Product> findPage(PageCursor after, int limit) {
+        return findPage.record(delegate.findPage(after, limit));
+    }
+
+    @Override
+    public Flux<Product> findPageByPrice(PriceFilter filter, PriceCursor after, int limit) {
+        return findPageByPrice.record(delegate.findPageByPrice(filter, after, limit));
+    }
+
+    @Override
+    public Mono<ProductVersion> findVersionById(String id) {
+        return findVersionById.record(delegate.findVersionById(id));
+    }
+
+    @Override
+    public Mono<CatalogVersion> findCatalogVersion() {
+        return findCatalogVersion.record(delegate.findCatalogVersion());
+    }
+
+    @Override
+    public Mono<Boolean> deleteById(String id) {
+        return deleteById.record(delegate.deleteById(id));
+    }
+
+    @Override
+    public Flux<Product> findConflicting(Collection<String> skus, Collection<String> names) {
+        return findConflicting.record(delegate.findConflicting(skus, names));
+    }
+
+    @Override
+    public Flux<Product> insertAll(List<Product> products) {
+        return insertAll.record(delegate.insertAll(products));
+    }
+}
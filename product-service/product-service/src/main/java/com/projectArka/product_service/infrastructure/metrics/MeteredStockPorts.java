@@ -0,0 +1,39 @@
+package com.projectArka.product_service.infrastructure.metrics;
+
+import com.projectArka.product_service.domain.model.StockReservation;
+import com.projectArka.product_service.domain.port.in.ReserveStockPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public class MeteredStockPorts implements ReserveStockPort {
+
+    private final ReserveStockPort reserveStockPort;
+    private final PortMetrics.Operation reserveStock;
+    private final PortMetrics.Operation commitReservation;
+    private final PortMetrics.Operation releaseReservation;
+
+    public MeteredStockPorts(ReserveStockPort reserveStockPort, MeterRegistry meterRegistry) {
+        this.reserveStockPort = reserveStockPort;
+        PortMetrics metrics = new PortMetrics(meterRegistry, MetricNames.USE_CASE_CALLS, "StockPorts");
+        this.reserveStock = metrics.operation("reserveStock");
+        this.commitReservation = metrics.operation("commitReservation");
+        this.releaseReservation = metrics.operation("releaseReservation");
+    }
+
+    @Override
+    public Mono<StockReservation> reserveStock(UUID productId, int quantity) {
+        return reserveStock.record(reserveStockPort.reserveStock(productId, quantity));
+    }
+
+    @Override
+    public Mono<StockReservation> commitReservation(UUID reservationId) {
+        return commitReservation.record(reserveStockPort.commitReservation(reservationId));
+    }
+
+    @Override
+    public Mono<StockReservation> releaseReservation(UUID reservationId) {
+        return releaseReservation.record(reserveStockPort.releaseReservation(reservationId));
+    }
+}
@@ -0,0 +1,13 @@
+package com.projectArka.product_service.infrastructure.metrics;
+
+public final class MetricNames {
+
+    public static final String REPOSITORY_CALLS = "arka.repository.calls";
+    public static final String USE_CASE_CALLS = "arka.usecase.calls";
+    public static final String SINGLE_FLIGHT_CALLS = "arka.usecase.singleflight.calls";
+    public static final String EXISTENCE_FILTER_CHECKS = "arka.existence.filter.checks";
+    public static final String EXISTENCE_FILTER_FPP = "arka.existence.filter.fpp";
+
+    private MetricNames() {
+    }
+}
@@ -0,0 +1,117 @@
+package com.projectArka.product_service.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Timers for the calls of one port. A timer is registered the first time its outcome and bucket of
+ * rows returned occurs, and kept in the operation's array, so recording a call is an array lookup
+ * and an add. Only successful calls are split by rows and publish a percentile histogram, which
+ * keeps the number of series down: a Mono operation only ever reaches the 0 and 1 buckets, and
+ * failed calls share one timer per outcome.
+ */
+public class PortMetrics {
+
+    private static final String[] OUTCOMES = {"success", "error", "cancelled"};
+    private static final String[] ROW_BUCKETS = {"0", "1", "2-10", "11-100", "101-1000", "1001+"};
+    private static final String ANY_ROWS = "any";
+
+    private static final Duration MIN_EXPECTED = Duration.ofMillis(1);
+    private static final Duration MAX_EXPECTED = Duration.ofSeconds(10);
+
+    private final MeterRegistry meterRegistry;
+    private final String metricName;
+    private final String port;
+
+    public PortMetrics(MeterRegistry meterRegistry, String metricName, String port) {
+        this.meterRegistry = meterRegistry;
+        this.metricName = metricName;
+        this.port = port;
+    }
+
+    public Operation operation(String name) {
+        return new Operation(this, name);
+    }
+
+    private Timer timer(String operation, int outcome, int rowBucket) {
+        return Timer.builder(metricName)
+                .tag("port", port)
+                .tag("operation", operation)
+                .tag("outcome", OUTCOMES[outcome])
+                .tag("rows", outcome == 0 ? ROW_BUCKETS[rowBucket] : ANY_ROWS)
+                .publishPercentileHistogram(outcome == 0)
+                .minimumExpectedValue(MIN_EXPECTED)
+                .maximumExpectedValue(MAX_EXPECTED)
+                .register(meterRegistry);
+    }
+
+    public static final class Operation {
+
+        private final PortMetrics metrics;
+        private final String name;
+        // One slot per row bucket of successful calls, then one per failed outcome.
+        private final AtomicReferenceArray<Timer> timers = new AtomicReferenceArray<>(ROW_BUCKETS.length + OUTCOMES.length - 1);
+
+        private Operation(PortMetrics metrics, String name) {
+            this.metrics = metrics;
+            this.name = name;
+        }
+
+        public <T> Mono<T> record(Mono<T> source) {
+            return Mono.defer(() -> {
+                long start = System.nanoTime();
+                boolean[] emitted = new boolean[1];
+                return source
+                        .doOnNext(value -> emitted[0] = true)
+                        .doFinally(signal -> stop(signal, emitted[0] ? 1 : 0, start));
+            });
+        }
+
+        public <T> Flux<T> record(Flux<T> source) {
+            return Flux.defer(() -> {
+                long start = System.nanoTime();
+                long[] rows = new long[1];
+                return source
+                        .doOnNext(value -> rows[0]++)
+                        .doFinally(signal -> stop(signal, rows[0], start));
+            });
+        }
+
+        private void stop(SignalType signal, long rows, long start) {
+            int outcome = switch (signal) {
+                case ON_ERROR -> 1;
+                case CANCEL -> 2;
+                default -> 0;
+            };
+            int rowBucket = outcome == 0 ? rowBucket(rows) : 0;
+            int slot = outcome == 0 ? rowBucket : ROW_BUCKETS.length + outcome - 1;
+            Timer timer = timers.get(slot);
+            if (timer == null) {
+                // Racing first calls get the same timer back from the registry.
+                timer = metrics.timer(name, outcome, rowBucket);
+                timers.set(slot, timer);
+            }
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        private static int rowBucket(long rows) {
+            if (rows <= 1) {
+                return (int) rows;
+            }
+            if (rows <= 10) {
+                return 2;
+            }
+            if (rows <= 100) {
+                return 3;
+            }
+            return rows <= 1000 ? 4 : 5;
+        }
+    }
+}
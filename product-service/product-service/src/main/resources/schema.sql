@@ -0,0 +1,109 @@
+CREATE TABLE IF NOT EXISTS brand (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    name VARCHAR(100) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE TABLE IF NOT EXISTS category (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    name VARCHAR(100) NOT NULL,
+    description TEXT,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE TABLE IF NOT EXISTS product (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    sku VARCHAR(100) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    description VARCHAR(1000),
+    price NUMERIC(12, 2) NOT NULL,
+    category_id UUID NOT NULL REFERENCES category (id),
+    brand_id UUID NOT NULL REFERENCES brand (id),
+    stock INTEGER NOT NULL,
+    active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0,
+    deleted_at TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS product_feature (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    product_id UUID NOT NULL REFERENCES product (id),
+    name VARCHAR(100) NOT NULL,
+    value VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+ALTER TABLE brand ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE category ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE product ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE product ADD COLUMN IF NOT EXISTS deleted_at TIMESTAMP;
+
+-- Backs up the conditional decrement of reservations: no path may take the stock below zero.
+ALTER TABLE product DROP CONSTRAINT IF EXISTS ck_product_stock_non_negative;
+ALTER TABLE product ADD CONSTRAINT ck_product_stock_non_negative CHECK (stock >= 0);
+
+CREATE INDEX IF NOT EXISTS idx_product_feature_product_id ON product_feature (product_id);
+
+-- Product reads only ever see rows that are not soft-deleted, so the indexes they use leave the
+-- deleted rows out, and a deleted product's SKU and name are free to reuse before it is purged.
+CREATE INDEX IF NOT EXISTS idx_product_live_created_at_id ON product (created_at, id) WHERE deleted_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_brand_created_at_id ON brand (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_category_created_at_id ON category (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_product_live_updated_at ON product (updated_at) WHERE deleted_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_product_live_category_price_id ON product (category_id, price, id) WHERE deleted_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_product_live_price_id ON product (price, id) WHERE deleted_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_product_deleted_at ON product (deleted_at) WHERE deleted_at IS NOT NULL;
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_product_live_sku ON product (sku) WHERE deleted_at IS NULL;
+CREATE UNIQUE INDEX IF NOT EXISTS ux_product_live_name ON product (name) WHERE deleted_at IS NULL;
+CREATE UNIQUE INDEX IF NOT EXISTS ux_brand_name ON brand (name);
+CREATE UNIQUE INDEX IF NOT EXISTS ux_category_name ON category (name);
+
+DROP INDEX IF EXISTS idx_product_created_at_id;
+DROP INDEX IF EXISTS idx_product_updated_at;
+DROP INDEX IF EXISTS idx_product_category_price_id;
+DROP INDEX IF EXISTS idx_product_price_id;
+DROP INDEX IF EXISTS ux_product_sku;
+DROP INDEX IF EXISTS ux_product_name;
+
+CREATE TABLE IF NOT EXISTS stock_reservation (
+    id UUID PRIMARY KEY,
+    product_id UUID NOT NULL REFERENCES product (id) ON DELETE CASCADE,
+    quantity INTEGER NOT NULL CHECK (quantity > 0),
+    status VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_stock_reservation_product_id ON stock_reservation (product_id);
+
+CREATE TABLE IF NOT EXISTS stock_flush_checkpoint (
+    id SMALLINT PRIMARY KEY,
+    epoch BIGINT NOT NULL
+);
+
+INSERT INTO stock_flush_checkpoint (id, epoch) VALUES (1, 0) ON CONFLICT (id) DO NOTHING;
+
+CREATE TABLE IF NOT EXISTS catalog_change (
+    seq BIGSERIAL PRIMARY KEY,
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id UUID NOT NULL,
+    change_type VARCHAR(20) NOT NULL,
+    changed_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_catalog_change_changed_at ON catalog_change (changed_at);
+
+CREATE TABLE IF NOT EXISTS catalog_change_checkpoint (
+    id SMALLINT PRIMARY KEY,
+    purged_seq BIGINT NOT NULL
+);
+
+INSERT INTO catalog_change_checkpoint (id, purged_seq) VALUES (1, 0) ON CONFLICT (id) DO NOTHING;
@@ -0,0 +1,128 @@
+package com.projectArka.product_service.adapterTest;
+
+import com.projectArka.product_service.domain.model.Product;
+import com.projectArka.product_service.domain.port.out.ProductRepositoryPort;
+import com.projectArka.product_service.infrastructure.adapter.out.cache.CachingProductRepositoryAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingProductRepositoryAdapterTest {
+
+    @Mock
+    private ProductRepositoryPort delegate;
+
+    private CachingProductRepositoryAdapter adapter;
+    private Product sampleProduct;
+
+    @BeforeEach
+    void setup() {
+        adapter = new CachingProductRepositoryAdapter(delegate, 100, Duration.ofMinutes(5));
+        sampleProduct = Product.builder()
+                .id(UUID.randomUUID().toString())
+                .sku("SKU-001")
+                .name("Test Product")
+                .price(BigDecimal.valueOf(99.99))
+                .stock(10)
+                .active(true)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .features(new ArrayList<>())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Find by ID - second lookup is served from the cache")
+    void testFindByIdHit() {
+        when(delegate.findById(sampleProduct.getId())).thenReturn(Mono.just(sampleProduct));
+
+        StepVerifier.create(adapter.findById(sampleProduct.getId())).expectNext(sampleProduct).verifyComplete();
+        StepVerifier.create(adapter.findById(sampleProduct.getId())).expectNext(sampleProduct).verifyComplete();
+
+        verify(delegate, times(1)).findById(sampleProduct.getId());
+        assertEquals(1, adapter.stats().hitCount());
+        assertEquals(1, adapter.stats().missCount());
+    }
+
+    @Test
+    @DisplayName("Find by SKU and name - secondary keys resolve to the cached product")
+    void testSecondaryKeysHit() {
+        when(delegate.findById(sampleProduct.getId())).thenReturn(Mono.just(sampleProduct));
+
+        StepVerifier.create(adapter.findById(sampleProduct.getId())).expectNextCount(1).verifyComplete();
+        StepVerifier.create(adapter.findBySku("SKU-001")).expectNext(sampleProduct).verifyComplete();
+        StepVerifier.create(adapter.findByName("Test Product")).expectNext(sampleProduct).verifyComplete();
+
+        verify(delegate, never()).findBySku(any());
+        verify(delegate, never()).findByName(any());
+    }
+
+    @Test
+    @DisplayName("Save - evicts the cached product and its secondary keys")
+    void testSaveEvicts() {
+        when(delegate.findBySku("SKU-001")).thenReturn(Mono.just(sampleProduct));
+        when(delegate.save(any(Product.class))).thenReturn(Mono.just(sampleProduct));
+
+        StepVerifier.create(adapter.findBySku("SKU-001")).expectNextCount(1).verifyComplete();
+        StepVerifier.create(adapter.save(sampleProduct)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(adapter.findBySku("SKU-001")).expectNextCount(1).verifyComplete();
+
+        verify(delegate, times(2)).findBySku("SKU-001");
+    }
+
+    @Test
+    @DisplayName("Delete - evicts the cached product")
+    void testDeleteEvicts() {
+        when(delegate.findById(sampleProduct.getId())).thenReturn(Mono.just(sampleProduct));
+        when(delegate.deleteById(sampleProduct.getId())).thenReturn(Mono.just(true));
+
+        StepVerifier.create(adapter.findById(sampleProduct.getId())).expectNextCount(1).verifyComplete();
+        StepVerifier.create(adapter.deleteById(sampleProduct.getId())).expectNext(true).verifyComplete();
+        StepVerifier.create(adapter.findById(sampleProduct.getId())).expectNextCount(1).verifyComplete();
+
+        verify(delegate, times(2)).findById(sampleProduct.getId());
+    }
+
+    @Test
+    @DisplayName("Find by ID - a read that started before a save does not put the old row back")
+    void testReadRacingSaveIsNotCached() {
+        Sinks.One<Product> staleRow = Sinks.one();
+        Product saved = sampleProduct.toBuilder().stock(4).build();
+        when(delegate.findById(sampleProduct.getId())).thenReturn(staleRow.asMono(), Mono.just(saved));
+        when(delegate.save(any(Product.class))).thenReturn(Mono.just(saved));
+
+        CompletableFuture<Product> beforeSave = adapter.findById(sampleProduct.getId()).toFuture();
+        StepVerifier.create(adapter.save(saved)).expectNextCount(1).verifyComplete();
+        staleRow.tryEmitValue(sampleProduct);
+
+        assertEquals(10, beforeSave.join().getStock());
+        StepVerifier.create(adapter.findById(sampleProduct.getId()))
+                .expectNextMatches(product -> product.getStock() == 4)
+                .verifyComplete();
+        StepVerifier.create(adapter.findById(sampleProduct.getId()))
+                .expectNextMatches(product -> product.getStock() == 4)
+                .verifyComplete();
+        verify(delegate, times(2)).findById(sampleProduct.getId());
+    }
+}
@@ -0,0 +1,156 @@
+package com.projectArka.product_service.adapterTest;
+
+import com.projectArka.product_service.application.usecase.ProductUseCase;
+import com.projectArka.product_service.domain.model.Product;
+import com.projectArka.product_service.domain.port.out.ProductRepositoryPort;
+import com.projectArka.product_service.infrastructure.coalescing.CoalescingGetProductPort;
+import com.projectArka.product_service.infrastructure.coalescing.ProductLookupFlights;
+import com.projectArka.product_service.infrastructure.metrics.MetricNames;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CoalescingGetProductPortTest {
+
+    private static final int CALLERS = 500;
+
+    @Mock
+    private ProductRepositoryPort productRepositoryPort;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProductLookupFlights flights;
+    private CoalescingGetProductPort port;
+    private Product product;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        flights = new ProductLookupFlights(meterRegistry);
+        port = new CoalescingGetProductPort(new ProductUseCase(productRepositoryPort), flights);
+        product = Product.builder()
+                .id(UUID.randomUUID().toString())
+                .sku("SKU-1")
+                .name("Product 1")
+                .price(BigDecimal.TEN)
+                .stock(5)
+                .active(true)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Concurrent lookups of the same SKU share one repository query, each caller gets its own copy")
+    void testConcurrentLookupsShareOneQuery() throws Exception {
+        Sinks.One<Product> row = Sinks.one();
+        when(productRepositoryPort.findBySku("SKU-1")).thenReturn(row.asMono());
+
+        CompletableFuture<List<Product>> results = Flux.range(0, CALLERS)
+                .parallel(16)
+                .runOn(Schedulers.parallel())
+                .flatMap(i -> port.getProductBySku("SKU-1"))
+                .sequential()
+                .collectList()
+                .toFuture();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (calls("getProductBySku", "started") + calls("getProductBySku", "joined") < CALLERS && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        row.tryEmitValue(product);
+        List<Product> products = results.get(5, TimeUnit.SECONDS);
+
+        assertEquals(CALLERS, products.size());
+        Set<Product> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+        distinct.addAll(products);
+        assertEquals(CALLERS, distinct.size());
+        assertTrue(products.stream().allMatch(found -> found.getSku().equals("SKU-1")));
+        assertEquals(1, calls("getProductBySku", "started"));
+        assertEquals(CALLERS - 1, calls("getProductBySku", "joined"));
+        assertEquals(0, flights.bySku().size());
+        verify(productRepositoryPort, times(1)).findBySku("SKU-1");
+
+        StepVerifier.create(port.getProductBySku("SKU-1"))
+                .expectNextCount(1)
+                .verifyComplete();
+        verify(productRepositoryPort, times(2)).findBySku("SKU-1");
+    }
+
+    @Test
+    @DisplayName("A write detaches the running lookup, later callers start a new one")
+    void testWriteDetachesFlight() throws Exception {
+        Sinks.One<Product> row = Sinks.one();
+        when(productRepositoryPort.findById(product.getId())).thenReturn(row.asMono());
+        UUID id = UUID.fromString(product.getId());
+
+        CompletableFuture<Product> beforeWrite = port.getProductById(id).toFuture();
+        flights.onSaved(product);
+        CompletableFuture<Product> afterWrite = port.getProductById(id).toFuture();
+
+        verify(productRepositoryPort, times(2)).findById(product.getId());
+        row.tryEmitValue(product);
+        assertEquals(product, beforeWrite.get(5, TimeUnit.SECONDS));
+        assertEquals(product, afterWrite.get(5, TimeUnit.SECONDS));
+        assertEquals(2, calls("getProductById", "started"));
+    }
+
+    @Test
+    @DisplayName("A stock change detaches only the changed product's SKU lookup")
+    void testStockChangeDetachesOnlyItsSku() throws Exception {
+        Product other = product.toBuilder().id(UUID.randomUUID().toString()).sku("SKU-2").name("Product 2").build();
+        Sinks.One<Product> first = Sinks.one();
+        Sinks.One<Product> second = Sinks.one();
+        Sinks.One<Product> otherRow = Sinks.one();
+        when(productRepositoryPort.findBySku("SKU-1")).thenReturn(Mono.just(product), first.asMono(), second.asMono());
+        when(productRepositoryPort.findBySku("SKU-2")).thenReturn(otherRow.asMono());
+
+        port.getProductBySku("SKU-1").block();
+        CompletableFuture<Product> beforeChange = port.getProductBySku("SKU-1").toFuture();
+        CompletableFuture<Product> otherLookup = port.getProductBySku("SKU-2").toFuture();
+        flights.onStockChanged(product.getId());
+        CompletableFuture<Product> afterChange = port.getProductBySku("SKU-1").toFuture();
+        CompletableFuture<Product> otherJoined = port.getProductBySku("SKU-2").toFuture();
+
+        verify(productRepositoryPort, times(3)).findBySku("SKU-1");
+        verify(productRepositoryPort, times(1)).findBySku("SKU-2");
+        assertEquals(1, calls("getProductBySku", "joined"));
+        first.tryEmitValue(product);
+        second.tryEmitValue(product);
+        otherRow.tryEmitValue(other);
+        assertEquals(product, beforeChange.get(5, TimeUnit.SECONDS));
+        assertEquals(product, afterChange.get(5, TimeUnit.SECONDS));
+        assertEquals(other, otherLookup.get(5, TimeUnit.SECONDS));
+        assertEquals(other, otherJoined.get(5, TimeUnit.SECONDS));
+    }
+
+    private double calls(String operation, String result) {
+        return meterRegistry.get(MetricNames.SINGLE_FLIGHT_CALLS)
+                .tag("operation", operation)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
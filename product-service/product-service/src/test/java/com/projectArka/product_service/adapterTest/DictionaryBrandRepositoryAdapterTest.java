@@ -0,0 +1,118 @@
+package com.projectArka.product_service.adapterTest;
+
+import com.projectArka.product_service.domain.model.Brand;
+import com.projectArka.product_service.domain.port.out.BrandRepositoryPort;
+import com.projectArka.product_service.infrastructure.adapter.out.dictionary.DictionaryBrandRepositoryAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DictionaryBrandRepositoryAdapterTest {
+
+    @Mock
+    private BrandRepositoryPort delegate;
+
+    private DictionaryBrandRepositoryAdapter adapter;
+    private Brand acme;
+    private Brand globex;
+
+    @BeforeEach
+    void setup() {
+        adapter = new DictionaryBrandRepositoryAdapter(delegate, Duration.ofMinutes(5));
+        LocalDateTime now = LocalDateTime.now();
+        acme = Brand.builder().id(UUID.randomUUID().toString()).name("Acme").createdAt(now).updatedAt(now).build();
+        globex = Brand.builder().id(UUID.randomUUID().toString()).name("Globex").createdAt(now.plusSeconds(1)).updatedAt(now).build();
+    }
+
+    @Test
+    @DisplayName("Lookups go to the delegate until the first load")
+    void testFallsBackBeforeLoad() {
+        when(delegate.findById(acme.getId())).thenReturn(Mono.just(acme));
+
+        StepVerifier.create(adapter.findById(acme.getId())).expectNext(acme).verifyComplete();
+
+        verify(delegate, times(1)).findById(acme.getId());
+    }
+
+    @Test
+    @DisplayName("Lookups by id, name and all are served from the loaded snapshot")
+    void testServedFromSnapshot() {
+        when(delegate.findAll()).thenReturn(Flux.just(globex, acme));
+        StepVerifier.create(adapter.refresh()).verifyComplete();
+
+        StepVerifier.create(adapter.findById(acme.getId())).expectNext(acme).verifyComplete();
+        StepVerifier.create(adapter.findByName("Globex")).expectNext(globex).verifyComplete();
+        StepVerifier.create(adapter.findByName("Initech")).verifyComplete();
+        StepVerifier.create(adapter.findAll()).expectNext(acme, globex).verifyComplete();
+
+        verify(delegate, never()).findById(anyString());
+        verify(delegate, never()).findByName(anyString());
+        verify(delegate, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("Returned brands are copies, so callers cannot change the snapshot")
+    void testReturnsCopies() {
+        when(delegate.findAll()).thenReturn(Flux.just(acme));
+        StepVerifier.create(adapter.refresh()).verifyComplete();
+
+        Brand found = adapter.findById(acme.getId()).block();
+        assertNotSame(acme, found);
+        found.setName("Changed");
+
+        StepVerifier.create(adapter.findByName("Acme")).expectNext(acme).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Writes through the adapter are visible in the snapshot at once")
+    void testWritesUpdateSnapshot() {
+        when(delegate.findAll()).thenReturn(Flux.just(acme));
+        StepVerifier.create(adapter.refresh()).verifyComplete();
+
+        Brand renamed = acme.toBuilder().name("Acme Corp").build();
+        when(delegate.save(renamed)).thenReturn(Mono.just(renamed));
+        when(delegate.deleteById(acme.getId())).thenReturn(Mono.empty());
+
+        StepVerifier.create(adapter.save(renamed)).expectNext(renamed).verifyComplete();
+        StepVerifier.create(adapter.findByName("Acme")).verifyComplete();
+        StepVerifier.create(adapter.findByName("Acme Corp")).expectNext(renamed).verifyComplete();
+
+        StepVerifier.create(adapter.deleteById(acme.getId())).verifyComplete();
+        StepVerifier.create(adapter.findById(acme.getId())).verifyComplete();
+        StepVerifier.create(adapter.findAll()).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("A refresh that overlaps a write keeps the newer snapshot")
+    void testStaleRefreshDiscarded() {
+        when(delegate.findAll()).thenReturn(Flux.just(acme));
+        StepVerifier.create(adapter.refresh()).verifyComplete();
+
+        when(delegate.save(globex)).thenReturn(Mono.just(globex));
+        when(delegate.findAll()).thenReturn(Flux.just(acme)
+                .concatWith(Mono.defer(() -> adapter.save(globex)).then(Mono.empty())));
+        StepVerifier.create(adapter.refresh()).verifyComplete();
+
+        StepVerifier.create(adapter.findAll()).expectNext(acme, globex).verifyComplete();
+        assertEquals("Globex", adapter.findById(globex.getId()).block().getName());
+    }
+}
@@ -0,0 +1,207 @@
+package com.projectArka.product_service.adapterTest;
+
+import com.projectArka.product_service.domain.model.StockReservation;
+import com.projectArka.product_service.infrastructure.adapter.out.stock.InMemoryStockEngine;
+import com.projectArka.product_service.infrastructure.adapter.out.stock.StockDeltaLog;
+import com.projectArka.product_service.infrastructure.adapter.out.stock.StockStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class InMemoryStockEngineTest {
+
+    private static final int INITIAL_STOCK = 300;
+
+    @TempDir
+    Path logDirectory;
+
+    private final String productId = UUID.randomUUID().toString();
+    private FakeStockStore stockStore;
+
+    @BeforeEach
+    void setup() {
+        stockStore = new FakeStockStore();
+        stockStore.stock.put(productId, (long) INITIAL_STOCK);
+    }
+
+    @Test
+    @DisplayName("Reserve - parallel reservations never take more than the stock")
+    void testParallelReservations() {
+        InMemoryStockEngine engine = engine();
+
+        List<Boolean> outcomes = Flux.range(0, 1000)
+                .parallel(16)
+                .runOn(Schedulers.parallel())
+                .flatMap(i -> engine.reserve(productId, 1))
+                .sequential()
+                .collectList()
+                .block();
+
+        assertEquals(INITIAL_STOCK, outcomes.stream().filter(reserved -> reserved).count());
+        assertEquals(0, engine.availableStock(productId));
+    }
+
+    @Test
+    @DisplayName("Flush - writes the net delta once and reads show the in-memory value")
+    void testFlush() {
+        InMemoryStockEngine engine = engine();
+        engine.reserve(productId, 10).block();
+        engine.reserve(productId, 5).block();
+        engine.release(productId, 3).block();
+
+        assertEquals(INITIAL_STOCK - 12, engine.availableStock(productId));
+        assertEquals(INITIAL_STOCK, stockStore.stock.get(productId));
+
+        engine.flush().block();
+        engine.flush().block();
+
+        assertEquals(INITIAL_STOCK - 12, stockStore.stock.get(productId));
+        assertEquals(1, stockStore.flushes);
+    }
+
+    @Test
+    @DisplayName("Recovery - replays deltas logged but not flushed before a crash")
+    void testReplay() {
+        StockDeltaLog crashedLog = new StockDeltaLog(logDirectory);
+        InMemoryStockEngine crashed = engine(crashedLog);
+        crashed.reserve(productId, 7).block();
+        crashed.reserve(productId, 2).block();
+        crashedLog.sync();
+        // `crashed` is dropped without flushing, like a killed process.
+
+        InMemoryStockEngine restarted = engine(new StockDeltaLog(logDirectory));
+
+        assertEquals(true, restarted.reserve(productId, 1).block());
+        assertEquals(INITIAL_STOCK - 9, stockStore.stock.get(productId));
+        assertEquals(INITIAL_STOCK - 10, restarted.availableStock(productId));
+    }
+
+    @Test
+    @DisplayName("Set stock - reservations before it are overwritten once and later ones still reach the database")
+    void testSetStock() {
+        InMemoryStockEngine engine = engine();
+        engine.reserve(productId, 10).block();
+
+        engine.setStock(productId, 50).block();
+        engine.reserve(productId, 4).block();
+        engine.flush().block();
+
+        assertEquals(46, engine.availableStock(productId));
+        assertEquals(46, stockStore.stock.get(productId));
+    }
+
+    @Test
+    @DisplayName("Flush - a batch whose outcome was lost is sent again and applied only once")
+    void testFlushRetryAfterLostOutcome() {
+        InMemoryStockEngine engine = engine();
+        engine.reserve(productId, 10).block();
+        stockStore.loseNextOutcome = true;
+
+        engine.flush().block();
+        engine.reserve(productId, 5).block();
+        engine.flush().block();
+
+        assertEquals(INITIAL_STOCK - 15, stockStore.stock.get(productId));
+        assertEquals(INITIAL_STOCK - 15, engine.availableStock(productId));
+    }
+
+    @Test
+    @DisplayName("Flush - products idle for a whole epoch are dropped and loaded again on the next change")
+    void testIdleEntriesEvicted() {
+        InMemoryStockEngine engine = engine();
+        engine.reserve(productId, 10).block();
+
+        engine.flush().block();
+        assertEquals(INITIAL_STOCK - 10, engine.availableStock(productId));
+        engine.flush().block();
+        assertNull(engine.availableStock(productId));
+
+        assertEquals(true, engine.reserve(productId, 1).block());
+        engine.flush().block();
+        assertEquals(INITIAL_STOCK - 11, engine.availableStock(productId));
+        assertEquals(INITIAL_STOCK - 11, stockStore.stock.get(productId));
+    }
+
+    @Test
+    @DisplayName("Reserve - a deleted product can no longer be reserved")
+    void testReserveDeletedProduct() {
+        InMemoryStockEngine engine = engine();
+        assertEquals(true, engine.reserve(productId, 1).block());
+
+        stockStore.stock.remove(productId);
+        engine.onDeleted(productId);
+
+        assertEquals(false, engine.reserve(productId, 1).block());
+        assertNull(engine.availableStock(productId));
+    }
+
+    private InMemoryStockEngine engine() {
+        return engine(new StockDeltaLog(logDirectory));
+    }
+
+    private InMemoryStockEngine engine(StockDeltaLog deltaLog) {
+        return new InMemoryStockEngine(stockStore, deltaLog, 4, Duration.ofSeconds(1), Duration.ofMillis(20));
+    }
+
+    private static class FakeStockStore implements StockStore {
+
+        private final Map<String, Long> stock = new ConcurrentHashMap<>();
+        private long flushedEpoch;
+        private int flushes;
+        private boolean loseNextOutcome;
+
+        @Override
+        public Mono<Integer> loadStock(String productId) {
+            return Mono.justOrEmpty(stock.get(productId)).map(Long::intValue);
+        }
+
+        @Override
+        public Mono<Long> loadFlushedEpoch() {
+            return Mono.just(flushedEpoch);
+        }
+
+        @Override
+        public Mono<Void> applyDeltas(Map<String, Long> deltas, long epoch) {
+            return Mono.fromRunnable(() -> {
+                if (epoch > flushedEpoch) {
+                    deltas.forEach((productId, delta) -> stock.merge(productId, delta, Long::sum));
+                    flushedEpoch = epoch;
+                    flushes++;
+                }
+                if (loseNextOutcome) {
+                    loseNextOutcome = false;
+                    throw new IllegalStateException("Connection closed before the commit was acknowledged");
+                }
+            });
+        }
+
+        @Override
+        public Mono<StockReservation> insertReservation(String productId, int quantity) {
+            return Mono.empty();
+        }
+
+        @Override
+        public Mono<StockReservation> commitReservation(String reservationId) {
+            return Mono.empty();
+        }
+
+        @Override
+        public Mono<StockReservation> releaseReservation(String reservationId) {
+            return Mono.empty();
+        }
+    }
+}
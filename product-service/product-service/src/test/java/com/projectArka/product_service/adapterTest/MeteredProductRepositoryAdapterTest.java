@@ -0,0 +1,94 @@
+package com.projectArka.product_service.adapterTest;
+
+import com.projectArka.product_service.domain.model.Product;
+import com.projectArka.product_service.domain.port.out.ProductRepositoryPort;
+import com.projectArka.product_service.infrastructure.metrics.MeteredProductRepositoryAdapter;
+import com.projectArka.product_service.infrastructure.metrics.MetricNames;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MeteredProductRepositoryAdapterTest {
+
+    @Mock
+    private ProductRepositoryPort delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MeteredProductRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        adapter = new MeteredProductRepositoryAdapter(delegate, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Timers are registered on first use, only for the outcome and rows that occurred")
+    void testRegisteredOnFirstUse() {
+        when(delegate.findBySku("SKU-1")).thenReturn(Mono.just(Product.builder().id("1").build()));
+        assertTrue(meterRegistry.find(MetricNames.REPOSITORY_CALLS).timers().isEmpty());
+
+        StepVerifier.create(adapter.findBySku("SKU-1")).expectNextCount(1).verifyComplete();
+
+        assertEquals(1, meterRegistry.find(MetricNames.REPOSITORY_CALLS).timers().size());
+        assertEquals(1, timer("findBySku", "success", "1").count());
+    }
+
+    @Test
+    @DisplayName("Calls are recorded by operation, outcome and rows returned")
+    void testRecordsOutcomeAndRows() {
+        when(delegate.findBySku("SKU-1")).thenReturn(Mono.just(Product.builder().id("1").build()));
+        when(delegate.findBySku("SKU-404")).thenReturn(Mono.empty());
+        when(delegate.findByName("broken")).thenReturn(Mono.error(new IllegalStateException("boom")));
+        when(delegate.findAll()).thenReturn(Flux.fromStream(IntStream.range(0, 42)
+                .mapToObj(i -> Product.builder().id(String.valueOf(i)).build())));
+
+        StepVerifier.create(adapter.findBySku("SKU-1")).expectNextCount(1).verifyComplete();
+        StepVerifier.create(adapter.findBySku("SKU-404")).verifyComplete();
+        StepVerifier.create(adapter.findByName("broken")).expectError(IllegalStateException.class).verify();
+        StepVerifier.create(adapter.findAll()).expectNextCount(42).verifyComplete();
+
+        assertEquals(1, timer("findBySku", "success", "1").count());
+        assertEquals(1, timer("findBySku", "success", "0").count());
+        assertEquals(1, timer("findByName", "error", "any").count());
+        assertEquals(1, timer("findAll", "success", "11-100").count());
+    }
+
+    @Test
+    @DisplayName("Nothing is recorded until the call is subscribed")
+    void testLazy() {
+        when(delegate.findById("1")).thenReturn(Mono.just(Product.builder().id("1").build()));
+
+        Mono<Product> call = adapter.findById("1");
+        assertNull(meterRegistry.find(MetricNames.REPOSITORY_CALLS).tag("operation", "findById").timer());
+
+        call.block();
+        call.block();
+        assertEquals(2, timer("findById", "success", "1").count());
+    }
+
+    private Timer timer(String operation, String outcome, String rows) {
+        return meterRegistry.get(MetricNames.REPOSITORY_CALLS)
+                .tag("port", "ProductRepositoryPort")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .tag("rows", rows)
+                .timer();
+    }
+}
@@ -0,0 +1,164 @@
+package com.projectArka.product_service.adapterTest;
+
+import com.projectArka.product_service.domain.model.CatalogChange;
+import com.projectArka.product_service.domain.model.Product;
+import com.projectArka.product_service.domain.port.in.StreamCatalogChangesPort;
+import com.projectArka.product_service.domain.port.out.CatalogChangeRepositoryPort;
+import com.projectArka.product_service.domain.port.out.ProductRepositoryPort;
+import com.projectArka.product_service.infrastructure.adapter.out.existence.ExistenceFilterProductRepositoryAdapter;
+import com.projectArka.product_service.infrastructure.adapter.out.existence.ProductExistenceFilter;
+import com.projectArka.product_service.infrastructure.adapter.out.existence.ProductExistenceFilterFeed;
+import com.projectArka.product_service.infrastructure.adapter.out.existence.ScalableBloomFilter;
+import com.projectArka.product_service.infrastructure.metrics.MetricNames;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductExistenceFilterTest {
+
+    @Mock
+    private ProductRepositoryPort delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProductExistenceFilter filter;
+    private ExistenceFilterProductRepositoryAdapter adapter;
+    private Product product;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new ProductExistenceFilter(1000, 0.01);
+        filter.bindTo(meterRegistry);
+        filter.setCaughtUp(true);
+        adapter = new ExistenceFilterProductRepositoryAdapter(delegate, filter);
+        product = Product.builder()
+                .id(UUID.randomUUID().toString())
+                .sku("SKU-1")
+                .name("Product 1")
+                .build();
+    }
+
+    @Test
+    @DisplayName("Bloom filter - no false negatives and the false-positive rate stays near the target as it grows")
+    void testScalableBloomFilter() {
+        ScalableBloomFilter bloomFilter = new ScalableBloomFilter(1000, 0.01);
+        for (int i = 0; i < 50_000; i++) {
+            bloomFilter.add("SKU-" + i);
+        }
+
+        for (int i = 0; i < 50_000; i++) {
+            assertTrue(bloomFilter.mightContain("SKU-" + i));
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 50_000; i++) {
+            if (bloomFilter.mightContain("MISSING-" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(bloomFilter.sliceCount() > 1);
+        assertTrue(falsePositives / 50_000.0 < 0.02, "false-positive rate " + falsePositives / 50_000.0);
+        assertTrue(bloomFilter.expectedFpp() < 0.01);
+        assertTrue(bloomFilter.count() > 49_000);
+    }
+
+    @Test
+    @DisplayName("Lookups - unknown keys are answered from memory once loaded, known keys reach the repository")
+    void testAnswersDefiniteNegatives() {
+        when(delegate.findBySku("SKU-404")).thenReturn(Mono.empty());
+        StepVerifier.create(adapter.findBySku("SKU-404")).verifyComplete();
+        verify(delegate).findBySku("SKU-404");
+
+        filter.clear();
+        filter.onSaved(product);
+        filter.onLoaded();
+        when(delegate.findBySku("SKU-1")).thenReturn(Mono.just(product));
+
+        StepVerifier.create(adapter.findBySku("SKU-1")).expectNext(product).verifyComplete();
+        StepVerifier.create(adapter.findBySku("SKU-405")).verifyComplete();
+        StepVerifier.create(adapter.findByName("Product 404")).verifyComplete();
+        StepVerifier.create(adapter.findById(UUID.randomUUID().toString())).verifyComplete();
+
+        verify(delegate, never()).findBySku("SKU-405");
+        verify(delegate, never()).findByName(anyString());
+        verify(delegate, never()).findById(anyString());
+        assertEquals(3, checks("absent"));
+        assertEquals(1, checks("present"));
+    }
+
+    @Test
+    @DisplayName("Batches - only keys that may exist reach the repository, imports of new products skip the check")
+    void testBatchesSendOnlyCandidates() {
+        filter.onSaved(product);
+        filter.onLoaded();
+        when(delegate.findAllBySkus(anyCollection())).thenReturn(Flux.just(product));
+
+        StepVerifier.create(adapter.findAllBySkus(List.of("SKU-1", "SKU-404")))
+                .expectNext(product)
+                .verifyComplete();
+        StepVerifier.create(adapter.findConflicting(List.of("SKU-2", "SKU-3"), List.of("Product 2", "Product 3")))
+                .verifyComplete();
+
+        verify(delegate).findAllBySkus(argThat((Collection<String> skus) -> skus.size() == 1 && skus.contains("SKU-1")));
+        verify(delegate, never()).findConflicting(anyCollection(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("Feed - products saved through other instances are added once their change arrives")
+    void testFeedAddsRemoteProducts() {
+        StreamCatalogChangesPort streamCatalogChangesPort = mock(StreamCatalogChangesPort.class);
+        CatalogChangeRepositoryPort catalogChangeRepositoryPort = mock(CatalogChangeRepositoryPort.class);
+        Sinks.Many<CatalogChange> changes = Sinks.many().unicast().onBackpressureBuffer();
+        when(catalogChangeRepositoryPort.findLatestSequence()).thenReturn(Mono.just(41L));
+        when(streamCatalogChangesPort.streamChanges(41L)).thenReturn(changes.asFlux());
+        when(delegate.findById(product.getId())).thenReturn(Mono.just(product));
+        filter.onLoaded();
+        ProductExistenceFilterFeed feed = new ProductExistenceFilterFeed(streamCatalogChangesPort,
+                catalogChangeRepositoryPort, delegate, filter);
+
+        feed.start();
+        assertFalse(filter.mightContainSku("SKU-1"));
+
+        changes.tryEmitNext(CatalogChange.builder()
+                .sequence(42L)
+                .entityType(CatalogChange.EntityType.PRODUCT)
+                .entityId(product.getId())
+                .type(CatalogChange.Type.SAVED)
+                .build());
+        feed.stop();
+
+        assertTrue(filter.mightContainSku("SKU-1"));
+        assertTrue(filter.mightContainName("Product 1"));
+        assertFalse(filter.mightContainSku("SKU-404"));
+    }
+
+    private double checks(String result) {
+        return meterRegistry.get(MetricNames.EXISTENCE_FILTER_CHECKS)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+}
@@ -0,0 +1,93 @@
+package com.projectArka.product_service.adapterTest;
+
+import com.projectArka.product_service.domain.model.Product;
+import com.projectArka.product_service.domain.model.ProductFacets;
+import com.projectArka.product_service.domain.model.ProductFeature;
+import com.projectArka.product_service.domain.model.ProductFilter;
+import com.projectArka.product_service.infrastructure.adapter.out.facet.ProductFacetIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class ProductFacetIndexTest {
+
+    private final UUID logitech = UUID.randomUUID();
+    private final UUID razer = UUID.randomUUID();
+    private final UUID mice = UUID.randomUUID();
+
+    private ProductFacetIndex index;
+
+    @BeforeEach
+    void setup() {
+        index = new ProductFacetIndex();
+        index.onSaved(product("1", logitech, "Wired", "25600"));
+        index.onSaved(product("2", logitech, "Wireless", "25600"));
+        index.onSaved(product("3", razer, "Wireless", "20000"));
+    }
+
+    @Test
+    @DisplayName("Filter - intersects feature and brand bitmaps and counts remaining facets")
+    void testFilter() {
+        ProductFacets facets = index.facets(ProductFilter.builder()
+                .features(Map.of("Connectivity", Set.of("Wireless")))
+                .build(), 10);
+
+        assertEquals(2, facets.getTotal());
+        assertEquals(List.of("2", "3"), facets.getProductIds());
+        assertEquals(Map.of("Wireless", 2), facets.getFeatures().get("Connectivity"));
+        assertEquals(Map.of("25600", 1, "20000", 1), facets.getFeatures().get("DPI"));
+        assertEquals(Map.of(logitech.toString(), 1, razer.toString(), 1), facets.getBrands());
+        assertEquals(Map.of(mice.toString(), 2), facets.getCategories());
+
+        ProductFacets byBrand = index.facets(ProductFilter.builder()
+                .features(Map.of("Connectivity", Set.of("Wireless", "Wired")))
+                .brandId(logitech.toString())
+                .build(), 1);
+
+        assertEquals(2, byBrand.getTotal());
+        assertEquals(List.of("1"), byBrand.getProductIds());
+    }
+
+    @Test
+    @DisplayName("Filter - unknown values match nothing")
+    void testUnknownValue() {
+        ProductFacets facets = index.facets(ProductFilter.builder()
+                .features(Map.of("Connectivity", Set.of("Bluetooth")))
+                .build(), 10);
+
+        assertEquals(0, facets.getTotal());
+        assertEquals(List.of(), facets.getProductIds());
+    }
+
+    @Test
+    @DisplayName("Filter - follows feature updates and deletes")
+    void testIncrementalUpdates() {
+        index.onSaved(product("1", logitech, "Wireless", "25600"));
+        index.onDeleted("3");
+
+        ProductFacets facets = index.facets(ProductFilter.builder().build(), 10);
+
+        assertEquals(2, facets.getTotal());
+        assertEquals(Map.of("Wireless", 2), facets.getFeatures().get("Connectivity"));
+        assertFalse(facets.getBrands().containsKey(razer.toString()));
+    }
+
+    private Product product(String id, UUID brandId, String connectivity, String dpi) {
+        return Product.builder()
+                .id(id)
+                .brandId(brandId)
+                .categoryId(mice)
+                .features(List.of(
+                        ProductFeature.builder().name("Connectivity").value(connectivity).build(),
+                        ProductFeature.builder().name("DPI").value(dpi).build()))
+                .build();
+    }
+}
@@ -0,0 +1,158 @@
+package com.projectArka.product_service.adapterTest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.projectArka.product_service.application.dto.ProductResponseDTO;
+import com.projectArka.product_service.domain.model.Product;
+import com.projectArka.product_service.infrastructure.adapter.out.cache.ProductJsonCache;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProductJsonCacheTest {
+
+    private ObjectMapper objectMapper;
+    private ProductJsonCache cache;
+    private ProductResponseDTO dto;
+
+    @BeforeEach
+    void setup() {
+        objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        cache = new ProductJsonCache(objectMapper, PooledByteBufAllocator.DEFAULT, 1024 * 1024, true);
+        dto = ProductResponseDTO.builder()
+                .id(UUID.randomUUID().toString())
+                .sku("SKU-001")
+                .name("Test Product")
+                .price(BigDecimal.valueOf(99.99))
+                .stock(10)
+                .active(true)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Cached entries return the encoded JSON by id and by SKU")
+    void testHitReturnsEncodedJson() throws IOException {
+        String expected = objectMapper.writeValueAsString(dto);
+
+        ProductJsonCache.Entry miss = put(cache.generation());
+        assertNotNull(miss);
+        assertEquals(expected, read(miss.retainedBuffer(false)));
+
+        ProductJsonCache.Entry byId = cache.getById(dto.getId());
+        assertNotNull(byId);
+        assertEquals("\"v1\"", byId.etag());
+        assertEquals(expected, read(byId.retainedBuffer(false)));
+        assertEquals(expected, read(byId.retainedBuffer(false)));
+        assertEquals(expected, gunzip(byId.retainedBuffer(true)));
+
+        assertNotNull(cache.getBySku("SKU-001"));
+        assertNull(cache.getBySku("SKU-002"));
+    }
+
+    @Test
+    @DisplayName("Invalidation removes the entry and releases its buffers, a response in flight keeps its bytes")
+    void testInvalidateReleases() throws IOException {
+        put(cache.generation());
+        ProductJsonCache.Entry entry = cache.getById(dto.getId());
+        DataBuffer inFlight = entry.retainedBuffer(false);
+
+        Product product = Product.builder().id(dto.getId()).build();
+        cache.onSaved(product);
+
+        assertNull(cache.getById(dto.getId()));
+        assertNull(cache.getBySku("SKU-001"));
+        assertNull(entry.retainedBuffer(false));
+        assertEquals(objectMapper.writeValueAsString(dto), read(inFlight));
+    }
+
+    @Test
+    @DisplayName("A retained entry keeps its length and bytes through an eviction until it is released")
+    void testRetainedEntrySurvivesInvalidation() throws IOException {
+        put(cache.generation());
+        ProductJsonCache.Entry entry = cache.getById(dto.getId());
+        assertTrue(entry.retain());
+        int length = entry.length(false);
+
+        cache.invalidate(dto.getId());
+
+        DataBuffer body = entry.retainedBuffer(false);
+        entry.release();
+        assertEquals(length, body.readableByteCount());
+        assertEquals(objectMapper.writeValueAsString(dto), read(body));
+        assertNull(entry.retainedBuffer(false));
+        assertFalse(entry.retain());
+    }
+
+    @Test
+    @DisplayName("A response loaded while the product changed is served but not cached")
+    void testStaleLoadNotCached() {
+        long generation = cache.generation();
+        cache.onStockChanged(dto.getId());
+
+        assertNull(put(generation));
+        assertNull(cache.getById(dto.getId()));
+        assertNull(cache.getBySku("SKU-001"));
+    }
+
+    @Test
+    @DisplayName("A change to another product does not keep a response from being cached")
+    void testOtherProductChangeCached() {
+        long generation = cache.generation();
+        cache.onStockChanged(otherId());
+
+        assertNotNull(put(generation));
+        assertNotNull(cache.getBySku("SKU-001"));
+    }
+
+    private ProductJsonCache.Entry put(long generation) {
+        return cache.put(generation, dto.getId(), dto.getSku(), "\"v1\"", dto);
+    }
+
+    // An id whose generation stripe differs from the cached product's.
+    private String otherId() {
+        while (true) {
+            String id = UUID.randomUUID().toString();
+            if ((id.hashCode() & 63) != (dto.getId().hashCode() & 63)) {
+                return id;
+            }
+        }
+    }
+
+    private static String read(DataBuffer buffer) {
+        try {
+            return buffer.toString(StandardCharsets.UTF_8);
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    private static String gunzip(DataBuffer buffer) throws IOException {
+        byte[] bytes = new byte[buffer.readableByteCount()];
+        buffer.read(bytes);
+        DataBufferUtils.release(buffer);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
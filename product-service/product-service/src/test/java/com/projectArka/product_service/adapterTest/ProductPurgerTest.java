@@ -0,0 +1,61 @@
+package com.projectArka.product_service.adapterTest;
+
+import com.projectArka.product_service.domain.port.out.ProductPurgeRepositoryPort;
+import com.projectArka.product_service.infrastructure.adapter.out.purge.ProductPurger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.support.CronExpression;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductPurgerTest {
+
+    private static final int BATCH_SIZE = 100;
+
+    @Mock
+    private ProductPurgeRepositoryPort productPurgeRepositoryPort;
+
+    @Test
+    @DisplayName("Purge - keeps deleting full batches and stops at the first short one")
+    void testPurgeRunsBatchesUntilShort() {
+        when(productPurgeRepositoryPort.purgeDeletedBefore(any(LocalDateTime.class), eq(BATCH_SIZE)))
+                .thenReturn(Mono.just(100L), Mono.just(100L), Mono.just(42L));
+
+        StepVerifier.create(purger(Duration.ofHours(1)).purge())
+                .expectNext(242L)
+                .verifyComplete();
+
+        verify(productPurgeRepositoryPort, times(3)).purgeDeletedBefore(any(LocalDateTime.class), eq(BATCH_SIZE));
+    }
+
+    @Test
+    @DisplayName("Purge - a run that outlasts its window stops after the current batch")
+    void testPurgeStopsAtWindow() {
+        when(productPurgeRepositoryPort.purgeDeletedBefore(any(LocalDateTime.class), eq(BATCH_SIZE)))
+                .thenReturn(Mono.just(100L));
+
+        StepVerifier.create(purger(Duration.ZERO).purge())
+                .expectNext(100L)
+                .verifyComplete();
+
+        verify(productPurgeRepositoryPort, times(1)).purgeDeletedBefore(any(LocalDateTime.class), eq(BATCH_SIZE));
+    }
+
+    private ProductPurger purger(Duration window) {
+        return new ProductPurger(productPurgeRepositoryPort, CronExpression.parse("0 0 3 * * *"), Duration.ofDays(7),
+                BATCH_SIZE, window);
+    }
+}
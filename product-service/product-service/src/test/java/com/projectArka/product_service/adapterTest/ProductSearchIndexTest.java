@@ -0,0 +1,124 @@
+package com.projectArka.product_service.adapterTest;
+
+import com.projectArka.product_service.domain.model.CatalogChange;
+import com.projectArka.product_service.domain.model.Product;
+import com.projectArka.product_service.domain.model.ProductFeature;
+import com.projectArka.product_service.domain.model.ProductSearchHit;
+import com.projectArka.product_service.domain.port.in.StreamCatalogChangesPort;
+import com.projectArka.product_service.domain.port.out.CatalogChangeRepositoryPort;
+import com.projectArka.product_service.infrastructure.adapter.out.listener.ProductIndex;
+import com.projectArka.product_service.infrastructure.adapter.out.listener.ProductIndexLoader;
+import com.projectArka.product_service.infrastructure.adapter.out.search.ProductSearchIndex;
+import com.projectArka.product_service.infrastructure.metrics.MeteredProductRepositoryAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProductSearchIndexTest {
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setup() {
+        index = new ProductSearchIndex();
+        index.onSaved(product("1", "Logitech G502 Mouse", "Wired gaming mouse", "Connectivity", "Wired"));
+        index.onSaved(product("2", "Razer Viper Mouse", "Wireless gaming mouse", "Connectivity", "Wireless"));
+        index.onSaved(product("3", "Keychron K2 Keyboard", "Wireless mechanical keyboard", "Switch type", "Brown"));
+    }
+
+    @Test
+    @DisplayName("Search - ranks products matching more query terms first")
+    void testRanking() {
+        List<ProductSearchHit> hits = index.topHits("wireless mouse", 10);
+
+        assertEquals(3, hits.size());
+        assertEquals("2", hits.get(0).getProductId());
+        assertTrue(hits.get(0).getScore() >= hits.get(1).getScore());
+    }
+
+    @Test
+    @DisplayName("Search - returns at most the requested number of hits")
+    void testTopK() {
+        assertEquals(1, index.topHits("mouse", 1).size());
+    }
+
+    @Test
+    @DisplayName("Search - accents and case are ignored")
+    void testNormalization() {
+        index.onSaved(product("4", "Ratón Inalámbrico", "", "Color", "Negro"));
+
+        assertEquals("4", index.topHits("RATON inalambrico", 10).get(0).getProductId());
+    }
+
+    @Test
+    @DisplayName("Updates replace the indexed text and deletes remove the product")
+    void testIncrementalUpdates() {
+        index.onSaved(product("1", "Logitech G502 Hero", "Gaming mouse", "Connectivity", "Bluetooth"));
+        assertTrue(index.topHits("wired", 10).isEmpty());
+        assertEquals("1", index.topHits("bluetooth", 10).get(0).getProductId());
+
+        index.onDeleted("3");
+        assertTrue(index.topHits("keyboard", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Loader - after the initial load, products saved and deleted through other instances are followed")
+    @SuppressWarnings("unchecked")
+    void testLoaderFollowsRemoteChanges() {
+        MeteredProductRepositoryAdapter productRepositoryPort = mock(MeteredProductRepositoryAdapter.class);
+        CatalogChangeRepositoryPort catalogChangeRepositoryPort = mock(CatalogChangeRepositoryPort.class);
+        StreamCatalogChangesPort streamCatalogChangesPort = mock(StreamCatalogChangesPort.class);
+        ObjectProvider<ProductIndex> indexes = mock(ObjectProvider.class);
+        Sinks.Many<CatalogChange> changes = Sinks.many().unicast().onBackpressureBuffer();
+        Product remote = product("4", "Corsair K70 Keyboard", "Mechanical keyboard", "Switch type", "Red");
+        when(indexes.orderedStream()).thenReturn(Stream.of(index));
+        when(catalogChangeRepositoryPort.findLatestSequence()).thenReturn(Mono.just(41L));
+        when(productRepositoryPort.findAll()).thenReturn(Flux.just(
+                product("1", "Logitech G502 Mouse", "Wired gaming mouse", "Connectivity", "Wired"),
+                product("3", "Keychron K2 Keyboard", "Wireless mechanical keyboard", "Switch type", "Brown")));
+        when(streamCatalogChangesPort.streamChanges(41L)).thenReturn(changes.asFlux());
+        when(productRepositoryPort.findById("4")).thenReturn(Mono.just(remote));
+        ProductIndexLoader loader = new ProductIndexLoader(productRepositoryPort, catalogChangeRepositoryPort,
+                streamCatalogChangesPort, indexes);
+
+        loader.load();
+        assertTrue(index.topHits("viper", 10).isEmpty());
+
+        changes.tryEmitNext(change(42L, "4", CatalogChange.Type.SAVED));
+        changes.tryEmitNext(change(43L, "3", CatalogChange.Type.DELETED));
+        loader.stop();
+
+        assertEquals(List.of("4"), index.topHits("keyboard", 10).stream().map(ProductSearchHit::getProductId).toList());
+        assertEquals("1", index.topHits("mouse", 10).get(0).getProductId());
+    }
+
+    private CatalogChange change(long sequence, String productId, CatalogChange.Type type) {
+        return CatalogChange.builder()
+                .sequence(sequence)
+                .entityType(CatalogChange.EntityType.PRODUCT)
+                .entityId(productId)
+                .type(type)
+                .build();
+    }
+
+    private Product product(String id, String name, String description, String featureName, String featureValue) {
+        return Product.builder()
+                .id(id)
+                .name(name)
+                .description(description)
+                .features(List.of(ProductFeature.builder().name(featureName).value(featureValue).build()))
+                .build();
+    }
+}
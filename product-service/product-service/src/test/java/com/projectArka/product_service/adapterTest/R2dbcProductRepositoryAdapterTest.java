@@ -0,0 +1,297 @@
+package com.projectArka.product_service.adapterTest;
+
+import com.projectArka.product_service.domain.exception.ProductAlreadyExistsException;
+import com.projectArka.product_service.domain.exception.VersionConflictException;
+import com.projectArka.product_service.domain.model.Product;
+import com.projectArka.product_service.domain.model.ProductFeature;
+import com.projectArka.product_service.domain.model.ProductPatch;
+import com.projectArka.product_service.infrastructure.adapter.out.r2dbc.adapter.R2dbcProductRepositoryAdapter;
+import com.projectArka.product_service.infrastructure.adapter.out.r2dbc.repository.CatalogChangeRepository;
+import com.projectArka.product_service.infrastructure.adapter.out.r2dbc.repository.ProductFeatureRepository;
+import com.projectArka.product_service.infrastructure.adapter.out.r2dbc.repository.ProductRepository;
+import com.projectArka.product_service.infrastructure.entity.ProductEntity;
+import com.projectArka.product_service.infrastructure.entity.ProductFeatureEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class R2dbcProductRepositoryAdapterTest {
+
+    private static final int FEATURES_PER_PRODUCT = 3;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductFeatureRepository productFeatureRepository;
+
+    @Mock
+    private CatalogChangeRepository catalogChangeRepository;
+
+    private R2dbcProductRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setup() {
+        adapter = new R2dbcProductRepositoryAdapter(productRepository, productFeatureRepository, catalogChangeRepository);
+        lenient().when(catalogChangeRepository.append(any(), any(), any())).thenReturn(Mono.empty());
+        lenient().when(productFeatureRepository.findByProductIdIn(anyCollection()))
+                .thenAnswer(invocation -> {
+                    Collection<UUID> productIds = invocation.getArgument(0);
+                    return Flux.fromIterable(productIds).flatMapIterable(this::featuresOf);
+                });
+    }
+
+    @Test
+    @DisplayName("Find all - features are loaded with one statement per window, never per product")
+    void testFindAllRunsConstantNumberOfFeatureStatements() {
+        List<ProductEntity> products = products(200);
+        when(productRepository.streamAll(anyInt())).thenReturn(Flux.fromIterable(products));
+
+        StepVerifier.create(adapter.findAll())
+                .recordWith(ArrayList::new)
+                .expectNextCount(200)
+                .consumeRecordedWith(found -> found.forEach(product ->
+                        assertEquals(FEATURES_PER_PRODUCT, product.getFeatures().size())))
+                .verifyComplete();
+
+        verify(productRepository, times(1)).streamAll(anyInt());
+        verify(productFeatureRepository, times(1)).findByProductIdIn(anyCollection());
+        verify(productFeatureRepository, never()).findByProductId(any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("Find all - large listings are split into fixed-size feature windows")
+    void testFindAllWindowsLargeListings() {
+        List<ProductEntity> products = products(1200);
+        when(productRepository.streamAll(anyInt())).thenReturn(Flux.fromIterable(products));
+
+        StepVerifier.create(adapter.findAll().map(Product::getId))
+                .expectNextSequence(products.stream().map(entity -> entity.getId().toString()).toList())
+                .verifyComplete();
+
+        verify(productFeatureRepository, times(3)).findByProductIdIn(anyCollection());
+        verify(productFeatureRepository, never()).findByProductId(any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("Find by SKU - shares the batched feature loader")
+    void testFindBySkuUsesBatchedLoader() {
+        ProductEntity product = products(1).get(0);
+        when(productRepository.findBySku(product.getSku())).thenReturn(Mono.just(product));
+
+        StepVerifier.create(adapter.findBySku(product.getSku()))
+                .expectNextMatches(found -> found.getFeatures().size() == FEATURES_PER_PRODUCT)
+                .verifyComplete();
+
+        verify(productFeatureRepository, times(1)).findByProductIdIn(anyCollection());
+        verify(productFeatureRepository, never()).findByProductId(any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("Save - writes only the features that changed and keeps the stored ones")
+    void testSaveDiffsFeatures() {
+        ProductEntity product = products(1).get(0);
+        LocalDateTime createdAt = LocalDateTime.now().minusDays(30);
+        ProductFeatureEntity unchanged = feature(product.getId(), "DPI", "16000", createdAt);
+        ProductFeatureEntity changed = feature(product.getId(), "Connectivity", "Wired", createdAt);
+        ProductFeatureEntity removed = feature(product.getId(), "Color", "Black", createdAt);
+
+        when(productRepository.save(any(ProductEntity.class))).thenReturn(Mono.just(product));
+        when(productFeatureRepository.findByProductId(product.getId())).thenReturn(Flux.just(unchanged, changed, removed));
+        when(productFeatureRepository.deleteAllById(anyIterable())).thenReturn(Mono.empty());
+        when(productFeatureRepository.save(any(ProductFeatureEntity.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(productFeatureRepository.insertBatch(anyList())).thenReturn(Mono.just(1L));
+
+        Product toSave = product.toDomain();
+        toSave.setFeatures(List.of(
+                ProductFeature.builder().name("DPI").value("16000").build(),
+                ProductFeature.builder().name("Connectivity").value("Wireless").build(),
+                ProductFeature.builder().name("Switch type").value("Optical").build()));
+
+        StepVerifier.create(adapter.save(toSave))
+                .expectNextMatches(saved -> saved.getFeatures().size() == 3)
+                .verifyComplete();
+
+        verify(productFeatureRepository, times(1)).findByProductId(product.getId());
+        verify(productFeatureRepository).deleteAllById(List.of(removed.getId()));
+        verify(productFeatureRepository, times(1)).save(changed);
+        verify(productFeatureRepository, never()).save(unchanged);
+        verify(productFeatureRepository).insertBatch(argThat(inserted -> inserted.size() == 1
+                && inserted.get(0).getName().equals("Switch type")));
+        verify(productFeatureRepository, never()).deleteByProductId(any(UUID.class));
+        verify(catalogChangeRepository).append(eq("PRODUCT"), argThat((UUID[] ids) -> ids.length == 1 && ids[0].equals(product.getId())),
+                eq("SAVED"));
+        assertEquals(createdAt, changed.getCreatedAt());
+        assertEquals("Wireless", changed.getValue());
+    }
+
+    @Test
+    @DisplayName("Find all by ids - one product statement and one feature statement for the whole batch")
+    void testFindAllByIdsBatchesStatements() {
+        List<ProductEntity> products = products(50);
+        when(productRepository.findLiveByIdIn(anyCollection())).thenReturn(Flux.fromIterable(products));
+
+        StepVerifier.create(adapter.findAllByIds(products.stream().map(entity -> entity.getId().toString()).toList()))
+                .recordWith(ArrayList::new)
+                .expectNextCount(50)
+                .consumeRecordedWith(found -> found.forEach(product ->
+                        assertEquals(FEATURES_PER_PRODUCT, product.getFeatures().size())))
+                .verifyComplete();
+
+        verify(productRepository, times(1)).findLiveByIdIn(anyCollection());
+        verify(productRepository, never()).findLiveById(any(UUID.class));
+        verify(productFeatureRepository, times(1)).findByProductIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Patch - a price change is one update statement, features are read but never written")
+    void testPatchWithoutFeaturesLeavesFeaturesAlone() {
+        ProductEntity patched = products(1).get(0);
+        patched.setPrice(BigDecimal.valueOf(42));
+        ProductPatch patch = ProductPatch.builder().price(BigDecimal.valueOf(42)).build();
+        when(productRepository.patch(patched.getId(), patch)).thenReturn(Mono.just(patched));
+
+        StepVerifier.create(adapter.patch(patched.getId().toString(), patch))
+                .expectNextMatches(product -> product.getPrice().equals(BigDecimal.valueOf(42))
+                        && product.getFeatures().size() == FEATURES_PER_PRODUCT)
+                .verifyComplete();
+
+        verify(productRepository, never()).save(any(ProductEntity.class));
+        verify(productRepository, never()).findLiveById(any(UUID.class));
+        verify(productFeatureRepository, never()).findByProductId(any(UUID.class));
+        verify(productFeatureRepository, never()).insertBatch(anyList());
+        verify(catalogChangeRepository).append(eq("PRODUCT"), any(UUID[].class), eq("SAVED"));
+    }
+
+    @Test
+    @DisplayName("Save - unique index violations become ProductAlreadyExistsException with the right field")
+    void testSaveTranslatesUniqueViolation() {
+        Product product = products(1).get(0).toDomain();
+        product.setId(null);
+        when(productRepository.save(any(ProductEntity.class))).thenReturn(Mono.error(new DuplicateKeyException(
+                "duplicate key value violates unique constraint \"ux_product_live_sku\"")));
+
+        StepVerifier.create(adapter.save(product))
+                .expectErrorMatches(ex -> ex instanceof ProductAlreadyExistsException exists
+                        && exists.getField().equals("sku"))
+                .verify();
+
+        verify(catalogChangeRepository, never()).append(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Save and patch - a stale version becomes VersionConflictException, a missing product stays empty")
+    void testStaleVersionConflicts() {
+        Product product = products(1).get(0).toDomain();
+        product.setVersion(3L);
+        UUID id = UUID.fromString(product.getId());
+        when(productRepository.save(any(ProductEntity.class))).thenReturn(Mono.error(new OptimisticLockingFailureException(
+                "Failed to update table [product]; Version does not match for row with Id [" + id + "]")));
+
+        StepVerifier.create(adapter.save(product))
+                .expectError(VersionConflictException.class)
+                .verify();
+
+        ProductPatch patch = ProductPatch.builder().price(BigDecimal.ONE).version(3L).build();
+        when(productRepository.patch(id, patch)).thenReturn(Mono.empty());
+        when(productRepository.existsLiveById(id)).thenReturn(Mono.just(true), Mono.just(false));
+
+        StepVerifier.create(adapter.patch(product.getId(), patch))
+                .expectError(VersionConflictException.class)
+                .verify();
+        StepVerifier.create(adapter.patch(product.getId(), patch))
+                .verifyComplete();
+
+        verify(catalogChangeRepository, never()).append(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Delete - one conditional update hides the product, the change is recorded only when a row was hit")
+    void testDeleteIsSoft() {
+        UUID id = UUID.randomUUID();
+        when(productRepository.softDeleteById(eq(id), any(LocalDateTime.class))).thenReturn(Mono.just(1L), Mono.just(0L));
+
+        StepVerifier.create(adapter.deleteById(id.toString()))
+                .expectNext(true)
+                .verifyComplete();
+        StepVerifier.create(adapter.deleteById(id.toString()))
+                .expectNext(false)
+                .verifyComplete();
+
+        verify(productRepository, never()).deleteById(any(UUID.class));
+        verify(productFeatureRepository, never()).deleteByProductId(any(UUID.class));
+        verify(catalogChangeRepository, times(1)).append(eq("PRODUCT"), argThat((UUID[] ids) -> ids.length == 1 && ids[0].equals(id)),
+                eq("DELETED"));
+    }
+
+    private ProductFeatureEntity feature(UUID productId, String name, String value, LocalDateTime createdAt) {
+        return ProductFeatureEntity.builder()
+                .id(UUID.randomUUID())
+                .productId(productId)
+                .name(name)
+                .value(value)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build();
+    }
+
+    private List<ProductEntity> products(int count) {
+        List<ProductEntity> products = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            products.add(ProductEntity.builder()
+                    .id(UUID.randomUUID())
+                    .sku("SKU-" + i)
+                    .name("Product " + i)
+                    .price(BigDecimal.TEN)
+                    .stock(10)
+                    .active(true)
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+        }
+        return products;
+    }
+
+    private List<ProductFeatureEntity> featuresOf(UUID productId) {
+        List<ProductFeatureEntity> features = new ArrayList<>(FEATURES_PER_PRODUCT);
+        for (int i = 0; i < FEATURES_PER_PRODUCT; i++) {
+            features.add(ProductFeatureEntity.builder()
+                    .id(UUID.randomUUID())
+                    .productId(productId)
+                    .name("Feature " + i)
+                    .value("Value " + i)
+                    .build());
+        }
+        return features;
+    }
+}
@@ -0,0 +1,56 @@
+package com.projectArka.product_service.adapterTest;
+
+import com.projectArka.product_service.infrastructure.adapter.out.r2dbc.repository.StockDeltaRepositoryImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.FetchSpec;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StockDeltaRepositoryImplTest {
+
+    @Mock
+    private DatabaseClient databaseClient;
+
+    @Mock
+    private DatabaseClient.GenericExecuteSpec spec;
+
+    @Mock
+    private FetchSpec<Map<String, Object>> fetch;
+
+    @Test
+    @DisplayName("Apply deltas - one statement moves the stock, bumps the version and advances the checkpoint")
+    void testApplyDeltasBumpsVersion() {
+        UUID productId = UUID.randomUUID();
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        when(databaseClient.sql(sql.capture())).thenReturn(spec);
+        when(spec.bind(anyString(), any())).thenReturn(spec);
+        when(spec.fetch()).thenReturn(fetch);
+        when(fetch.rowsUpdated()).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(new StockDeltaRepositoryImpl(databaseClient).applyDeltas(Map.of(productId, -4L), 7L))
+                .verifyComplete();
+
+        String statement = sql.getValue();
+        assertTrue(statement.contains("SET stock = product.stock + v.delta, updated_at = :now, version = product.version + 1"), statement);
+        assertTrue(statement.contains("AND epoch < :epoch"), statement);
+        verify(spec).bind("id0", productId);
+        verify(spec).bind("delta0", -4);
+        verify(spec).bind("epoch", 7L);
+    }
+}
@@ -0,0 +1,67 @@
+package com.projectArka.product_service.adapterTest;
+
+import com.projectArka.product_service.infrastructure.adapter.out.r2dbc.repository.StockReserveRepositoryImpl;
+import com.projectArka.product_service.infrastructure.entity.StockReservationEntity;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StockReserveRepositoryImplTest {
+
+    @Mock
+    private R2dbcEntityTemplate entityTemplate;
+
+    @Mock
+    private DatabaseClient databaseClient;
+
+    @Mock
+    private DatabaseClient.GenericExecuteSpec spec;
+
+    @Mock
+    private RowsFetchSpec<StockReservationEntity> rows;
+
+    @Test
+    @DisplayName("Reserve - the decrement is guarded by the stock, skips deleted products and bumps the version in the same statement")
+    void testReserveStatementGuardsStock() {
+        UUID productId = UUID.randomUUID();
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        when(entityTemplate.getDatabaseClient()).thenReturn(databaseClient);
+        when(databaseClient.sql(sql.capture())).thenReturn(spec);
+        when(spec.bind(anyString(), any())).thenReturn(spec);
+        when(spec.map(ArgumentMatchers.<BiFunction<Row, RowMetadata, StockReservationEntity>>any())).thenReturn(rows);
+        when(rows.one()).thenReturn(Mono.empty());
+
+        StepVerifier.create(new StockReserveRepositoryImpl(entityTemplate)
+                        .reserve(UUID.randomUUID(), productId, 3, LocalDateTime.now()))
+                .verifyComplete();
+
+        String statement = sql.getValue().replaceAll("\\s+", " ");
+        assertTrue(statement.contains("UPDATE product SET stock = stock - :quantity, updated_at = :now, version = version + 1"), statement);
+        assertTrue(statement.contains("WHERE id = :productId AND stock >= :quantity AND deleted_at IS NULL"), statement);
+        assertTrue(statement.contains("FROM reserved"), statement);
+        verify(spec).bind("productId", productId);
+        verify(spec).bind("quantity", 3);
+    }
+}
@@ -1,11 +1,23 @@
 package com.projectArka.product_service.controllerTest;
 
+import com.projectArka.product_service.application.dto.BrandResponseDTO;
+import com.projectArka.product_service.application.dto.CategoryResponseDTO;
 import com.projectArka.product_service.application.dto.CreateProductRequestDTO;
 import com.projectArka.product_service.application.dto.ProductResponseDTO;
 import com.projectArka.product_service.application.dto.UpdateProductRequestDTO;
 import com.projectArka.product_service.application.mapper.ProductMapper;
+import com.projectArka.product_service.domain.model.Brand;
+import com.projectArka.product_service.domain.model.CatalogVersion;
+import com.projectArka.product_service.domain.model.Category;
+import com.projectArka.product_service.domain.model.CursorPage;
+import com.projectArka.product_service.domain.model.PriceFilter;
 import com.projectArka.product_service.domain.model.Product;
+import com.projectArka.product_service.domain.model.ProductExpansion;
+import com.projectArka.product_service.domain.model.ProductLookup;
+import com.projectArka.product_service.domain.model.ProductPatch;
+import com.projectArka.product_service.domain.model.ProductVersion;
 import com.projectArka.product_service.domain.exception.ProductAlreadyExistsException;
+import com.projectArka.product_service.domain.exception.VersionConflictException;
 import com.projectArka.product_service.domain.port.in.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,18 +25,28 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @WebFluxTest(controllers = com.projectArka.product_service.infrastructure.adapter.in.webflux.ProductController.class)
@@ -45,6 +67,9 @@ class ProductControllerTest {
     @MockBean
     private DeleteProductPort deleteProductPort;
 
+    @MockBean
+    private ExpandProductsPort expandProductsPort;
+
     @MockBean
     private ProductMapper productMapper;
 
@@ -109,6 +134,9 @@ class ProductControllerTest {
         when(productMapper.toEntity(any(CreateProductRequestDTO.class))).thenReturn(sampleProduct);
         when(productMapper.toDTO(any(Product.class))).thenReturn(sampleProductDTO);
         when(productMapper.toEntity(any(UpdateProductRequestDTO.class))).thenReturn(sampleProduct);
+        when(getProductPort.getCatalogVersion()).thenReturn(Mono.just(CatalogVersion.builder()
+                .productsUpdatedAt(now)
+                .build()));
     }
 
     @Test
@@ -171,6 +199,49 @@ class ProductControllerTest {
                 .isEqualTo(sampleProductDTO);
     }
 
+    @Test
+    @DisplayName("Get product by ID - If-None-Match with the current version returns 304 without loading the product")
+    void testGetProductByIdNotModified() {
+        UUID id = UUID.fromString(sampleProduct.getId());
+        when(getProductPort.getProductById(id)).thenReturn(Mono.just(sampleProduct));
+        when(getProductPort.getProductVersion(id)).thenReturn(Mono.just(ProductVersion.of(sampleProduct)));
+
+        String etag = webTestClient.get()
+                .uri("/api/products/{id}", sampleProduct.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(ProductResponseDTO.class)
+                .getResponseHeaders()
+                .getETag();
+
+        webTestClient.get()
+                .uri("/api/products/{id}", sampleProduct.getId())
+                .ifNoneMatch(etag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals("ETag", etag)
+                .expectBody().isEmpty();
+
+        verify(getProductPort, times(1)).getProductById(id);
+    }
+
+    @Test
+    @DisplayName("Get product by ID - If-None-Match with an older version returns the product")
+    void testGetProductByIdModified() {
+        UUID id = UUID.fromString(sampleProduct.getId());
+        when(getProductPort.getProductById(id)).thenReturn(Mono.just(sampleProduct));
+        when(getProductPort.getProductVersion(id)).thenReturn(Mono.just(ProductVersion.of(sampleProduct)));
+
+        webTestClient.get()
+                .uri("/api/products/{id}", sampleProduct.getId())
+                .ifNoneMatch("\"stale\"")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists("ETag")
+                .expectBody(ProductResponseDTO.class)
+                .isEqualTo(sampleProductDTO);
+    }
+
     @Test
     @DisplayName("Get product by ID - invalid ID")
     void testGetProductByIdInvalidId() {
@@ -206,6 +277,56 @@ class ProductControllerTest {
                 .isEqualTo(sampleProductDTO);
     }
 
+    @Test
+    @DisplayName("Get product by SKU - If-None-Match with the current version returns 304")
+    void testGetProductBySkuNotModified() {
+        when(getProductPort.getProductBySku("SKU-001")).thenReturn(Mono.just(sampleProduct));
+
+        String etag = webTestClient.get()
+                .uri("/api/products/sku/{sku}", "SKU-001")
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(ProductResponseDTO.class)
+                .getResponseHeaders()
+                .getETag();
+
+        webTestClient.get()
+                .uri("/api/products/sku/{sku}", "SKU-001")
+                .ifNoneMatch(etag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals("ETag", etag)
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    @DisplayName("Get product by SKU with expand - embeds the category")
+    void testGetProductBySkuExpanded() {
+        Category category = Category.builder().id(sampleProduct.getCategoryId().toString()).name("Keyboards").build();
+        ProductExpansion expansion = ProductExpansion.builder()
+                .brands(Map.of())
+                .categories(Map.of(category.getId(), category))
+                .build();
+        ProductResponseDTO expandedDTO = ProductResponseDTO.builder()
+                .id(sampleProduct.getId())
+                .sku("SKU-001")
+                .categoryId(sampleProduct.getCategoryId())
+                .category(CategoryResponseDTO.builder().id(category.getId()).name("Keyboards").build())
+                .build();
+        when(getProductPort.getProductBySku("SKU-001")).thenReturn(Mono.just(sampleProduct));
+        when(expandProductsPort.expandProducts(anyCollection(), eq(false), eq(true))).thenReturn(Mono.just(expansion));
+        when(productMapper.toDTO(any(Product.class), eq(expansion))).thenReturn(expandedDTO);
+
+        webTestClient.get()
+                .uri("/api/products/sku/{sku}?expand=category", "SKU-001")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists("ETag")
+                .expectBody()
+                .jsonPath("$.category.name").isEqualTo("Keyboards")
+                .jsonPath("$.brand").doesNotExist();
+    }
+
     @Test
     @DisplayName("Get product by SKU - not found")
     void testGetProductBySkuNotFound() {
@@ -257,11 +378,202 @@ class ProductControllerTest {
                 .contains(sampleProductDTO);
     }
 
+    @Test
+    @DisplayName("Get all products - If-None-Match with the catalog version returns 304 until the catalog changes")
+    void testGetAllProductsNotModified() {
+        when(getProductPort.getAllProducts()).thenReturn(Flux.just(sampleProduct));
+
+        String etag = webTestClient.get()
+                .uri("/api/products")
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(ProductResponseDTO.class)
+                .getResponseHeaders()
+                .getETag();
+
+        webTestClient.get()
+                .uri("/api/products")
+                .ifNoneMatch(etag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+
+        when(getProductPort.getCatalogVersion()).thenReturn(Mono.just(CatalogVersion.builder()
+                .productsUpdatedAt(now.plusSeconds(1))
+                .build()));
+
+        webTestClient.get()
+                .uri("/api/products")
+                .ifNoneMatch(etag)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(ProductResponseDTO.class)
+                .hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Get all products with expand - brands resolved with one lookup for the whole list")
+    void testGetAllProductsExpanded() {
+        Brand brand = Brand.builder().id(sampleProduct.getBrandId().toString()).name("Acme").build();
+        ProductExpansion expansion = ProductExpansion.builder()
+                .brands(Map.of(brand.getId(), brand))
+                .categories(Map.of())
+                .build();
+        ProductResponseDTO expandedDTO = ProductResponseDTO.builder()
+                .id(sampleProduct.getId())
+                .sku("SKU-001")
+                .brandId(sampleProduct.getBrandId())
+                .brand(BrandResponseDTO.builder().id(brand.getId()).name("Acme").build())
+                .build();
+        when(getProductPort.getAllProducts()).thenReturn(Flux.just(sampleProduct, sampleProduct));
+        when(expandProductsPort.expandProducts(anyCollection(), eq(true), eq(false))).thenReturn(Mono.just(expansion));
+        when(productMapper.toDTO(any(Product.class), eq(expansion))).thenReturn(expandedDTO);
+
+        webTestClient.get()
+                .uri("/api/products?expand=brand")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].brand.name").isEqualTo("Acme")
+                .jsonPath("$[0].category").doesNotExist();
+
+        verify(expandProductsPort, times(1)).expandProducts(anyCollection(), eq(true), eq(false));
+    }
+
+    @Test
+    @DisplayName("Get all products with an unknown expand value - returns 400")
+    void testGetAllProductsInvalidExpand() {
+        webTestClient.get()
+                .uri("/api/products?expand=supplier")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verify(expandProductsPort, never()).expandProducts(anyCollection(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("Stream all products as NDJSON")
+    void testStreamAllProductsAsNdjson() {
+        when(getProductPort.getAllProducts()).thenReturn(Flux.just(sampleProduct, sampleProduct));
+
+        webTestClient.get()
+                .uri("/api/products")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(ProductResponseDTO.class)
+                .getResponseBody()
+                .as(StepVerifier::create)
+                .expectNext(sampleProductDTO, sampleProductDTO)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Get product page - returns items and next cursor")
+    void testGetProductPage() {
+        CursorPage<Product> page = CursorPage.<Product>builder()
+                .items(List.of(sampleProduct))
+                .limit(1)
+                .nextCursor("next-cursor")
+                .build();
+        when(getProductPort.getProductPage(null, 1)).thenReturn(Mono.just(page));
+
+        webTestClient.get()
+                .uri("/api/products/page?limit=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.limit").isEqualTo(1)
+                .jsonPath("$.nextCursor").isEqualTo("next-cursor")
+                .jsonPath("$.items[0].sku").isEqualTo("SKU-001");
+    }
+
+    @Test
+    @DisplayName("Get products by price - passes the category, range and order to the port")
+    void testGetProductPageByPrice() {
+        String categoryId = UUID.randomUUID().toString();
+        PriceFilter filter = PriceFilter.builder()
+                .categoryId(categoryId)
+                .minPrice(new BigDecimal("20"))
+                .maxPrice(new BigDecimal("50"))
+                .descending(true)
+                .build();
+        CursorPage<Product> page = CursorPage.<Product>builder()
+                .items(List.of(sampleProduct))
+                .limit(1)
+                .nextCursor("next-cursor")
+                .build();
+        when(getProductPort.getProductPageByPrice(filter, null, 1)).thenReturn(Mono.just(page));
+
+        webTestClient.get()
+                .uri("/api/products/by-price?categoryId={categoryId}&minPrice=20&maxPrice=50&sort=desc&limit=1", categoryId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.nextCursor").isEqualTo("next-cursor")
+                .jsonPath("$.items[0].sku").isEqualTo("SKU-001");
+    }
+
+    @Test
+    @DisplayName("Get products by price - invalid sort")
+    void testGetProductPageByPriceInvalidSort() {
+        webTestClient.get()
+                .uri("/api/products/by-price?sort=cheapest")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("Batch get products - results in request order with not-found markers")
+    void testBatchGetProducts() {
+        UUID missing = UUID.randomUUID();
+        when(getProductPort.getProductsByIds(List.of(UUID.fromString(sampleProduct.getId()), missing))).thenReturn(Flux.just(
+                ProductLookup.builder().key(sampleProduct.getId()).product(sampleProduct).build(),
+                ProductLookup.builder().key(missing.toString()).build()));
+
+        webTestClient.post()
+                .uri("/api/products/batch-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("ids", List.of(sampleProduct.getId(), missing.toString())))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].id").isEqualTo(sampleProduct.getId())
+                .jsonPath("$[0].found").isEqualTo(true)
+                .jsonPath("$[0].product.sku").isEqualTo("SKU-001")
+                .jsonPath("$[1].id").isEqualTo(missing.toString())
+                .jsonPath("$[1].found").isEqualTo(false)
+                .jsonPath("$[1].product").doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Batch get products - both ids and skus, or an invalid id")
+    void testBatchGetProductsInvalidRequest() {
+        webTestClient.post()
+                .uri("/api/products/batch-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("ids", List.of(sampleProduct.getId()), "skus", List.of("SKU-001")))
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        webTestClient.post()
+                .uri("/api/products/batch-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("ids", List.of("invalid-uuid")))
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verify(getProductPort, never()).getProductsByIds(any());
+    }
+
     @Test
     @DisplayName("Update product - successful")
     void testUpdateProductFound() {
         when(getProductPort.getProductById(UUID.fromString(sampleProduct.getId()))).thenReturn(Mono.just(sampleProduct));
-        when(updateProductPort.updateProduct(any(Product.class))).thenReturn(Mono.just(sampleProduct));
+        when(updateProductPort.updateProduct(any(Product.class), eq(sampleProduct))).thenReturn(Mono.just(sampleProduct));
 
         webTestClient.put()
                 .uri("/api/products/{id}", sampleProduct.getId())
@@ -299,12 +611,83 @@ class ProductControllerTest {
                 .expectStatus().isNotFound();
     }
 
+    @Test
+    @DisplayName("Update product - a stale If-Match is rejected before writing")
+    void testUpdateProductIfMatchStale() {
+        when(getProductPort.getProductById(UUID.fromString(sampleProduct.getId()))).thenReturn(Mono.just(sampleProduct));
+
+        webTestClient.put()
+                .uri("/api/products/{id}", sampleProduct.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_MATCH, "\"stale\"")
+                .bodyValue(updateRequestDTO)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED);
+
+        verify(updateProductPort, never()).updateProduct(any(Product.class), any(Product.class));
+    }
+
+    @Test
+    @DisplayName("Patch product - with If-Match the patch is bound to the version that was matched")
+    void testPatchProductIfMatch() {
+        UUID id = UUID.fromString(sampleProduct.getId());
+        sampleProduct.setVersion(4L);
+        ProductPatch patch = ProductPatch.builder().stock(3).build();
+        when(productMapper.toPatch(any(UpdateProductRequestDTO.class))).thenReturn(patch);
+        when(getProductPort.getProductVersion(id)).thenReturn(Mono.just(ProductVersion.of(sampleProduct)));
+        when(updateProductPort.patchProduct(eq(id), any(ProductPatch.class)))
+                .thenReturn(Mono.error(new VersionConflictException("The product is no longer at version 4: " + id)));
+
+        webTestClient.patch()
+                .uri("/api/products/{id}", id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_MATCH, "*")
+                .bodyValue(Map.of("stock", 3))
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED);
+
+        verify(updateProductPort).patchProduct(eq(id), argThat(sent -> Long.valueOf(4L).equals(sent.getVersion())));
+    }
+
+    @Test
+    @DisplayName("Patch product - only the given fields reach the port, without loading the product first")
+    void testPatchProduct() {
+        ProductPatch patch = ProductPatch.builder().price(BigDecimal.valueOf(120.00)).build();
+        when(productMapper.toPatch(any(UpdateProductRequestDTO.class))).thenReturn(patch);
+        when(updateProductPort.patchProduct(UUID.fromString(sampleProduct.getId()), patch)).thenReturn(Mono.just(sampleProduct));
+
+        webTestClient.patch()
+                .uri("/api/products/{id}", sampleProduct.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("price", 120.00))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.sku").isEqualTo("SKU-001");
+
+        verify(getProductPort, never()).getProductById(any(UUID.class));
+        verify(updateProductPort, never()).updateProduct(any(Product.class), any(Product.class));
+    }
+
+    @Test
+    @DisplayName("Patch product - not found")
+    void testPatchProductNotFound() {
+        when(productMapper.toPatch(any(UpdateProductRequestDTO.class))).thenReturn(ProductPatch.builder().stock(3).build());
+        when(updateProductPort.patchProduct(any(UUID.class), any(ProductPatch.class))).thenReturn(Mono.empty());
+
+        webTestClient.patch()
+                .uri("/api/products/{id}", UUID.randomUUID())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("stock", 3))
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
     @Test
     @DisplayName("Delete product - successful")
     void testDeleteProductByIdSuccess() {
         UUID id = UUID.fromString(sampleProduct.getId());
-        when(getProductPort.getProductById(id)).thenReturn(Mono.just(sampleProduct));
-        when(deleteProductPort.deleteProductById(id)).thenReturn(Mono.empty());
+        when(deleteProductPort.deleteProductById(id)).thenReturn(Mono.just(true));
 
         webTestClient.delete()
                 .uri("/api/products/{id}", id)
@@ -312,6 +695,8 @@ class ProductControllerTest {
                 .expectStatus().isOk()
                 .expectBody(Map.class)
                 .value(map -> map.get("message").equals("Product deleted"));
+
+        verify(getProductPort, never()).getProductById(any(UUID.class));
     }
 
     @Test
@@ -329,7 +714,7 @@ class ProductControllerTest {
     @DisplayName("Delete product - not found")
     void testDeleteProductByIdNotFound() {
         UUID randomId = UUID.randomUUID();
-        when(getProductPort.getProductById(randomId)).thenReturn(Mono.empty());
+        when(deleteProductPort.deleteProductById(randomId)).thenReturn(Mono.just(false));
 
         webTestClient.delete()
                 .uri("/api/products/{id}", randomId)
@@ -341,7 +726,6 @@ class ProductControllerTest {
     @DisplayName("Delete product - error during deletion")
     void testDeleteProductByIdError() {
         UUID randomId = UUID.randomUUID();
-        when(getProductPort.getProductById(randomId)).thenReturn(Mono.just(sampleProduct));
         when(deleteProductPort.deleteProductById(randomId)).thenReturn(Mono.error(new RuntimeException("Error when deleting")));
 
         webTestClient.delete()
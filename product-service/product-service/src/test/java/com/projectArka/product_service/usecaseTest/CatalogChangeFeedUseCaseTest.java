@@ -0,0 +1,162 @@
+package com.projectArka.product_service.usecaseTest;
+
+import com.projectArka.product_service.application.usecase.CatalogChangeFeedUseCase;
+import com.projectArka.product_service.domain.exception.ChangeFeedExpiredException;
+import com.projectArka.product_service.domain.model.CatalogChange;
+import com.projectArka.product_service.domain.port.out.CatalogChangeRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+class CatalogChangeFeedUseCaseTest {
+
+    private static final Duration POLL_INTERVAL = Duration.ofSeconds(1);
+
+    private InMemoryCatalogChangeRepository catalogChangeRepository;
+    private CatalogChangeFeedUseCase catalogChangeFeedUseCase;
+
+    @BeforeEach
+    void setup() {
+        catalogChangeRepository = new InMemoryCatalogChangeRepository();
+        catalogChangeFeedUseCase = new CatalogChangeFeedUseCase(catalogChangeRepository);
+    }
+
+    @Test
+    @DisplayName("Stream changes - delivers the stored changes after the sequence, then new ones as they commit")
+    void testStreamsStoredAndNewChanges() {
+        catalogChangeRepository.add(1, LocalDateTime.now());
+        catalogChangeRepository.add(2, LocalDateTime.now());
+        catalogChangeRepository.add(3, LocalDateTime.now());
+
+        StepVerifier.withVirtualTime(() -> catalogChangeFeedUseCase.streamChanges(1L))
+                .thenAwait()
+                .expectNextMatches(change -> change.getSequence() == 2)
+                .expectNextMatches(change -> change.getSequence() == 3)
+                .then(() -> catalogChangeRepository.add(4, LocalDateTime.now()))
+                .thenAwait(POLL_INTERVAL)
+                .expectNextMatches(change -> change.getSequence() == 4)
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Stream changes - stops in front of a recent gap until the missing change commits")
+    void testWaitsForRecentGap() {
+        catalogChangeRepository.add(1, LocalDateTime.now());
+        catalogChangeRepository.add(3, LocalDateTime.now());
+
+        StepVerifier.withVirtualTime(() -> catalogChangeFeedUseCase.streamChanges(0L))
+                .thenAwait()
+                .expectNextMatches(change -> change.getSequence() == 1)
+                .expectNoEvent(POLL_INTERVAL.multipliedBy(3))
+                .then(() -> catalogChangeRepository.add(2, LocalDateTime.now()))
+                .thenAwait(POLL_INTERVAL)
+                .expectNextMatches(change -> change.getSequence() == 2)
+                .expectNextMatches(change -> change.getSequence() == 3)
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Stream changes - skips a gap once the change after it is older than the timeout")
+    void testSkipsRolledBackGap() {
+        LocalDateTime old = LocalDateTime.now().minusMinutes(1);
+        catalogChangeRepository.add(1, old);
+        catalogChangeRepository.add(3, old);
+        catalogChangeRepository.add(5, LocalDateTime.now());
+
+        StepVerifier.withVirtualTime(() -> catalogChangeFeedUseCase.streamChanges(0L))
+                .thenAwait()
+                .expectNextMatches(change -> change.getSequence() == 1)
+                .expectNextMatches(change -> change.getSequence() == 3)
+                .expectNoEvent(POLL_INTERVAL)
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Stream changes - without a sequence starts after the latest change")
+    void testStartsAtLatest() {
+        catalogChangeRepository.add(1, LocalDateTime.now());
+        catalogChangeRepository.add(2, LocalDateTime.now());
+
+        StepVerifier.withVirtualTime(() -> catalogChangeFeedUseCase.streamChanges(null))
+                .expectSubscription()
+                .expectNoEvent(POLL_INTERVAL)
+                .then(() -> catalogChangeRepository.add(3, LocalDateTime.now()))
+                .thenAwait(POLL_INTERVAL)
+                .expectNextMatches(change -> change.getSequence() == 3)
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Stream changes - a sequence older than the purged ones is rejected")
+    void testPurgedSequence() {
+        catalogChangeRepository.purgedSequence = 10;
+
+        StepVerifier.create(catalogChangeFeedUseCase.streamChanges(5L))
+                .expectError(ChangeFeedExpiredException.class)
+                .verify();
+
+        StepVerifier.create(catalogChangeFeedUseCase.streamChanges(-1L))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    private static class InMemoryCatalogChangeRepository implements CatalogChangeRepositoryPort {
+
+        private final List<CatalogChange> changes = new CopyOnWriteArrayList<>();
+        private long purgedSequence;
+
+        void add(long sequence, LocalDateTime changedAt) {
+            changes.add(CatalogChange.builder()
+                    .sequence(sequence)
+                    .entityType(CatalogChange.EntityType.PRODUCT)
+                    .entityId(UUID.randomUUID().toString())
+                    .type(CatalogChange.Type.SAVED)
+                    .changedAt(changedAt)
+                    .build());
+            changes.sort((a, b) -> Long.compare(a.getSequence(), b.getSequence()));
+        }
+
+        @Override
+        public Flux<CatalogChange> findAfter(long sequence, int limit) {
+            return Flux.defer(() -> Flux.fromIterable(changes)
+                    .filter(change -> change.getSequence() > sequence)
+                    .take(limit));
+        }
+
+        @Override
+        public Mono<Long> findLatestSequence() {
+            return Mono.fromSupplier(() -> changes.stream()
+                    .mapToLong(CatalogChange::getSequence)
+                    .max()
+                    .orElse(purgedSequence));
+        }
+
+        @Override
+        public Mono<Long> findPurgedSequence() {
+            return Mono.fromSupplier(() -> purgedSequence);
+        }
+
+        @Override
+        public Mono<LocalDateTime> findCurrentTime() {
+            return Mono.fromSupplier(LocalDateTime::now);
+        }
+
+        @Override
+        public Mono<Long> purgeBefore(LocalDateTime cutoff) {
+            return Mono.empty();
+        }
+    }
+}
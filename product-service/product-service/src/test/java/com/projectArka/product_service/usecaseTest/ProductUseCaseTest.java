@@ -1,4 +1,291 @@
 package com.projectArka.product_service.usecaseTest;
 
+import com.projectArka.product_service.application.usecase.ProductUseCase;
+import com.projectArka.product_service.domain.exception.VersionConflictException;
+import com.projectArka.product_service.domain.model.PriceCursor;
+import com.projectArka.product_service.domain.model.PriceFilter;
+import com.projectArka.product_service.domain.model.Product;
+import com.projectArka.product_service.domain.model.ProductImportItem;
+import com.projectArka.product_service.domain.model.ProductImportResult;
+import com.projectArka.product_service.domain.port.out.ProductRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
 public class ProductUseCaseTest {
+
+    @Mock
+    private ProductRepositoryPort productRepositoryPort;
+
+    private ProductUseCase productUseCase;
+
+    @BeforeEach
+    void setup() {
+        productUseCase = new ProductUseCase(productRepositoryPort);
+    }
+
+    @Test
+    @DisplayName("Import products - one uniqueness query and one insert per chunk, report in request order")
+    void testImportProducts() {
+        Product existing = product("SKU-EXISTING", "Existing Product");
+        when(productRepositoryPort.findConflicting(anyCollection(), anyCollection())).thenReturn(Flux.just(existing));
+        when(productRepositoryPort.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Product> products = invocation.getArgument(0);
+            return Flux.fromIterable(products).map(product -> {
+                product.setId(UUID.randomUUID().toString());
+                return product;
+            });
+        });
+
+        Flux<ProductImportItem> items = Flux.just(
+                ProductImportItem.valid(0, product("SKU-1", "Product 1")),
+                ProductImportItem.invalid(1, "SKU-2", "price: Price is required"),
+                ProductImportItem.valid(2, product("SKU-EXISTING", "Another Product")),
+                ProductImportItem.valid(3, product("SKU-1", "Product 3")),
+                ProductImportItem.valid(4, product("SKU-4", "Product 4")));
+
+        StepVerifier.create(productUseCase.importProducts(items).map(ProductImportResult::getStatus))
+                .expectNext(ProductImportResult.Status.CREATED,
+                        ProductImportResult.Status.INVALID,
+                        ProductImportResult.Status.DUPLICATE,
+                        ProductImportResult.Status.DUPLICATE,
+                        ProductImportResult.Status.CREATED)
+                .verifyComplete();
+
+        verify(productRepositoryPort, times(1)).findConflicting(anyCollection(), anyCollection());
+        verify(productRepositoryPort, times(1)).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Create product - a single insert, uniqueness is left to the database")
+    void testCreateProductSingleRoundTrip() {
+        when(productRepositoryPort.save(any(Product.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        StepVerifier.create(productUseCase.createProduct(product("SKU-1", "Product 1")))
+                .expectNextMatches(created -> created.getActive() && created.getCreatedAt() != null)
+                .verifyComplete();
+
+        verify(productRepositoryPort, times(1)).save(any(Product.class));
+        verify(productRepositoryPort, never()).findBySku(anyString());
+        verify(productRepositoryPort, never()).findByName(anyString());
+    }
+
+    @Test
+    @DisplayName("Get products by price - seeks after the last price and id of the previous page")
+    void testGetProductPageByPrice() {
+        PriceFilter filter = PriceFilter.builder()
+                .minPrice(BigDecimal.valueOf(20))
+                .maxPrice(BigDecimal.valueOf(50))
+                .build();
+        List<Product> rows = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Product product = product("SKU-" + i, "Product " + i);
+            product.setId(UUID.randomUUID().toString());
+            product.setPrice(BigDecimal.valueOf(20 + i * 10));
+            rows.add(product);
+        }
+        when(productRepositoryPort.findPageByPrice(eq(filter), isNull(), eq(3))).thenReturn(Flux.fromIterable(rows));
+
+        StepVerifier.create(productUseCase.getProductPageByPrice(filter, null, 2))
+                .expectNextMatches(page -> page.getItems().size() == 2
+                        && PriceCursor.decode(page.getNextCursor()).equals(PriceCursor.of(BigDecimal.valueOf(30), rows.get(1).getId())))
+                .verifyComplete();
+
+        PriceCursor after = PriceCursor.of(BigDecimal.valueOf(30), rows.get(1).getId());
+        when(productRepositoryPort.findPageByPrice(filter, after, 3)).thenReturn(Flux.just(rows.get(2)));
+
+        StepVerifier.create(productUseCase.getProductPageByPrice(filter, after.encode(), 2))
+                .expectNextMatches(page -> page.getItems().size() == 1 && page.getNextCursor() == null)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Get products by price - an inverted or negative range is rejected before querying")
+    void testGetProductPageByPriceInvalidRange() {
+        PriceFilter inverted = PriceFilter.builder()
+                .minPrice(BigDecimal.valueOf(50))
+                .maxPrice(BigDecimal.valueOf(20))
+                .build();
+        PriceFilter negative = PriceFilter.builder()
+                .minPrice(BigDecimal.valueOf(-1))
+                .build();
+
+        StepVerifier.create(productUseCase.getProductPageByPrice(inverted, null, 20))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        StepVerifier.create(productUseCase.getProductPageByPrice(negative, null, 20))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verify(productRepositoryPort, never()).findPageByPrice(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Get products by ids - one query for the distinct ids, answered in request order with misses marked")
+    void testGetProductsByIds() {
+        Product first = product("SKU-1", "Product 1");
+        first.setId(UUID.randomUUID().toString());
+        Product second = product("SKU-2", "Product 2");
+        second.setId(UUID.randomUUID().toString());
+        UUID missing = UUID.randomUUID();
+        List<UUID> ids = List.of(UUID.fromString(second.getId()), missing, UUID.fromString(first.getId()),
+                UUID.fromString(second.getId()));
+        when(productRepositoryPort.findAllByIds(anyCollection())).thenReturn(Flux.just(first, second));
+
+        StepVerifier.create(productUseCase.getProductsByIds(ids))
+                .expectNextMatches(lookup -> lookup.getKey().equals(second.getId()) && lookup.getProduct() == second)
+                .expectNextMatches(lookup -> lookup.getKey().equals(missing.toString()) && !lookup.isFound())
+                .expectNextMatches(lookup -> lookup.getKey().equals(first.getId()) && lookup.getProduct() == first)
+                .expectNextMatches(lookup -> lookup.getKey().equals(second.getId()) && lookup.getProduct() == second)
+                .verifyComplete();
+
+        verify(productRepositoryPort, times(1)).findAllByIds(argThat((Collection<String> keys) -> keys.size() == 3));
+        verify(productRepositoryPort, never()).findById(anyString());
+    }
+
+    @Test
+    @DisplayName("Get products by SKUs - more than the batch limit is rejected before querying")
+    void testGetProductsBySkusTooMany() {
+        List<String> skus = new ArrayList<>();
+        for (int i = 0; i < 101; i++) {
+            skus.add("SKU-" + i);
+        }
+
+        StepVerifier.create(productUseCase.getProductsBySkus(skus))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verify(productRepositoryPort, never()).findAllBySkus(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Update product - a stock-only change that lost the race is reapplied on the latest version")
+    void testUpdateProductMergesStockOnConflict() {
+        Product base = product("SKU-1", "Product 1");
+        base.setId(UUID.randomUUID().toString());
+        base.setVersion(1L);
+        Product latest = base.toBuilder().version(2L).build();
+        Product change = base.toBuilder().stock(8).version(null).build();
+        when(productRepositoryPort.findById(base.getId())).thenReturn(Mono.just(latest));
+        when(productRepositoryPort.save(any(Product.class))).thenAnswer(invocation -> {
+            Product saved = invocation.getArgument(0);
+            return saved.getVersion() == 1L
+                    ? Mono.error(new VersionConflictException("The product was changed concurrently: " + base.getId()))
+                    : Mono.just(saved);
+        });
+
+        StepVerifier.create(productUseCase.updateProduct(change, base))
+                .expectNextMatches(updated -> updated.getStock() == 8 && updated.getVersion() == 2L)
+                .verifyComplete();
+
+        verify(productRepositoryPort, times(1)).findById(base.getId());
+        verify(productRepositoryPort, times(2)).save(any(Product.class));
+    }
+
+    @Test
+    @DisplayName("Update product - a stock change that lost to another stock change is rebased, not overwritten")
+    void testUpdateProductRebasesStockOnConflict() {
+        Product base = product("SKU-1", "Product 1");
+        base.setId(UUID.randomUUID().toString());
+        base.setVersion(1L);
+        Product latest = base.toBuilder().stock(2).version(2L).build();
+        Product change = base.toBuilder().stock(8).version(null).build();
+        when(productRepositoryPort.findById(base.getId())).thenReturn(Mono.just(latest));
+        when(productRepositoryPort.save(any(Product.class))).thenAnswer(invocation -> {
+            Product saved = invocation.getArgument(0);
+            return saved.getVersion() == 1L
+                    ? Mono.error(new VersionConflictException("The product was changed concurrently: " + base.getId()))
+                    : Mono.just(saved);
+        });
+
+        StepVerifier.create(productUseCase.updateProduct(change, base))
+                .expectNextMatches(updated -> updated.getStock() == 5 && updated.getVersion() == 2L)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Update product - a conflicting change to anything but the stock is not retried")
+    void testUpdateProductConflictNotMerged() {
+        Product base = product("SKU-1", "Product 1");
+        base.setId(UUID.randomUUID().toString());
+        base.setVersion(1L);
+        Product change = base.toBuilder().price(BigDecimal.ONE).version(null).build();
+        when(productRepositoryPort.save(any(Product.class)))
+                .thenReturn(Mono.error(new VersionConflictException("The product was changed concurrently: " + base.getId())));
+
+        StepVerifier.create(productUseCase.updateProduct(change, base))
+                .expectError(VersionConflictException.class)
+                .verify();
+
+        verify(productRepositoryPort, never()).findById(base.getId());
+        verify(productRepositoryPort, times(1)).save(any(Product.class));
+    }
+
+    @Test
+    @DisplayName("Update product - a reservation committed between the read and the save makes the save conflict")
+    void testUpdateProductConflictsWithReservation() {
+        Product base = product("SKU-1", "Product 1");
+        base.setId(UUID.randomUUID().toString());
+        base.setVersion(1L);
+        AtomicReference<Product> row = new AtomicReference<>(base);
+        when(productRepositoryPort.findById(base.getId())).thenAnswer(invocation -> Mono.just(row.get()));
+        when(productRepositoryPort.save(any(Product.class))).thenAnswer(invocation -> {
+            Product saved = invocation.getArgument(0);
+            if (!saved.getVersion().equals(row.get().getVersion())) {
+                return Mono.error(new VersionConflictException("The product was changed concurrently: " + base.getId()));
+            }
+            row.set(saved.toBuilder().version(saved.getVersion() + 1).build());
+            return Mono.just(row.get());
+        });
+        // The reserve statement takes two units and bumps the version, as the SQL does.
+        row.set(base.toBuilder().stock(3).version(2L).build());
+
+        StepVerifier.create(productUseCase.updateProduct(base.toBuilder().stock(8).build(), base))
+                .expectError(VersionConflictException.class)
+                .verify();
+        assertEquals(3, row.get().getStock());
+
+        StepVerifier.create(productUseCase.updateProduct(base.toBuilder().stock(8).version(null).build(), base))
+                .expectNextMatches(updated -> updated.getStock() == 6)
+                .verifyComplete();
+    }
+
+    private Product product(String sku, String name) {
+        return Product.builder()
+                .sku(sku)
+                .name(name)
+                .price(BigDecimal.TEN)
+                .categoryId(UUID.randomUUID())
+                .brandId(UUID.randomUUID())
+                .stock(5)
+                .build();
+    }
 }
@@ -0,0 +1,148 @@
+package com.projectArka.product_service.usecaseTest;
+
+import com.projectArka.product_service.application.usecase.StockUseCase;
+import com.projectArka.product_service.domain.exception.InsufficientStockException;
+import com.projectArka.product_service.domain.exception.ReservationNotFoundException;
+import com.projectArka.product_service.domain.model.StockReservation;
+import com.projectArka.product_service.domain.port.out.StockRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StockUseCaseTest {
+
+    private static final int INITIAL_STOCK = 200;
+    private static final int PARALLEL_RESERVATIONS = 500;
+
+    private final UUID productId = UUID.randomUUID();
+
+    private InMemoryStockRepository stockRepository;
+    private StockUseCase stockUseCase;
+
+    @BeforeEach
+    void setup() {
+        stockRepository = new InMemoryStockRepository(productId.toString(), INITIAL_STOCK);
+        stockUseCase = new StockUseCase(stockRepository);
+    }
+
+    @Test
+    @DisplayName("Reserve stock - parallel calls map each repository outcome once, without a check-then-act of their own")
+    void testParallelReservationsFollowRepositoryOutcome() {
+        List<Boolean> outcomes = Flux.range(0, PARALLEL_RESERVATIONS)
+                .parallel(16)
+                .runOn(Schedulers.parallel())
+                .flatMap(i -> stockUseCase.reserveStock(productId, 1)
+                        .map(reservation -> true)
+                        .onErrorResume(InsufficientStockException.class, e -> Mono.just(false)))
+                .sequential()
+                .collectList()
+                .block();
+
+        assertEquals(INITIAL_STOCK, outcomes.stream().filter(reserved -> reserved).count());
+        assertEquals(0, stockRepository.stock.get());
+    }
+
+    @Test
+    @DisplayName("Release reservation - returns the units once")
+    void testReleaseReservation() {
+        StockReservation reservation = stockUseCase.reserveStock(productId, 5).block();
+        assertEquals(INITIAL_STOCK - 5, stockRepository.stock.get());
+
+        StepVerifier.create(stockUseCase.releaseReservation(UUID.fromString(reservation.getId())))
+                .expectNextMatches(released -> released.getStatus() == StockReservation.Status.RELEASED)
+                .verifyComplete();
+        assertEquals(INITIAL_STOCK, stockRepository.stock.get());
+
+        StepVerifier.create(stockUseCase.releaseReservation(UUID.fromString(reservation.getId())))
+                .expectError(ReservationNotFoundException.class)
+                .verify();
+        assertEquals(INITIAL_STOCK, stockRepository.stock.get());
+    }
+
+    @Test
+    @DisplayName("Reserve stock - rejects non-positive quantities")
+    void testInvalidQuantity() {
+        StepVerifier.create(stockUseCase.reserveStock(productId, 0))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    /**
+     * Stands in for the conditional {@code UPDATE ... WHERE stock >= :quantity} of the R2DBC adapter
+     * with one atomic step; whether the statement itself holds under concurrency is not tested here.
+     */
+    private static class InMemoryStockRepository implements StockRepositoryPort {
+
+        private final String productId;
+        private final AtomicInteger stock;
+        private final Map<String, StockReservation> reservations = new ConcurrentHashMap<>();
+
+        InMemoryStockRepository(String productId, int stock) {
+            this.productId = productId;
+            this.stock = new AtomicInteger(stock);
+        }
+
+        @Override
+        public Mono<StockReservation> reserve(String productId, int quantity) {
+            return Mono.fromCallable(() -> {
+                if (!this.productId.equals(productId)) {
+                    return null;
+                }
+                int current;
+                do {
+                    current = stock.get();
+                    if (current < quantity) {
+                        return null;
+                    }
+                } while (!stock.compareAndSet(current, current - quantity));
+                StockReservation reservation = StockReservation.builder()
+                        .id(UUID.randomUUID().toString())
+                        .productId(productId)
+                        .quantity(quantity)
+                        .status(StockReservation.Status.RESERVED)
+                        .createdAt(LocalDateTime.now())
+                        .build();
+                reservations.put(reservation.getId(), reservation);
+                return reservation;
+            });
+        }
+
+        @Override
+        public Mono<StockReservation> commit(String reservationId) {
+            return transition(reservationId, StockReservation.Status.COMMITTED);
+        }
+
+        @Override
+        public Mono<StockReservation> release(String reservationId) {
+            return transition(reservationId, StockReservation.Status.RELEASED)
+                    .doOnNext(reservation -> stock.addAndGet(reservation.getQuantity()));
+        }
+
+        private Mono<StockReservation> transition(String reservationId, StockReservation.Status status) {
+            return Mono.fromCallable(() -> {
+                StockReservation[] changed = new StockReservation[1];
+                reservations.computeIfPresent(reservationId, (id, reservation) -> {
+                    if (reservation.getStatus() != StockReservation.Status.RESERVED) {
+                        return reservation;
+                    }
+                    changed[0] = reservation.toBuilder().status(status).build();
+                    return changed[0];
+                });
+                return changed[0];
+            });
+        }
+    }
+}